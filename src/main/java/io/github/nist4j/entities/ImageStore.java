@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities;
+
+import io.github.nist4j.entities.field.DataImage;
+
+/**
+ * Store sharing a single instance of the identical images of many NistFiles, for instance the same
+ * prints submitted again with new descriptive records.
+ * <br/>
+ * The images stored are copies holding their bytes only, so that they don't keep alive the buffer
+ * of the NistFile they were read from.
+ */
+public interface ImageStore {
+
+  /**
+   * @param dataImage image to share
+   * @return the image of the store with the same content, or a copy of dataImage, then stored,
+   *     when there is none
+   */
+  DataImage intern(DataImage dataImage);
+
+  /**
+   * @return the number of images in the store
+   */
+  int size();
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of buffers holding the records read from a stream, out of the heap. The buffers are
+ * released to the pool when the NistFile is closed.
+ */
+public interface NistBufferPool {
+
+  /**
+   * @return size in bytes from which a record is read in a buffer of the pool, the smaller ones
+   *     are read in the heap
+   */
+  int getMinBufferSize();
+
+  /**
+   * @param size number of bytes needed
+   * @return a buffer positioned at 0 with a limit of size, to give back with {@link
+   *     #release(ByteBuffer)}
+   */
+  ByteBuffer acquire(int size);
+
+  /**
+   * Give back a buffer returned by {@link #acquire(int)}, which must not be used anymore
+   */
+  void release(ByteBuffer buffer);
+}
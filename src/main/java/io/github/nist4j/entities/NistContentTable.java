@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities;
+
+/**
+ * Content of the field CNT (1.003) of the RT1, parsed once : the type and IDC of each record
+ * following the RT1, in the order of the NistFile.
+ */
+public interface NistContentTable {
+
+  /**
+   * @return number of records following the RT1
+   */
+  int size();
+
+  /**
+   * @param index index of the record in the CNT field, from 0 for the record following the RT1
+   * @return record type number
+   */
+  int getRecordType(int index);
+
+  /**
+   * @param index index of the record in the CNT field, from 0 for the record following the RT1
+   * @return value of the IDC, -1 when missing
+   */
+  int getIdc(int index);
+}
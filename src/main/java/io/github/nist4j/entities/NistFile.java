@@ -15,13 +15,15 @@
  */
 package io.github.nist4j.entities;
 
+import io.github.nist4j.entities.impl.NistContentTableImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-public interface NistFile {
+public interface NistFile extends AutoCloseable {
   Map<RecordTypeEnum, List<NistRecord>> getRxMapDefaultRecords();
 
   NistRecord getRT1TransactionInformationRecord();
@@ -63,4 +65,29 @@ public interface NistFile {
   List<NistRecord> getRecordListByRecordTypeEnum(RecordTypeEnum recordTypeEnum);
 
   Optional<NistRecord> getRecordByTypeAndIdc(RecordTypeEnum recordType, Integer idcId);
+
+  /**
+   * @return the field CNT (1.003) of the RT1 parsed, empty if the field is missing. The default
+   *     implementation parses the field on each call.
+   */
+  default Optional<NistContentTable> getContentTable() {
+    return getRT1TransactionInformationRecord()
+        .getFieldText(RT1FieldsEnum.CNT)
+        .map(NistContentTableImpl::parse);
+  }
+
+  /**
+   * @return true when the buffers of the records are released by {@link #close()} : the images and
+   *     the text fields must be copied to outlive the NistFile
+   */
+  default boolean isReleasedOnClose() {
+    return false;
+  }
+
+  /**
+   * Release the buffers of the records, when the NistFile was read with a {@link NistBufferPool}.
+   * The records must not be used anymore afterward.
+   */
+  @Override
+  default void close() {}
 }
@@ -45,4 +45,21 @@ public interface NistFileBuilder {
   Optional<NistRecord> getRecordByIdc(@NonNull RecordTypeEnum recordType, @NonNull Integer idcId);
 
   NistFileBuilder replaceRecord(RecordTypeEnum recordType, Integer idcId, NistRecord rtModify);
+
+  /**
+   * @param onClose action run once when the NistFile built is closed, releasing the buffers of its
+   *     records for instance. It is not kept by {@link #from(NistFile)}, which copies the records
+   *     of a NistFile {@link NistFile#isReleasedOnClose() released on close} instead. The builders
+   *     without action on close ignore it, the buffers are then left to the garbage collector.
+   */
+  default NistFileBuilder withOnClose(Runnable onClose) {
+    return this;
+  }
+
+  /**
+   * @return the action run when the NistFile built is closed
+   */
+  default Optional<Runnable> getOnClose() {
+    return Optional.empty();
+  }
 }
@@ -15,7 +15,9 @@
  */
 package io.github.nist4j.entities;
 
+import io.github.nist4j.entities.impl.NistReadProjectionImpl;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 public interface NistOptions {
   boolean isCalculateLENOnBuild();
@@ -23,4 +25,60 @@ public interface NistOptions {
   boolean isCalculateCNTOnBuild();
 
   Charset getCharset();
+
+  /**
+   * @return records and fields to decode when a NistFile is read, all of them by default
+   */
+  default NistReadProjection getReadProjection() {
+    return NistReadProjectionImpl.ALL;
+  }
+
+  /**
+   * @return number of threads encoding the records of a NistFile in parallel when it is written, 1
+   *     to encode them one after the other in the calling thread
+   */
+  default int getWriteParallelism() {
+    return 1;
+  }
+
+  /**
+   * @return minimal number of records to encode for a NistFile to be encoded in parallel
+   */
+  default int getParallelWriteThreshold() {
+    return 8;
+  }
+
+  /**
+   * @return pool of the buffers holding the large records read from a stream, out of the heap.
+   *     Null to read the records in the heap.
+   */
+  default NistBufferPool getBufferPool() {
+    return null;
+  }
+
+  /**
+   * @return length in bytes above which a record read from a stream is written to a temporary
+   *     file, memory-mapped so its image is paged in on demand instead of being held in the heap.
+   *     {@link Integer#MAX_VALUE} to never spill the records to disk.
+   */
+  default int getSpillThreshold() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return directory of the temporary files of the spilled records, null for the default
+   *     temporary directory
+   */
+  default Path getSpillDirectory() {
+    return null;
+  }
+
+  /**
+   * @return store sharing the identical images of the NistFiles read, null to keep an image by
+   *     NistFile. The records read with a store don't keep the buffer of their NistFile : their
+   *     text fields are copied and they are written back field by field.
+   */
+  default ImageStore getImageStore() {
+    return null;
+  }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities;
+
+/**
+ * Records and fields to decode when a NistFile is read. Records and fields out of the projection
+ * are skipped without being decoded.
+ */
+public interface NistReadProjection {
+
+  /**
+   * @param recordType record type number
+   * @return true if the records of this type have to be decoded, always true for the RT1
+   */
+  boolean isRecordTypeIncluded(int recordType);
+
+  /**
+   * @param recordType record type number
+   * @param fieldId field number in the record
+   * @return true if the field has to be decoded, always true for the fields LEN and IDC
+   */
+  boolean isFieldIncluded(int recordType, int fieldId);
+}
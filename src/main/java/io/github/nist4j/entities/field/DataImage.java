@@ -15,8 +15,58 @@
  */
 package io.github.nist4j.entities.field;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
 public interface DataImage extends Data<byte[]> {
+
+  /**
+   * @return a copy of the image
+   */
   byte[] getData();
 
   int getLength();
+
+  /**
+   * @return a read-only view of the image, sharing its content without copy. The default
+   *     implementation wraps a copy of the image.
+   */
+  default ByteBuffer asReadOnlyBuffer() {
+    return ByteBuffer.wrap(getData()).asReadOnlyBuffer();
+  }
+
+  /**
+   * @return a stream reading the image without copying it. The default implementation reads a
+   *     copy of the image.
+   */
+  default InputStream openStream() {
+    return new ByteArrayInputStream(getData());
+  }
+
+  /**
+   * Write the whole image to the channel without intermediate copy of the image
+   */
+  default void writeTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer source = asReadOnlyBuffer();
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  /**
+   * @return xxHash64 of the image, computed without copying the image
+   */
+  default long getDigest() {
+    return ImageDigests.xxHash64(asReadOnlyBuffer());
+  }
+
+  /**
+   * @return SHA-256 of the image, computed without copying the image
+   */
+  default byte[] getSha256() {
+    return ImageDigests.sha256(asReadOnlyBuffer());
+  }
 }
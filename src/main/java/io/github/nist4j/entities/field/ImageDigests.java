@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.field;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.NonNull;
+
+/**
+ * Digests of the images, read from the remaining bytes of a buffer without copying them, so that
+ * they work the same on heap, direct and mapped buffers.
+ */
+public final class ImageDigests {
+
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final int STRIPE_SIZE = 32;
+
+  private ImageDigests() {}
+
+  /**
+   * @return xxHash64, with seed 0, of the remaining bytes of the buffer. The position of the buffer
+   *     is left untouched.
+   */
+  public static long xxHash64(@NonNull ByteBuffer buffer) {
+    ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int pos = bytes.position();
+    int end = bytes.limit();
+    long hash;
+    if (end - pos >= STRIPE_SIZE) {
+      long v1 = PRIME64_1 + PRIME64_2;
+      long v2 = PRIME64_2;
+      long v3 = 0;
+      long v4 = -PRIME64_1;
+      do {
+        v1 = round(v1, bytes.getLong(pos));
+        v2 = round(v2, bytes.getLong(pos + 8));
+        v3 = round(v3, bytes.getLong(pos + 16));
+        v4 = round(v4, bytes.getLong(pos + 24));
+        pos += STRIPE_SIZE;
+      } while (end - pos >= STRIPE_SIZE);
+      hash =
+          Long.rotateLeft(v1, 1)
+              + Long.rotateLeft(v2, 7)
+              + Long.rotateLeft(v3, 12)
+              + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      hash = PRIME64_5;
+    }
+    hash += end - bytes.position();
+
+    while (end - pos >= 8) {
+      hash ^= round(0, bytes.getLong(pos));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+      pos += 8;
+    }
+    if (end - pos >= 4) {
+      hash ^= (bytes.getInt(pos) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      pos += 4;
+    }
+    while (pos < end) {
+      hash ^= (bytes.get(pos) & 0xFF) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+      pos++;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+
+  /**
+   * @return SHA-256 of the remaining bytes of the buffer. The position of the buffer is left
+   *     untouched.
+   */
+  public static byte[] sha256(@NonNull ByteBuffer buffer) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(buffer.duplicate());
+      return messageDigest.digest();
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static long round(long acc, long input) {
+    return Long.rotateLeft(acc + input * PRIME64_2, 31) * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long value) {
+    return (acc ^ round(0, value)) * PRIME64_1 + PRIME64_4;
+  }
+}
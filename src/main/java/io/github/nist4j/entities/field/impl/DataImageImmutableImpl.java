@@ -17,8 +17,12 @@ package io.github.nist4j.entities.field.impl;
 
 import io.github.nist4j.entities.field.DataBuilder;
 import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.field.ImageDigests;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
+import java.nio.channels.WritableByteChannel;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,7 +30,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
- * This entity is immutable so only Builder can be used be build it
+ * This entity is immutable so only Builder can be used be build it.
+ * <br/>
+ * The image is owned by this entity : it is a read-only buffer which is never copied again, so
+ * the entity and its deep copies share the same bytes.
  */
 @NoArgsConstructor(access = AccessLevel.NONE)
 @AllArgsConstructor(access = AccessLevel.NONE)
@@ -37,24 +44,72 @@ public final class DataImageImmutableImpl implements DataImage {
   private final ByteBuffer imageData;
   private final int length;
   private int hashCode = 0; // cache
+  private volatile long digest; // cache
+  private volatile boolean isDigestComputed = false;
+  private volatile byte[] sha256; // cache
 
-  private DataImageImmutableImpl(byte[] imageData) {
-    this.imageData = ByteBuffer.wrap(imageData).asReadOnlyBuffer();
-    this.length = imageData.length;
+  /**
+   * Wrap a read-only view of the remaining bytes of the buffer, without copy. Used by the readers
+   * to keep the images as slices of the decoded file, which must not be modified afterward.
+   */
+  public DataImageImmutableImpl(ByteBuffer imageData) {
+    this.imageData = imageData.slice().asReadOnlyBuffer();
+    this.length = this.imageData.capacity();
   }
 
+  /**
+   * The array given to the builder is copied once, so that it can be modified by the caller
+   * afterward.
+   */
   public DataImageImmutableImpl(DataBuilder<DataImage, byte[]> dataImageBuilder) {
     byte[] imageData = dataImageBuilder.getValue();
-    this.imageData = ByteBuffer.wrap(imageData).asReadOnlyBuffer();
+    this.imageData = ByteBuffer.wrap(imageData.clone()).asReadOnlyBuffer();
     this.length = imageData.length;
   }
 
   @Override
   public byte[] getData() {
-    ByteBuffer clone = ByteBuffer.allocate(imageData.capacity());
-    imageData.rewind();
-    clone.put(imageData);
-    return clone.array();
+    byte[] clone = new byte[length];
+    // Read from a duplicate to leave the position of the shared buffer untouched
+    imageData.duplicate().get(clone);
+    return clone;
+  }
+
+  @Override
+  public ByteBuffer asReadOnlyBuffer() {
+    return imageData.duplicate();
+  }
+
+  @Override
+  public InputStream openStream() {
+    return new ByteBufferInputStream(imageData.duplicate());
+  }
+
+  @Override
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer source = imageData.duplicate();
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  @Override
+  public long getDigest() {
+    if (!isDigestComputed) {
+      digest = ImageDigests.xxHash64(imageData);
+      isDigestComputed = true;
+    }
+    return digest;
+  }
+
+  @Override
+  public byte[] getSha256() {
+    byte[] result = sha256;
+    if (result == null) {
+      result = ImageDigests.sha256(imageData);
+      sha256 = result;
+    }
+    return result.clone();
   }
 
   @Override
@@ -73,7 +128,8 @@ public final class DataImageImmutableImpl implements DataImage {
 
   @Override
   public DataImage deepCopy() {
-    return new DataImageImmutableImpl(this.getData());
+    // The image is read-only and owned by this entity : no need to copy it
+    return this;
   }
 
   @Override
@@ -86,8 +142,13 @@ public final class DataImageImmutableImpl implements DataImage {
       DataImageImmutableImpl other = (DataImageImmutableImpl) o;
       if (this.imageData == null) {
         return other.imageData == null;
+      } else if (other.imageData == null || this.length != other.length) {
+        return false;
+      } else if (this.isDigestComputed && other.isDigestComputed && this.digest != other.digest) {
+        return false;
       } else {
-        return Arrays.equals(this.getData(), other.getData());
+        // Compare the read-only buffers in place, without copying the images
+        return this.imageData.equals(other.imageData);
       }
     }
   }
@@ -96,11 +157,50 @@ public final class DataImageImmutableImpl implements DataImage {
   public int hashCode() {
     if (hashCode == 0) {
       if (this.imageData != null) {
-        hashCode = Arrays.hashCode(this.getData());
+        hashCode = Long.hashCode(getDigest());
       } else {
         hashCode = Integer.MIN_VALUE;
       }
     }
     return hashCode;
   }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      ((Buffer) buffer).position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
 }
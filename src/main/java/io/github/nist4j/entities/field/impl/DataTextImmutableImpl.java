@@ -17,8 +17,8 @@ package io.github.nist4j.entities.field.impl;
 
 import io.github.nist4j.entities.field.DataBuilder;
 import io.github.nist4j.entities.field.DataText;
+import java.util.Objects;
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -26,7 +26,6 @@ import lombok.Setter;
 /**
  * This entity is immutable so only Builder can be used be build it
  */
-@EqualsAndHashCode(of = "text", cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @NoArgsConstructor(access = AccessLevel.NONE)
 @Setter(AccessLevel.NONE)
 public final class DataTextImmutableImpl implements DataText {
@@ -61,4 +60,26 @@ public final class DataTextImmutableImpl implements DataText {
   public DataText deepCopy() {
     return new DataTextImmutableImpl(this.getData());
   }
+
+  /**
+   * Equal to any {@link DataText} with the same value, whatever its implementation
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof DataText)) {
+      return false;
+    } else if (o instanceof DataTextLazyImpl) {
+      // The lazy value may not be decoded : it compares itself without throwing
+      return o.equals(this);
+    } else {
+      return Objects.equals(this.getData(), ((DataText) o).getData());
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(this.getData());
+  }
 }
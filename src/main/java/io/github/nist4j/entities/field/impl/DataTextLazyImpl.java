@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.field.impl;
+
+import io.github.nist4j.entities.field.DataText;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text field kept as the raw bytes read from the file, decoded only on the first call to {@link
+ * #getData()}.
+ * <br/>
+ * The bytes are a slice of the decoded file, which must not be modified afterward, shared by the
+ * deep copies and written back as is by the serializers. They are not copied nor made read-only, so
+ * that a heap buffer keeps its array for the decoding and the write.
+ * <br/>
+ * A value which can't be decoded with the charset is only equal to the lazy fields of the same
+ * bytes.
+ */
+public final class DataTextLazyImpl implements DataText {
+
+  private final ByteBuffer bytes;
+  private final Charset charset;
+  private final boolean isAsciiCompatible;
+  private volatile String text; // cache
+  private volatile int length = -1; // cache
+
+  /**
+   * Wrap the remaining bytes of the buffer, without copy.
+   *
+   * @param isAsciiCompatible true when the ASCII bytes are decoded by the charset as the same
+   *     characters, which allows to skip the decoder for ASCII values
+   */
+  public DataTextLazyImpl(ByteBuffer bytes, Charset charset, boolean isAsciiCompatible) {
+    this.bytes = bytes.slice();
+    this.charset = charset;
+    this.isAsciiCompatible = isAsciiCompatible;
+  }
+
+  @Override
+  public String getData() {
+    String result = text;
+    if (result == null) {
+      result = decode();
+      text = result;
+    }
+    return result;
+  }
+
+  @Override
+  public int getLength() {
+    int result = length;
+    if (result < 0) {
+      String decoded = text;
+      if (decoded != null) {
+        result = decoded.length();
+      } else if (isAsciiCompatible && isAscii()) {
+        result = bytes.remaining();
+      } else {
+        result = getData().length();
+      }
+      length = result;
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of raw bytes of the field, as written by {@link #writeTo(OutputStream)}
+   */
+  public int getByteLength() {
+    return bytes.remaining();
+  }
+
+  /**
+   * Write the raw bytes of the field, without decoding them
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    if (bytes.hasArray()) {
+      outputStream.write(bytes.array(), bytes.arrayOffset(), bytes.remaining());
+    } else {
+      outputStream.write(copyOfBytes());
+    }
+  }
+
+  /**
+   * @return a copy of the field whose bytes are in the heap, to outlive the buffer of the decoded
+   *     file
+   */
+  public DataTextLazyImpl copyToHeap() {
+    return new DataTextLazyImpl(ByteBuffer.wrap(copyOfBytes()), charset, isAsciiCompatible);
+  }
+
+  @Override
+  public String toString() {
+    String data = getDataOrNull();
+    return data == null
+        ? "DataText(malformed " + charset.name() + " value)"
+        : "DataText(value=" + data + ")";
+  }
+
+  @Override
+  public DataText deepCopy() {
+    // This entity never modifies its bytes, nor exposes them : no need to copy them
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof DataText)) {
+      return false;
+    }
+    String data = getDataOrNull();
+    if (o instanceof DataTextLazyImpl) {
+      DataTextLazyImpl other = (DataTextLazyImpl) o;
+      String otherData = other.getDataOrNull();
+      if (data == null || otherData == null) {
+        return charset.equals(other.charset) && bytes.equals(other.bytes);
+      }
+      return data.equals(otherData);
+    }
+    return data != null && data.equals(((DataText) o).getData());
+  }
+
+  @Override
+  public int hashCode() {
+    String data = getDataOrNull();
+    return data == null ? bytes.hashCode() : data.hashCode();
+  }
+
+  /**
+   * @return the decoded value, null when the bytes can't be decoded with the charset
+   */
+  private String getDataOrNull() {
+    try {
+      return getData();
+    } catch (ErrorDecodingNist4jException e) {
+      return null;
+    }
+  }
+
+  private String decode() {
+    if (isAsciiCompatible && isAscii()) {
+      if (bytes.hasArray()) {
+        return new String(
+            bytes.array(), bytes.arrayOffset(), bytes.remaining(), StandardCharsets.ISO_8859_1);
+      }
+      return new String(copyOfBytes(), StandardCharsets.ISO_8859_1);
+    }
+    try {
+      return String.valueOf(charset.newDecoder().decode(bytes.duplicate()));
+    } catch (CharacterCodingException e) {
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  private boolean isAscii() {
+    for (int i = 0; i < bytes.limit(); i++) {
+      if (bytes.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private byte[] copyOfBytes() {
+    byte[] copy = new byte[bytes.remaining()];
+    // Read from a duplicate to leave the position of the shared buffer untouched
+    bytes.duplicate().get(copy);
+    return copy;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import io.github.nist4j.entities.NistBufferPool;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of direct buffers by size class, each class being a power of two between the min and max
+ * buffer sizes. The buffers larger than the max buffer size are allocated on demand and not kept.
+ * <br/>
+ * The pool is thread safe, and can be shared by all the reads of an application.
+ */
+public class DirectBufferPoolImpl implements NistBufferPool {
+
+  public static final int DEFAULT_MIN_BUFFER_SIZE = 64 * 1024;
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 64 * 1024 * 1024;
+  public static final int DEFAULT_MAX_BUFFERS_BY_SIZE = 16;
+
+  private final int minBufferSize;
+  private final int maxBufferSize;
+  private final int maxBuffersBySize;
+  private final int minSizeShift;
+  private final Queue<ByteBuffer>[] freeBuffers;
+  private final AtomicInteger[] freeBufferCounts;
+
+  public DirectBufferPoolImpl() {
+    this(DEFAULT_MIN_BUFFER_SIZE, DEFAULT_MAX_BUFFER_SIZE, DEFAULT_MAX_BUFFERS_BY_SIZE);
+  }
+
+  /**
+   * @param minBufferSize size of the smallest buffers, rounded to a power of two
+   * @param maxBufferSize size of the largest buffers kept in the pool, rounded to a power of two
+   * @param maxBuffersBySize number of free buffers kept by size class
+   */
+  @SuppressWarnings("unchecked")
+  public DirectBufferPoolImpl(int minBufferSize, int maxBufferSize, int maxBuffersBySize) {
+    if (minBufferSize <= 0 || maxBufferSize < minBufferSize || maxBuffersBySize < 0) {
+      throw new IllegalArgumentException("Invalid sizes of buffer pool");
+    }
+    this.minBufferSize = roundToPowerOfTwo(minBufferSize);
+    this.maxBufferSize = roundToPowerOfTwo(maxBufferSize);
+    this.maxBuffersBySize = maxBuffersBySize;
+    this.minSizeShift = Integer.numberOfTrailingZeros(this.minBufferSize);
+    int sizeClasses = Integer.numberOfTrailingZeros(this.maxBufferSize) - minSizeShift + 1;
+    this.freeBuffers = new Queue[sizeClasses];
+    this.freeBufferCounts = new AtomicInteger[sizeClasses];
+    for (int i = 0; i < sizeClasses; i++) {
+      freeBuffers[i] = new ConcurrentLinkedQueue<>();
+      freeBufferCounts[i] = new AtomicInteger();
+    }
+  }
+
+  @Override
+  public int getMinBufferSize() {
+    return minBufferSize;
+  }
+
+  @Override
+  public ByteBuffer acquire(int size) {
+    if (size > maxBufferSize) {
+      return ByteBuffer.allocateDirect(size);
+    }
+    int capacity = roundToPowerOfTwo(Math.max(size, minBufferSize));
+    int sizeClass = Integer.numberOfTrailingZeros(capacity) - minSizeShift;
+    ByteBuffer buffer = freeBuffers[sizeClass].poll();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(capacity);
+    } else {
+      freeBufferCounts[sizeClass].decrementAndGet();
+    }
+    ((Buffer) buffer).clear().limit(size);
+    return buffer;
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    int capacity = buffer.capacity();
+    if (!buffer.isDirect()
+        || Integer.bitCount(capacity) != 1
+        || capacity < minBufferSize
+        || capacity > maxBufferSize) {
+      // Not allocated for a size class : left to the garbage collector
+      return;
+    }
+    int sizeClass = Integer.numberOfTrailingZeros(capacity) - minSizeShift;
+    if (freeBufferCounts[sizeClass].incrementAndGet() <= maxBuffersBySize) {
+      freeBuffers[sizeClass].offer(buffer);
+    } else {
+      freeBufferCounts[sizeClass].decrementAndGet();
+    }
+  }
+
+  /**
+   * @return the number of free buffers kept in the pool
+   */
+  public int countFreeBuffers() {
+    int count = 0;
+    for (AtomicInteger freeBufferCount : freeBufferCounts) {
+      count += freeBufferCount.get();
+    }
+    return count;
+  }
+
+  private static int roundToPowerOfTwo(int size) {
+    int highestOneBit = Integer.highestOneBit(size);
+    return highestOneBit == size ? size : highestOneBit << 1;
+  }
+}
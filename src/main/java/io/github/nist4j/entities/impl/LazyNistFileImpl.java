@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
+
+import io.github.nist4j.entities.NistContentTable;
+import io.github.nist4j.entities.abstracts.AbstractNistFileImmutable;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * NistFile whose records are decoded the first time they are accessed.
+ * <br/>
+ * Only the RT1 is decoded when the file is opened, the other records are kept as suppliers which
+ * are called once, on the first access to the record through any getter.
+ * <br/>
+ * It is only equal to another LazyNistFileImpl, decoding all the records of both : compare the
+ * {@link #getMapOfAllrecords()} of the NistFiles to compare it to another implementation.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = false, of = "mapOfAllrecords")
+public final class LazyNistFileImpl extends AbstractNistFileImmutable {
+
+  private final Map<RecordTypeEnum, List<NistRecord>> mapOfAllrecords;
+
+  /**
+   * @param rt1 the decoded RT1
+   * @param recordSuppliers suppliers decoding the other records, by type in the order of the file
+   */
+  public LazyNistFileImpl(
+      @NonNull NistRecord rt1,
+      @NonNull Map<RecordTypeEnum, List<Supplier<NistRecord>>> recordSuppliers) {
+    Map<RecordTypeEnum, List<NistRecord>> records = new TreeMap<>();
+    records.put(RecordTypeEnum.RT1, singletonList(rt1));
+    recordSuppliers.forEach(
+        (recordType, suppliers) -> records.put(recordType, new LazyNistRecordList(suppliers)));
+    this.mapOfAllrecords = unmodifiableMap(records);
+  }
+
+  /**
+   * @return the number of records already decoded, the RT1 included
+   */
+  public int countDecodedRecords() {
+    int count = 0;
+    for (List<NistRecord> records : mapOfAllrecords.values()) {
+      count +=
+          records instanceof LazyNistRecordList
+              ? ((LazyNistRecordList) records).countDecodedRecords()
+              : records.size();
+    }
+    return count;
+  }
+
+  /**
+   * Decode only the record found by the IDCs of the CNT field of the RT1. The records of the type
+   * are decoded in turn, as by default, when the CNT doesn't list them.
+   */
+  @Override
+  public Optional<NistRecord> getRecordByTypeAndIdc(RecordTypeEnum recordType, Integer idcId) {
+    List<NistRecord> records = mapOfAllrecords.get(recordType);
+    Optional<NistContentTable> contentTable =
+        recordType == RecordTypeEnum.RT1 || records == null ? Optional.empty() : getContentTable();
+    if (!contentTable.isPresent()) {
+      return super.getRecordByTypeAndIdc(recordType, idcId);
+    }
+    int position = -1;
+    int count = 0;
+    for (int i = 0; i < contentTable.get().size(); i++) {
+      if (contentTable.get().getRecordType(i) == recordType.getNumber()) {
+        if (position == -1 && idcId == contentTable.get().getIdc(i)) {
+          position = count;
+        }
+        count++;
+      }
+    }
+    if (count != records.size()) {
+      return super.getRecordByTypeAndIdc(recordType, idcId);
+    }
+    if (position == -1) {
+      return Optional.empty();
+    }
+    NistRecord nistRecord = records.get(position);
+    if (!idcId.equals(RecordIdcIndex.idcOf(nistRecord))) {
+      // The IDC of the record differs from its CNT entry
+      return super.getRecordByTypeAndIdc(recordType, idcId);
+    }
+    return Optional.of(nistRecord);
+  }
+
+  @Override
+  public String toString() {
+    return "LazyNistFileImpl(decodedRecords=" + countDecodedRecords() + ")";
+  }
+
+  /** Unmodifiable list calling the supplier of a record on its first access */
+  private static final class LazyNistRecordList extends AbstractList<NistRecord>
+      implements RandomAccess {
+
+    private final List<Supplier<NistRecord>> suppliers;
+    private final AtomicReferenceArray<NistRecord> records;
+
+    private LazyNistRecordList(List<Supplier<NistRecord>> suppliers) {
+      this.suppliers = new ArrayList<>(suppliers);
+      this.records = new AtomicReferenceArray<>(suppliers.size());
+    }
+
+    @Override
+    public NistRecord get(int index) {
+      NistRecord nistRecord = records.get(index);
+      if (nistRecord == null) {
+        // Decoding twice on concurrent access is harmless : the first decoded record is kept
+        records.compareAndSet(index, null, suppliers.get(index).get());
+        nistRecord = records.get(index);
+      }
+      return nistRecord;
+    }
+
+    @Override
+    public int size() {
+      return suppliers.size();
+    }
+
+    private int countDecodedRecords() {
+      int count = 0;
+      for (int i = 0; i < records.length(); i++) {
+        if (records.get(i) != null) {
+          count++;
+        }
+      }
+      return count;
+    }
+  }
+}
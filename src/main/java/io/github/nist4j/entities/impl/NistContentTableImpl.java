@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import io.github.nist4j.entities.NistContentTable;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+/**
+ * Content table held in two primitive arrays, parsed from the CNT field in a single pass
+ */
+@EqualsAndHashCode
+public final class NistContentTableImpl implements NistContentTable {
+
+  private static final char SEP_US = 31;
+  private static final char SEP_RS = 30;
+  private static final int NO_IDC = -1;
+  private static final int RT1 = 1;
+
+  private final int[] recordTypes;
+  private final int[] idcs;
+
+  private NistContentTableImpl(int[] recordTypes, int[] idcs) {
+    this.recordTypes = recordTypes;
+    this.idcs = idcs;
+  }
+
+  /**
+   * @param cnt value of the field CNT (1.003) : pairs of record type and IDC separated by RS, the
+   *     pair of the RT1 being ignored
+   * @return the content table
+   * @throws NumberFormatException if a record type or an IDC is not a number
+   */
+  public static NistContentTable parse(@NonNull CharSequence cnt) {
+    int[] recordTypes = new int[countSubfields(cnt)];
+    int[] idcs = new int[recordTypes.length];
+    int size = 0;
+    int pos = 0;
+    int length = cnt.length();
+    while (pos < length) {
+      int end = pos;
+      while (end < length && cnt.charAt(end) != SEP_US && cnt.charAt(end) != SEP_RS) {
+        end++;
+      }
+      int recordType = parseInt(cnt, pos, end);
+      int idc = NO_IDC;
+      if (end < length && cnt.charAt(end) == SEP_US) {
+        pos = ++end;
+        while (end < length && cnt.charAt(end) != SEP_RS) {
+          end++;
+        }
+        idc = pos < end ? parseInt(cnt, pos, end) : NO_IDC;
+      }
+      if (recordType > RT1) {
+        recordTypes[size] = recordType;
+        idcs[size] = idc;
+        size++;
+      }
+      pos = end + 1;
+    }
+    return new NistContentTableImpl(Arrays.copyOf(recordTypes, size), Arrays.copyOf(idcs, size));
+  }
+
+  @Override
+  public int size() {
+    return recordTypes.length;
+  }
+
+  @Override
+  public int getRecordType(int index) {
+    return recordTypes[index];
+  }
+
+  @Override
+  public int getIdc(int index) {
+    return idcs[index];
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("NistContentTable{");
+    for (int i = 0; i < recordTypes.length; i++) {
+      sb.append(i == 0 ? "" : ", ").append(recordTypes[i]).append(':').append(idcs[i]);
+    }
+    return sb.append('}').toString();
+  }
+
+  private static int countSubfields(CharSequence cnt) {
+    int count = 1;
+    for (int i = 0; i < cnt.length(); i++) {
+      if (cnt.charAt(i) == SEP_RS) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int parseInt(CharSequence cnt, int from, int to) {
+    if (from >= to) {
+      throw new NumberFormatException("Empty number in CNT field");
+    }
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      int digit = cnt.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+        throw new NumberFormatException(
+            "Invalid number in CNT field : " + cnt.subSequence(from, to));
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
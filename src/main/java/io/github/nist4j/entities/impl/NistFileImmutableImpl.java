@@ -15,154 +15,99 @@
  */
 package io.github.nist4j.entities.impl;
 
-import static io.github.nist4j.enums.RecordTypeEnum.RT1;
-import static io.github.nist4j.enums.records.RTDefaultFieldsEnum.IDC;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Optional.ofNullable;
 
-import io.github.nist4j.entities.NistFile;
 import io.github.nist4j.entities.NistFileBuilder;
+import io.github.nist4j.entities.abstracts.AbstractNistFileImmutable;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.RecordTypeEnum;
-import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
-import lombok.extern.slf4j.Slf4j;
 
 @Getter
-@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY, of = "mapOfAllrecords")
-@ToString
-@Slf4j
-public final class NistFileImmutableImpl implements NistFile {
-
+@EqualsAndHashCode(
+    callSuper = false,
+    cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY,
+    doNotUseGetters = true,
+    of = "mapOfAllrecords")
+@ToString(doNotUseGetters = true)
+public final class NistFileImmutableImpl extends AbstractNistFileImmutable {
+
+  @Getter(AccessLevel.NONE)
   private final Map<RecordTypeEnum, List<NistRecord>> mapOfAllrecords;
 
-  public NistFileImmutableImpl(NistFileBuilder nistFileBuilder) {
-    this.mapOfAllrecords = unmodifiableMap(nistFileBuilder.getMapOfAllRecords());
-  }
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final AtomicReference<Runnable> onClose;
 
-  public List<NistRecord> getRecordListByRecordTypeEnum(RecordTypeEnum recordTypeEnum) {
-    log.debug("getRecordListByRecordTypeEnum {}", recordTypeEnum.getNumber());
-    return ofNullable(this.mapOfAllrecords)
-        .map(enumMap -> enumMap.get(recordTypeEnum))
-        .orElse(emptyList());
-  }
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private final RecordIdcIndex recordIdcIndex;
 
-  @Override
-  public Optional<NistRecord> getRecordByTypeAndIdc(RecordTypeEnum recordType, Integer idcId) {
-    return ofNullable(this.getMapOfAllrecords().get(recordType)).orElse(emptyList()).stream()
-        .filter(r -> checkIfRT1orIdcIdIsEquals(r, idcId))
-        .findFirst();
-  }
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private volatile boolean isClosed = false;
 
-  private boolean checkIfRT1orIdcIdIsEquals(NistRecord record, Integer idcId) {
-    Integer recordIdcId = record.getFieldText(IDC).map(Integer::parseInt).orElse(-1);
-    return record.getRecordId().equals(RT1.getNumber()) || idcId.equals(recordIdcId);
+  public NistFileImmutableImpl(NistFileBuilder nistFileBuilder) {
+    this.mapOfAllrecords = copyOf(nistFileBuilder.getMapOfAllRecords());
+    this.onClose = new AtomicReference<>(nistFileBuilder.getOnClose().orElse(null));
+    this.recordIdcIndex = RecordIdcIndex.of(mapOfAllrecords);
   }
 
   @Override
-  public Map<RecordTypeEnum, List<NistRecord>> getRxMapDefaultRecords() {
-    Map<RecordTypeEnum, List<NistRecord>> partialMap = new TreeMap<>();
-    Arrays.stream(RecordTypeEnum.values())
-        .filter(r -> r.getNumber() > 17)
-        .forEach(
-            r -> partialMap.put(r, ofNullable(getMapOfAllrecords().get(r)).orElse(emptyList())));
-    return partialMap;
+  public Map<RecordTypeEnum, List<NistRecord>> getMapOfAllrecords() {
+    checkNotClosed();
+    return mapOfAllrecords;
   }
 
   @Override
-  public NistRecord getRT1TransactionInformationRecord() {
-    List<NistRecord> records = getMapOfAllrecords().get(RT1);
-    if (records == null || records.size() != 1) {
-      throw new InvalidFormatNist4jException("Only one record of type 1 is supported");
+  public Optional<NistRecord> getRecordByTypeAndIdc(RecordTypeEnum recordType, Integer idcId) {
+    checkNotClosed();
+    if (recordType == RecordTypeEnum.RT1) {
+      return getRecordListByRecordTypeEnum(recordType).stream().findFirst();
     }
-    return records.get(0);
-  }
-
-  @Override
-  public List<NistRecord> getRT2UserDefinedDescriptionTextRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT2);
-  }
-
-  @Override
-  public List<NistRecord> getRT3LowResolutionGrayscaleFingerprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT3);
+    return recordIdcIndex.get(recordType, idcId);
   }
 
   @Override
-  public List<NistRecord> getRT4HighResolutionGrayscaleFingerprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT4);
+  public boolean isReleasedOnClose() {
+    return onClose.get() != null;
   }
 
+  /**
+   * Run the action on close once. The NistFile can't be used anymore afterward when it had an
+   * action on close, as its records may share the buffers released.
+   */
   @Override
-  public List<NistRecord> getRT5LowResolutionBinaryFingerprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT5);
-  }
-
-  @Override
-  public List<NistRecord> getRT6HighResolutionBinaryFingerprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT6);
-  }
-
-  @Override
-  public List<NistRecord> getRT7UserDefinedImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT7);
-  }
-
-  @Override
-  public List<NistRecord> getRT8SignatureImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT8);
-  }
-
-  @Override
-  public List<NistRecord> getRT9MinutiaeDataRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT9);
-  }
-
-  @Override
-  public List<NistRecord> getRT10FacialAndSmtImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT10);
-  }
-
-  @Override
-  public List<NistRecord> getRT11thRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT11);
-  }
-
-  @Override
-  public List<NistRecord> getRT12thRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT12);
-  }
-
-  @Override
-  public List<NistRecord> getRT13VariableResolutionLatentImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT13);
-  }
-
-  @Override
-  public List<NistRecord> getRT14VariableResolutionFingerprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT14);
-  }
-
-  @Override
-  public List<NistRecord> getRT15VariableResolutionPalmprintRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT15);
-  }
-
-  @Override
-  public List<NistRecord> getRT16UserDefinedTestingImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT16);
+  public void close() {
+    Runnable action = onClose.getAndSet(null);
+    if (action != null) {
+      isClosed = true;
+      action.run();
+    }
   }
 
-  @Override
-  public List<NistRecord> getRT17IrisImageRecords() {
-    return getNistRecordOrEmptyList(RecordTypeEnum.RT17);
+  /**
+   * Copy the lists of records, so that the builder can go on changing its own lists without
+   * changing this NistFile nor making its index out of date
+   */
+  private static Map<RecordTypeEnum, List<NistRecord>> copyOf(
+      Map<RecordTypeEnum, List<NistRecord>> mapOfAllRecords) {
+    Map<RecordTypeEnum, List<NistRecord>> copy = new TreeMap<>();
+    mapOfAllRecords.forEach(
+        (recordType, records) -> copy.put(recordType, unmodifiableList(new ArrayList<>(records))));
+    return unmodifiableMap(copy);
   }
 
-  private List<NistRecord> getNistRecordOrEmptyList(RecordTypeEnum recordType) {
-    return ofNullable(getMapOfAllrecords().get(recordType)).orElse(emptyList());
+  private void checkNotClosed() {
+    if (isClosed) {
+      throw new Nist4jException("The NistFile is closed");
+    }
   }
 }
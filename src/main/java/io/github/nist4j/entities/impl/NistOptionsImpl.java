@@ -15,8 +15,12 @@
  */
 package io.github.nist4j.entities.impl;
 
+import io.github.nist4j.entities.ImageStore;
+import io.github.nist4j.entities.NistBufferPool;
 import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.NistReadProjection;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import lombok.*;
 
 @Value
@@ -25,4 +29,11 @@ public class NistOptionsImpl implements NistOptions {
   boolean isCalculateLENOnBuild;
   boolean isCalculateCNTOnBuild;
   Charset charset;
+  @Builder.Default NistReadProjection readProjection = NistReadProjectionImpl.ALL;
+  @Builder.Default int writeParallelism = 1;
+  @Builder.Default int parallelWriteThreshold = 8;
+  NistBufferPool bufferPool;
+  @Builder.Default int spillThreshold = Integer.MAX_VALUE;
+  Path spillDirectory;
+  ImageStore imageStore;
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import io.github.nist4j.entities.NistReadProjection;
+import io.github.nist4j.enums.RecordTypeEnum;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import lombok.*;
+
+/**
+ * Projection on record types and field ids, built once so that its checks are only array lookups.
+ */
+@Value
+public class NistReadProjectionImpl implements NistReadProjection {
+
+  /** Projection decoding every record and every field */
+  public static final NistReadProjection ALL = NistReadProjectionImpl.builder().build();
+
+  private static final int MAX_RECORD_TYPE = 99;
+  private static final int FIELD_LEN = 1;
+  private static final int FIELD_IDC = 2;
+  private static final int FIELD_DATA = 999;
+
+  /** Record types to decode, all when null */
+  Set<RecordTypeEnum> recordTypes;
+
+  /** Field ids to decode by record type, all the fields of the record types missing */
+  Map<RecordTypeEnum, Set<Integer>> fieldIds;
+
+  /** Skip the images (field 999) */
+  boolean isSkipImages;
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  boolean[] recordTypeIncluded = new boolean[MAX_RECORD_TYPE + 1];
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  BitSet[] fieldIdsIncluded = new BitSet[MAX_RECORD_TYPE + 1];
+
+  @Builder
+  private NistReadProjectionImpl(
+      Set<RecordTypeEnum> recordTypes,
+      Map<RecordTypeEnum, Set<Integer>> fieldIds,
+      boolean isSkipImages) {
+    this.recordTypes = recordTypes == null ? null : Collections.unmodifiableSet(recordTypes);
+    this.fieldIds = fieldIds == null ? null : Collections.unmodifiableMap(fieldIds);
+    this.isSkipImages = isSkipImages;
+
+    for (RecordTypeEnum recordType : RecordTypeEnum.values()) {
+      recordTypeIncluded[recordType.getNumber()] =
+          recordTypes == null || recordTypes.contains(recordType);
+    }
+    if (fieldIds != null) {
+      fieldIds.forEach(
+          (recordType, ids) -> {
+            BitSet bitSet = new BitSet();
+            ids.forEach(bitSet::set);
+            fieldIdsIncluded[recordType.getNumber()] = bitSet;
+          });
+    }
+  }
+
+  @Override
+  public boolean isRecordTypeIncluded(int recordType) {
+    if (recordType == RecordTypeEnum.RT1.getNumber()) {
+      return true;
+    }
+    if (recordType < 0 || recordType > MAX_RECORD_TYPE) {
+      return recordTypes == null;
+    }
+    return recordTypeIncluded[recordType] || recordTypes == null;
+  }
+
+  @Override
+  public boolean isFieldIncluded(int recordType, int fieldId) {
+    if (fieldId == FIELD_LEN || fieldId == FIELD_IDC) {
+      return true;
+    }
+    if (fieldId == FIELD_DATA && isSkipImages) {
+      return false;
+    }
+    if (recordType < 0 || recordType > MAX_RECORD_TYPE) {
+      return true;
+    }
+    BitSet ids = fieldIdsIncluded[recordType];
+    return ids == null || ids.get(fieldId);
+  }
+}
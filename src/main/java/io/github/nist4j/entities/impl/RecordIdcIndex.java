@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static io.github.nist4j.enums.records.RTDefaultFieldsEnum.IDC;
+
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import java.util.*;
+import lombok.NonNull;
+
+/**
+ * Index of the records of a NistFile by type and IDC (X.002), so that a record is found without
+ * scanning the records of its type nor parsing their IDC on each lookup.
+ * <br/>
+ * When several records of a type share the same IDC, the first one is indexed. The records without
+ * IDC are indexed with {@link #NO_IDC}, the ones with a non numeric IDC are not indexed.
+ */
+public final class RecordIdcIndex {
+
+  /** IDC of the records without IDC field */
+  public static final int NO_IDC = -1;
+
+  private final Map<RecordTypeEnum, Map<Integer, NistRecord>> recordsByType =
+      new EnumMap<>(RecordTypeEnum.class);
+
+  /** Record types with several records sharing the same IDC */
+  private final Set<RecordTypeEnum> recordTypesWithSharedIdc = EnumSet.noneOf(RecordTypeEnum.class);
+
+  /**
+   * @param mapOfAllRecords records by type, in the order of the NistFile
+   * @return the index of all the records
+   */
+  public static RecordIdcIndex of(@NonNull Map<RecordTypeEnum, List<NistRecord>> mapOfAllRecords) {
+    RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+    mapOfAllRecords.forEach(recordIdcIndex::reindex);
+    return recordIdcIndex;
+  }
+
+  /**
+   * @return the first record of this type with this IDC
+   */
+  public Optional<NistRecord> get(@NonNull RecordTypeEnum recordType, int idc) {
+    Map<Integer, NistRecord> records = recordsByType.get(recordType);
+    return records == null ? Optional.empty() : Optional.ofNullable(records.get(idc));
+  }
+
+  /**
+   * Index a record added after the records of its type already indexed
+   */
+  public void add(@NonNull RecordTypeEnum recordType, @NonNull NistRecord nistRecord) {
+    Integer idc = idcOf(nistRecord);
+    if (idc != null) {
+      NistRecord indexedRecord =
+          recordsByType
+              .computeIfAbsent(recordType, t -> new HashMap<>())
+              .putIfAbsent(idc, nistRecord);
+      if (indexedRecord != null) {
+        recordTypesWithSharedIdc.add(recordType);
+      }
+    }
+  }
+
+  /**
+   * Index a record in place of the record of its type with the same IDC
+   */
+  public void replace(@NonNull RecordTypeEnum recordType, int idc, @NonNull NistRecord newRecord) {
+    recordsByType.computeIfAbsent(recordType, t -> new HashMap<>()).put(idc, newRecord);
+  }
+
+  /**
+   * Remove the record of this type with this IDC. The records of its type are only indexed again
+   * when another one shares its IDC.
+   *
+   * @param records records of the type left after the removal
+   */
+  public void remove(@NonNull RecordTypeEnum recordType, int idc, List<NistRecord> records) {
+    if (recordTypesWithSharedIdc.contains(recordType)) {
+      reindex(recordType, records);
+      return;
+    }
+    Map<Integer, NistRecord> indexedRecords = recordsByType.get(recordType);
+    if (indexedRecords != null) {
+      indexedRecords.remove(idc);
+    }
+  }
+
+  /**
+   * Index again all the records of a type, after one of them is removed or replaced
+   */
+  public void reindex(@NonNull RecordTypeEnum recordType, List<NistRecord> records) {
+    remove(recordType);
+    if (records != null) {
+      records.forEach(nistRecord -> add(recordType, nistRecord));
+    }
+  }
+
+  public void remove(@NonNull RecordTypeEnum recordType) {
+    recordsByType.remove(recordType);
+    recordTypesWithSharedIdc.remove(recordType);
+  }
+
+  public void clear() {
+    recordsByType.clear();
+    recordTypesWithSharedIdc.clear();
+  }
+
+  /**
+   * @return the value of the IDC of the record, {@link #NO_IDC} when missing, null when not numeric
+   */
+  public static Integer idcOf(@NonNull NistRecord nistRecord) {
+    Optional<String> idc = nistRecord.getFieldText(IDC);
+    if (!idc.isPresent()) {
+      return NO_IDC;
+    }
+    try {
+      return Integer.parseInt(idc.get());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
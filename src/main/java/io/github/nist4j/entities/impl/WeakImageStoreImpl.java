@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import io.github.nist4j.entities.ImageStore;
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.field.impl.DataImageImmutableImpl;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.NonNull;
+
+/**
+ * Image store keyed by the xxHash64 digest of the images, holding them with weak references : an
+ * image stays in the store as long as a NistFile uses it.
+ * <br/>
+ * The contents of two images with the same digest are compared before one is shared, an image
+ * colliding with another one is not stored nor copied.
+ */
+public final class WeakImageStoreImpl implements ImageStore {
+
+  private final ConcurrentMap<Long, ImageReference> images = new ConcurrentHashMap<>();
+  private final ReferenceQueue<DataImage> collectedImages = new ReferenceQueue<>();
+
+  @Override
+  public DataImage intern(@NonNull DataImage dataImage) {
+    removeCollectedImages();
+    long digest = dataImage.getDigest();
+    while (true) {
+      ImageReference reference = images.get(digest);
+      DataImage storedImage = reference == null ? null : reference.get();
+      if (storedImage != null) {
+        return storedImage.asReadOnlyBuffer().equals(dataImage.asReadOnlyBuffer())
+            ? storedImage
+            : dataImage;
+      }
+      // A copy of its bytes only, the image being usually a slice of a whole NistFile
+      DataImage compactImage = new DataImageImmutableImpl(ByteBuffer.wrap(dataImage.getData()));
+      ImageReference newReference = new ImageReference(digest, compactImage, collectedImages);
+      boolean isStored =
+          reference == null
+              ? images.putIfAbsent(digest, newReference) == null
+              : images.replace(digest, reference, newReference);
+      if (isStored) {
+        return compactImage;
+      }
+      // Another thread stored an image with the same digest meanwhile
+    }
+  }
+
+  @Override
+  public int size() {
+    removeCollectedImages();
+    return images.size();
+  }
+
+  private void removeCollectedImages() {
+    ImageReference reference;
+    while ((reference = (ImageReference) collectedImages.poll()) != null) {
+      images.remove(reference.digest, reference);
+    }
+  }
+
+  private static final class ImageReference extends WeakReference<DataImage> {
+
+    private final long digest;
+
+    private ImageReference(long digest, DataImage dataImage, ReferenceQueue<DataImage> queue) {
+      super(dataImage, queue);
+      this.digest = digest;
+    }
+  }
+}
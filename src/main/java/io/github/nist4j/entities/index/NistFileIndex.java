@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.index;
+
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Position of the records of a file holding one or several NistFiles (transactions) one after the
+ * other, to read a record without reading the file from its beginning.
+ */
+public interface NistFileIndex {
+
+  /**
+   * @return number of NistFiles in the file
+   */
+  int getTransactionCount();
+
+  /**
+   * @param transaction index of the NistFile in the file, from 0
+   * @return offset in bytes of its RT1 from the beginning of the file
+   */
+  long getTransactionOffset(int transaction);
+
+  /**
+   * @param transaction index of the NistFile in the file, from 0
+   * @return size in bytes of the NistFile
+   */
+  long getTransactionLength(int transaction);
+
+  /**
+   * @param transaction index of the NistFile in the file, from 0
+   * @return field 1.015 DCS of the NistFile, null if missing
+   */
+  String getDcs(int transaction);
+
+  /**
+   * @param transaction index of the NistFile in the file, from 0
+   * @return the records following the RT1, with their offset from the beginning of the file
+   */
+  List<NistRecordSummary> getRecords(int transaction);
+
+  /**
+   * @param transaction index of the NistFile in the file, from 0
+   * @param recordType record type number
+   * @param idc value of the field IDC (X.002)
+   * @return the first record of this type and IDC in the NistFile, with its offset from the
+   *     beginning of the file
+   */
+  Optional<NistRecordSummary> findRecord(int transaction, int recordType, int idc);
+}
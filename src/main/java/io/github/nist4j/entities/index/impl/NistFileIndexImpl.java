@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.index.impl;
+
+import io.github.nist4j.entities.index.NistFileIndex;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.entities.summary.impl.NistRecordSummaryImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Index held in primitive arrays, the records of the transaction t being between
+ * firstRecords[t] and firstRecords[t + 1]. The arrays are shared, they must not be modified.
+ */
+@EqualsAndHashCode
+@Getter
+public class NistFileIndexImpl implements NistFileIndex {
+
+  /** IDC of the records without numeric IDC */
+  public static final int NO_IDC = -1;
+
+  private final long[] transactionOffsets;
+  private final long[] transactionLengths;
+  private final String[] dcs;
+  private final int[] firstRecords;
+  private final int[] recordTypes;
+  private final int[] idcs;
+  private final long[] recordOffsets;
+  private final long[] recordLengths;
+
+  /**
+   * The arrays are not copied
+   *
+   * @param transactionOffsets offset of each transaction
+   * @param transactionLengths length of each transaction
+   * @param dcs field 1.015 DCS of each transaction
+   * @param firstRecords index of the first record of each transaction, followed by the number of
+   *     records
+   * @param recordTypes type of each record
+   * @param idcs IDC of each record, or {@link #NO_IDC}
+   * @param recordOffsets offset of each record from the beginning of the file
+   * @param recordLengths length of each record
+   */
+  public NistFileIndexImpl(
+      @NonNull long[] transactionOffsets,
+      @NonNull long[] transactionLengths,
+      @NonNull String[] dcs,
+      @NonNull int[] firstRecords,
+      @NonNull int[] recordTypes,
+      @NonNull int[] idcs,
+      @NonNull long[] recordOffsets,
+      @NonNull long[] recordLengths) {
+    int transactionCount = transactionOffsets.length;
+    int recordCount = recordTypes.length;
+    if (transactionLengths.length != transactionCount
+        || dcs.length != transactionCount
+        || firstRecords.length != transactionCount + 1
+        || firstRecords[transactionCount] != recordCount
+        || idcs.length != recordCount
+        || recordOffsets.length != recordCount
+        || recordLengths.length != recordCount) {
+      throw new IllegalArgumentException("Inconsistent sizes of the index arrays");
+    }
+    this.transactionOffsets = transactionOffsets;
+    this.transactionLengths = transactionLengths;
+    this.dcs = dcs;
+    this.firstRecords = firstRecords;
+    this.recordTypes = recordTypes;
+    this.idcs = idcs;
+    this.recordOffsets = recordOffsets;
+    this.recordLengths = recordLengths;
+  }
+
+  @Override
+  public int getTransactionCount() {
+    return transactionOffsets.length;
+  }
+
+  @Override
+  public long getTransactionOffset(int transaction) {
+    return transactionOffsets[transaction];
+  }
+
+  @Override
+  public long getTransactionLength(int transaction) {
+    return transactionLengths[transaction];
+  }
+
+  @Override
+  public String getDcs(int transaction) {
+    return dcs[transaction];
+  }
+
+  @Override
+  public List<NistRecordSummary> getRecords(int transaction) {
+    List<NistRecordSummary> records =
+        new ArrayList<>(firstRecords[transaction + 1] - firstRecords[transaction]);
+    for (int i = firstRecords[transaction]; i < firstRecords[transaction + 1]; i++) {
+      records.add(toRecordSummary(i));
+    }
+    return records;
+  }
+
+  @Override
+  public Optional<NistRecordSummary> findRecord(int transaction, int recordType, int idc) {
+    for (int i = firstRecords[transaction]; i < firstRecords[transaction + 1]; i++) {
+      if (recordTypes[i] == recordType && idcs[i] == idc) {
+        return Optional.of(toRecordSummary(i));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private NistRecordSummary toRecordSummary(int i) {
+    return NistRecordSummaryImpl.builder()
+        .recordType(recordTypes[i])
+        .idc(idcs[i] == NO_IDC ? null : String.valueOf(idcs[i]))
+        .offset(recordOffsets[i])
+        .length(recordLengths[i])
+        .build();
+  }
+}
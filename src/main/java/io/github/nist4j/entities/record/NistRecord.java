@@ -17,6 +17,7 @@ package io.github.nist4j.entities.record;
 
 import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.enums.records.interfaces.IFieldTypeEnum;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,6 +48,17 @@ public interface NistRecord {
 
   Optional<byte[]> getFieldImage(Integer id);
 
+  default Optional<ByteBuffer> getFieldImageBuffer(IFieldTypeEnum field) {
+    return getFieldImageBuffer(field.getId());
+  }
+
+  /**
+   * @return a read-only view of the image. The default implementation wraps a copy of the image.
+   */
+  default Optional<ByteBuffer> getFieldImageBuffer(Integer id) {
+    return getFieldImage(id).map(image -> ByteBuffer.wrap(image).asReadOnlyBuffer());
+  }
+
   Map<Integer, Data> getFields();
 
   Optional<Integer> getFieldLength(IFieldTypeEnum field);
@@ -54,4 +66,12 @@ public interface NistRecord {
   Optional<Integer> getFieldLength(Integer id);
 
   Optional<IFieldTypeEnum> findFieldEnumById(Integer id);
+
+  /**
+   * @return a read-only view of the bytes of the record as read in a file, empty when the record
+   *     was built or modified, or when the implementation does not keep them
+   */
+  default Optional<ByteBuffer> getRawBytes() {
+    return Optional.empty();
+  }
 }
@@ -17,7 +17,9 @@ package io.github.nist4j.entities.record;
 
 import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.enums.records.interfaces.IFieldTypeEnum;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.Optional;
 
 public interface NistRecordBuilder {
   NistRecordBuilder newBuilder();
@@ -32,6 +34,16 @@ public interface NistRecordBuilder {
 
   NistRecord build();
 
+  /**
+   * Build the record handing it the fields of the builder, without copying them. The builder can't
+   * be used anymore afterward, and the fields must not be modified by the caller.
+   *
+   * The default implementation copies the fields, like {@link #build()}.
+   */
+  default NistRecord buildTransferringOwnership() {
+    return build();
+  }
+
   Integer getRecordId();
 
   String getRecordName();
@@ -43,4 +55,23 @@ public interface NistRecordBuilder {
   NistRecordBuilder removeField(IFieldTypeEnum fieldType);
 
   NistRecordBuilder removeField(Integer fieldId);
+
+  /**
+   * Keep the bytes of the record as read in a file, so that it can be written back as is. They are
+   * dropped as soon as a field of the builder is modified.
+   *
+   * The default implementation ignores them : the record is written back field by field.
+   *
+   * @param rawBytes bytes of the whole record, which must not be modified afterward
+   */
+  default NistRecordBuilder withRawBytes(ByteBuffer rawBytes) {
+    return this;
+  }
+
+  /**
+   * @return the bytes of the record as read in a file, empty when the record was modified
+   */
+  default Optional<ByteBuffer> getRawBytes() {
+    return Optional.empty();
+  }
 }
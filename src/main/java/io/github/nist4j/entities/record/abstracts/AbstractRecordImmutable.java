@@ -22,29 +22,50 @@ import static java.util.Optional.ofNullable;
 import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.entities.field.DataImage;
 import io.github.nist4j.entities.field.DataText;
-import io.github.nist4j.entities.field.impl.DataTextImmutableImpl;
 import io.github.nist4j.entities.record.NistRecordBuilder;
+import io.github.nist4j.entities.record.impl.SortedFieldMap;
 import io.github.nist4j.enums.records.interfaces.IFieldTypeEnum;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
 import io.github.nist4j.exceptions.Nist4jException;
+import java.nio.ByteBuffer;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
 import lombok.*;
 
-@EqualsAndHashCode
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @Getter(AccessLevel.PUBLIC)
 @Setter(AccessLevel.NONE)
 public abstract class AbstractRecordImmutable {
 
   protected final Integer recordId;
   protected final String recordName;
-  protected final Map<Integer, Data> fields;
+  protected final SortedFieldMap fields;
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final ByteBuffer rawBytes;
 
   public AbstractRecordImmutable(
       Integer recordId, String recordName, NistRecordBuilder nistRecordBuilder) {
+    this(recordId, recordName, nistRecordBuilder, false);
+  }
+
+  /**
+   * @param isOwnershipTransferred true when the builder hands its fields to the record and won't be
+   *     used anymore : the fields are not copied
+   */
+  protected AbstractRecordImmutable(
+      Integer recordId,
+      String recordName,
+      NistRecordBuilder nistRecordBuilder,
+      boolean isOwnershipTransferred) {
     this.recordId = recordId;
     this.recordName = recordName;
-    this.fields = unmodifiableMapOfCopies(nistRecordBuilder.getFields());
+    this.fields =
+        isOwnershipTransferred
+            ? SortedFieldMap.copyOf(nistRecordBuilder.getFields(), UnaryOperator.identity())
+            : unmodifiableMapOfCopies(nistRecordBuilder.getFields());
+    this.rawBytes = nistRecordBuilder.getRawBytes().map(ByteBuffer::asReadOnlyBuffer).orElse(null);
 
     if (!Objects.equals(nistRecordBuilder.getRecordId(), recordId)) {
       throw new Nist4jException(
@@ -52,12 +73,12 @@ public abstract class AbstractRecordImmutable {
     }
   }
 
-  protected Map<Integer, Data> unmodifiableMapOfCopies(Map<Integer, Data> fields) {
-    Map<Integer, Data> newCloneFields = new TreeMap<>();
-    for (Entry<Integer, Data> entryField : fields.entrySet()) {
-      newCloneFields.put(entryField.getKey(), entryField.getValue().deepCopy());
-    }
-    return Collections.unmodifiableMap(newCloneFields);
+  protected SortedFieldMap unmodifiableMapOfCopies(Map<Integer, Data> fields) {
+    return SortedFieldMap.copyOf(fields, Data::deepCopy);
+  }
+
+  public Optional<ByteBuffer> getRawBytes() {
+    return ofNullable(rawBytes).map(ByteBuffer::duplicate);
   }
 
   public List<Data> getAllFields() {
@@ -86,12 +107,12 @@ public abstract class AbstractRecordImmutable {
   }
 
   public Optional<String> getFieldText(@NonNull Integer id) {
-    Optional<Data> oFieldData = ofNullable(fields.get(id));
+    Optional<Data> oFieldData = ofNullable(fields.getField(id));
     if (!oFieldData.isPresent()) {
       return empty();
-    } else if (oFieldData.get() instanceof DataTextImmutableImpl) {
-      DataTextImmutableImpl dataTextImmutableImpl = (DataTextImmutableImpl) oFieldData.get();
-      return ofNullable(dataTextImmutableImpl.getData());
+    } else if (oFieldData.get() instanceof DataText) {
+      DataText dataText = (DataText) oFieldData.get();
+      return ofNullable(dataText.getData());
     } else {
       throw new InvalidFormatNist4jException(format("Field %s isn't in text format", id));
     }
@@ -102,13 +123,26 @@ public abstract class AbstractRecordImmutable {
   }
 
   public Optional<byte[]> getFieldImage(@NonNull Integer id) {
+    return getFieldDataImage(id).map(DataImage::getData);
+  }
+
+  public Optional<ByteBuffer> getFieldImageBuffer(@NonNull IFieldTypeEnum field) {
+    return getFieldImageBuffer(field.getId());
+  }
+
+  /**
+   * @return a read-only view of the image, without copy, unlike {@link #getFieldImage(Integer)}
+   */
+  public Optional<ByteBuffer> getFieldImageBuffer(@NonNull Integer id) {
+    return getFieldDataImage(id).map(DataImage::asReadOnlyBuffer);
+  }
 
-    Optional<Data> oFieldData = ofNullable(fields.get(id));
+  private Optional<DataImage> getFieldDataImage(Integer id) {
+    Optional<Data> oFieldData = ofNullable(fields.getField(id));
     if (!oFieldData.isPresent()) {
       return empty();
     } else if (oFieldData.get() instanceof DataImage) {
-      DataImage dataImage = (DataImage) oFieldData.get();
-      return ofNullable(dataImage.getData());
+      return Optional.of((DataImage) oFieldData.get());
     } else {
       throw new InvalidFormatNist4jException(format("Field %s isn't in image format", id));
     }
@@ -119,7 +153,7 @@ public abstract class AbstractRecordImmutable {
   }
 
   public Optional<Integer> getFieldLength(@NonNull Integer id) {
-    return ofNullable(fields.get(id)).map(Data::getLength);
+    return ofNullable(fields.getField(id)).map(Data::getLength);
   }
 
   public Optional<Data> getFieldData(@NonNull IFieldTypeEnum field) {
@@ -127,7 +161,7 @@ public abstract class AbstractRecordImmutable {
   }
 
   public Optional<Data> getFieldData(@NonNull Integer id) {
-    return ofNullable(fields.get(id));
+    return ofNullable(fields.getField(id));
   }
 
   public Optional<Integer> getFieldAsInt(@NonNull IFieldTypeEnum field) {
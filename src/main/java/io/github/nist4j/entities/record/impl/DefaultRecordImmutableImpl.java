@@ -33,6 +33,15 @@ public final class DefaultRecordImmutableImpl extends AbstractRecordImmutable
     super(recordId, "RecordType " + recordId, nistRecordBuilder);
   }
 
+  /**
+   * @param isOwnershipTransferred true when the builder hands its fields to the record and won't be
+   *     used anymore : the fields are not copied
+   */
+  public DefaultRecordImmutableImpl(
+      Integer recordId, NistRecordBuilder nistRecordBuilder, boolean isOwnershipTransferred) {
+    super(recordId, "RecordType " + recordId, nistRecordBuilder, isOwnershipTransferred);
+  }
+
   @Override
   public Set<IFieldTypeEnum> getIFieldTypeEnumValues() {
     return new HashSet<>(Arrays.asList(RTDefaultFieldsEnum.values()));
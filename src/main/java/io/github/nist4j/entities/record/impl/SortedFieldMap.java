@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.record.impl;
+
+import io.github.nist4j.entities.field.Data;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Unmodifiable map of the fields of a record, sorted by field id. The ids and the fields are kept
+ * in two arrays, searched by dichotomy, instead of a node per field.
+ * <br/>
+ * Equal to any map of the same fields, a {@link java.util.TreeMap} for instance.
+ */
+public final class SortedFieldMap extends AbstractMap<Integer, Data> {
+
+  private final int[] ids;
+  private final Data[] fields;
+
+  private SortedFieldMap(int[] ids, Data[] fields) {
+    this.ids = ids;
+    this.fields = fields;
+  }
+
+  /**
+   * @param copier applied on each field, to copy it for instance
+   * @return the map of the fields
+   */
+  public static SortedFieldMap copyOf(Map<Integer, Data> fields, UnaryOperator<Data> copier) {
+    int size = fields.size();
+    int[] ids = new int[size];
+    Data[] values = new Data[size];
+    int i = 0;
+    boolean isSorted = true;
+    for (Entry<Integer, Data> entry : fields.entrySet()) {
+      ids[i] = entry.getKey();
+      values[i] = copier.apply(entry.getValue());
+      isSorted = isSorted && (i == 0 || ids[i - 1] < ids[i]);
+      i++;
+    }
+    if (!isSorted) {
+      sort(ids, values);
+    }
+    return new SortedFieldMap(ids, values);
+  }
+
+  /**
+   * @return the field, null if absent, without boxing the id
+   */
+  public Data getField(int id) {
+    int index = Arrays.binarySearch(ids, id);
+    return index >= 0 ? fields[index] : null;
+  }
+
+  @Override
+  public Data get(Object key) {
+    return key instanceof Integer ? getField((Integer) key) : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Integer && Arrays.binarySearch(ids, (Integer) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return ids.length;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Integer, ? super Data> action) {
+    for (int i = 0; i < ids.length; i++) {
+      action.accept(ids[i], fields[i]);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof SortedFieldMap) {
+      // Compare the arrays without creating the entries
+      SortedFieldMap other = (SortedFieldMap) o;
+      return Arrays.equals(ids, other.ids) && Arrays.equals(fields, other.fields);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    // Same as the hashCode of any Map of these entries, without creating them
+    int hashCode = 0;
+    for (int i = 0; i < ids.length; i++) {
+      hashCode += Integer.hashCode(ids[i]) ^ Objects.hashCode(fields[i]);
+    }
+    return hashCode;
+  }
+
+  @Override
+  public Set<Entry<Integer, Data>> entrySet() {
+    return new AbstractSet<Entry<Integer, Data>>() {
+      @Override
+      public Iterator<Entry<Integer, Data>> iterator() {
+        return new Iterator<Entry<Integer, Data>>() {
+          private int index = 0;
+
+          @Override
+          public boolean hasNext() {
+            return index < ids.length;
+          }
+
+          @Override
+          public Entry<Integer, Data> next() {
+            if (index >= ids.length) {
+              throw new NoSuchElementException();
+            }
+            Entry<Integer, Data> entry = new SimpleImmutableEntry<>(ids[index], fields[index]);
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ids.length;
+      }
+    };
+  }
+
+  private static void sort(int[] ids, Data[] values) {
+    // Insertion sort : the records have few fields and are usually already sorted
+    for (int i = 1; i < ids.length; i++) {
+      int id = ids[i];
+      Data value = values[i];
+      int j = i - 1;
+      while (j >= 0 && ids[j] > id) {
+        ids[j + 1] = ids[j];
+        values[j + 1] = values[j];
+        j--;
+      }
+      ids[j + 1] = id;
+      values[j + 1] = value;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.summary;
+
+import java.util.List;
+
+/**
+ * Summary of a NistFile read by a scan : the main fields of the RT1 and the position of each
+ * record, without decoding the records.
+ */
+public interface NistFileSummary {
+
+  /** @return 1.002 VER : version number */
+  String getVer();
+
+  /** @return 1.004 TOT : type of transaction */
+  String getTot();
+
+  /** @return 1.005 DAT : date */
+  String getDat();
+
+  /** @return 1.008 ORI : originating agency identifier */
+  String getOri();
+
+  /** @return 1.009 TCN : transaction control number */
+  String getTcn();
+
+  /** @return 1.015 DCS : directory of character sets, null if missing */
+  String getDcs();
+
+  /** @return the records following the RT1, in the order of the CNT field (1.003) */
+  List<NistRecordSummary> getRecords();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.summary;
+
+/**
+ * Summary of a record read by a scan. The fields missing or not found at the beginning of the
+ * record are null.
+ */
+public interface NistRecordSummary {
+
+  /** @return record type number */
+  int getRecordType();
+
+  /** @return offset in bytes of the record from the beginning of the RT1 */
+  long getOffset();
+
+  /** @return size in bytes of the record, its LEN unless the LEN is not counted in bytes */
+  long getLength();
+
+  /** @return X.002 IDC : information designation character */
+  String getIdc();
+
+  /** @return X.003 IMP : impression type, for the RT3 to RT6, RT13, RT14 and RT15 */
+  String getImp();
+
+  /** @return FGP : finger or palm positions, for the RT3 to RT6, RT13, RT14 and RT15 */
+  String getFgp();
+
+  /** @return GCA or CGA : compression algorithm, for the RT3 to RT7, RT13, RT14 and RT15 */
+  String getCga();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.summary.impl;
+
+import io.github.nist4j.entities.summary.NistFileSummary;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class NistFileSummaryImpl implements NistFileSummary {
+
+  String ver;
+  String tot;
+  String dat;
+  String ori;
+  String tcn;
+  String dcs;
+  List<NistRecordSummary> records;
+}
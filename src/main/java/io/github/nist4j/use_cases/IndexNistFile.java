@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.index.NistFileIndex;
+import io.github.nist4j.entities.index.impl.NistFileIndexImpl;
+import io.github.nist4j.entities.summary.NistFileSummary;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.entities.summary.impl.NistRecordSummaryImpl;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.serializer.NistFileIndexSerializer;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index a file holding one or several NistFiles one after the other, and save the index in a
+ * sidecar file read by {@link ReadNistFileIndex}. Records are scanned as with {@link
+ * ScanNistFile}, without decoding them.
+ */
+@Slf4j
+public class IndexNistFile {
+
+  private final ScanNistFile scanNistFile;
+  private final NistFileIndexSerializer nistFileIndexSerializer = new NistFileIndexSerializer();
+
+  public IndexNistFile() {
+    this(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  }
+
+  /**
+   * @param nistOptions options of the scan, only the records of its read projection are indexed
+   */
+  public IndexNistFile(NistOptions nistOptions) {
+    this.scanNistFile = new ScanNistFile(nistOptions);
+  }
+
+  /**
+   * @param nistPath path of the file of NistFiles
+   * @return the index of the file
+   */
+  public NistFileIndex execute(Path nistPath) throws Nist4jException {
+    log.debug("Indexing of NistFile {}", nistPath);
+    if (nistPath == null) {
+      throw new ErrorDecodingNist4jException("path is null");
+    }
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(nistPath))) {
+      return index(inputStream);
+    } catch (IOException e) {
+      log.error("Error while opening nistFile {}", nistPath, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  /**
+   * @param nistPath path of the file of NistFiles
+   * @param indexPath path of the sidecar file, replaced if it exists
+   * @return the index of the file
+   */
+  public NistFileIndex execute(Path nistPath, Path indexPath) throws Nist4jException {
+    if (indexPath == null) {
+      throw new ErrorEncodingNist4jException("indexPath is null");
+    }
+    NistFileIndexImpl nistFileIndex = (NistFileIndexImpl) execute(nistPath);
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(indexPath))) {
+      nistFileIndexSerializer.write(outputStream, nistFileIndex);
+    } catch (IOException e) {
+      log.error("Error while writing index {}", indexPath, e);
+      throw new ErrorEncodingNist4jException(e.getMessage());
+    }
+    return nistFileIndex;
+  }
+
+  /**
+   * The NistFiles are read one after the other from the same stream, which supports mark so that
+   * each reader stops at the end of its NistFile.
+   */
+  private NistFileIndexImpl index(InputStream inputStream) throws Nist4jException, IOException {
+    List<Long> transactionOffsets = new ArrayList<>();
+    List<Long> transactionLengths = new ArrayList<>();
+    List<String> dcs = new ArrayList<>();
+    List<Integer> firstRecords = new ArrayList<>();
+    List<NistRecordSummary> records = new ArrayList<>();
+
+    long offset = 0;
+    while (hasRemaining(inputStream)) {
+      NistStreamReader nistStreamReader = scanNistFile.openStream(inputStream);
+      NistFileSummary nistFileSummary = scanNistFile.scan(nistStreamReader);
+      // The records out of the read projection after the last one scanned end the NistFile too
+      nistStreamReader.skipRemaining();
+      transactionOffsets.add(offset);
+      transactionLengths.add(nistStreamReader.getPosition());
+      dcs.add(nistFileSummary.getDcs());
+      firstRecords.add(records.size());
+      for (NistRecordSummary nistRecordSummary : nistFileSummary.getRecords()) {
+        records.add(
+            NistRecordSummaryImpl.builder()
+                .recordType(nistRecordSummary.getRecordType())
+                .idc(nistRecordSummary.getIdc())
+                .offset(offset + nistRecordSummary.getOffset())
+                .length(nistRecordSummary.getLength())
+                .build());
+      }
+      offset += nistStreamReader.getPosition();
+    }
+    firstRecords.add(records.size());
+
+    int[] recordTypes = new int[records.size()];
+    int[] idcs = new int[records.size()];
+    long[] recordOffsets = new long[records.size()];
+    long[] recordLengths = new long[records.size()];
+    for (int i = 0; i < records.size(); i++) {
+      NistRecordSummary nistRecordSummary = records.get(i);
+      recordTypes[i] = nistRecordSummary.getRecordType();
+      idcs[i] = toIdc(nistRecordSummary.getIdc());
+      recordOffsets[i] = nistRecordSummary.getOffset();
+      recordLengths[i] = nistRecordSummary.getLength();
+    }
+    return new NistFileIndexImpl(
+        transactionOffsets.stream().mapToLong(Long::longValue).toArray(),
+        transactionLengths.stream().mapToLong(Long::longValue).toArray(),
+        dcs.toArray(new String[0]),
+        firstRecords.stream().mapToInt(Integer::intValue).toArray(),
+        recordTypes,
+        idcs,
+        recordOffsets,
+        recordLengths);
+  }
+
+  private static boolean hasRemaining(InputStream inputStream) throws IOException {
+    inputStream.mark(1);
+    int value = inputStream.read();
+    inputStream.reset();
+    return value != -1;
+  }
+
+  private static int toIdc(String idc) {
+    if (idc == null) {
+      return NistFileIndexImpl.NO_IDC;
+    }
+    try {
+      return Integer.parseInt(idc.trim());
+    } catch (NumberFormatException e) {
+      return NistFileIndexImpl.NO_IDC;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.index.NistFileIndex;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read a single record of a file of NistFiles at the position given by its {@link NistFileIndex},
+ * without reading the file from its beginning.
+ */
+@Slf4j
+public class ReadIndexedNistRecord {
+
+  private final ReadNistFile readNistFile;
+
+  public ReadIndexedNistRecord() {
+    this(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  }
+
+  public ReadIndexedNistRecord(NistOptions nistOptions) {
+    this.readNistFile = new ReadNistFile(nistOptions);
+  }
+
+  /**
+   * @param nistPath path of the file of NistFiles
+   * @param nistFileIndex index of the file
+   * @param transaction index of the NistFile in the file, from 0
+   * @param recordType type of the record
+   * @param idc value of the field IDC (X.002) of the record
+   * @return the record, empty if it is not in the index
+   */
+  public Optional<NistRecord> execute(
+      Path nistPath,
+      NistFileIndex nistFileIndex,
+      int transaction,
+      RecordTypeEnum recordType,
+      int idc)
+      throws Nist4jException {
+    if (nistPath == null) {
+      throw new ErrorDecodingNist4jException("path is null");
+    }
+    try (FileChannel fileChannel = FileChannel.open(nistPath, StandardOpenOption.READ)) {
+      return execute(fileChannel, nistFileIndex, transaction, recordType, idc);
+    } catch (IOException e) {
+      log.error("Error while opening nistFile {}", nistPath, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  /**
+   * The record is read with a positional read : the position of the channel is not changed, so
+   * the same channel can be shared to read several records.
+   *
+   * @param fileChannel channel of the file of NistFiles
+   * @param nistFileIndex index of the file
+   * @param transaction index of the NistFile in the file, from 0
+   * @param recordType type of the record
+   * @param idc value of the field IDC (X.002) of the record
+   * @return the record, empty if it is not in the index
+   */
+  public Optional<NistRecord> execute(
+      FileChannel fileChannel,
+      NistFileIndex nistFileIndex,
+      int transaction,
+      RecordTypeEnum recordType,
+      int idc)
+      throws Nist4jException {
+    if (fileChannel == null || nistFileIndex == null || recordType == null) {
+      throw new ErrorDecodingNist4jException(
+          "fileChannel, nistFileIndex and recordType are required");
+    }
+    if (transaction < 0 || transaction >= nistFileIndex.getTransactionCount()) {
+      throw new ErrorDecodingNist4jException(
+          format("Transaction %s out of the index", transaction));
+    }
+    Optional<NistRecordSummary> nistRecordSummary =
+        nistFileIndex.findRecord(transaction, recordType.getNumber(), idc);
+    if (!nistRecordSummary.isPresent()) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer =
+        read(fileChannel, nistRecordSummary.get().getOffset(), nistRecordSummary.get().getLength());
+    NistDecoderHelper.Token token = new NistDecoderHelper.Token(buffer);
+    token.setCharSetDecoder(nistFileIndex.getDcs(transaction));
+    token.crt = recordType.getNumber();
+    try {
+      return Optional.of(readNistFile.readRecord(token));
+    } catch (Exception e) {
+      log.error("Error while decoding record {} of transaction {}", recordType, transaction, e);
+      throw new InvalidFormatNist4jException(e.getMessage());
+    }
+  }
+
+  private static ByteBuffer read(FileChannel fileChannel, long offset, long length)
+      throws ErrorDecodingNist4jException {
+    if (length > Integer.MAX_VALUE) {
+      throw new ErrorDecodingNist4jException(format("Invalid LEN %s", length));
+    }
+    ByteBuffer buffer = ByteBuffer.allocate((int) length);
+    try {
+      while (buffer.hasRemaining()) {
+        int count = fileChannel.read(buffer, offset + buffer.position());
+        if (count == -1) {
+          throw new ErrorDecodingNist4jException(
+              format("Unexpected end of file reading the record at %s", offset));
+        }
+      }
+    } catch (IOException e) {
+      log.error("Error while reading the record at {}", offset, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+    ((Buffer) buffer).flip();
+    return buffer;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.impl.LazyNistFileImpl;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read a NistFile whose records are decoded on their first access.
+ * <br/>
+ * Only the RT1 is decoded when the file is read, the other records are located using the CNT field
+ * (1.003) and their LEN, then decoded by their serializer when a getter of the NistFile touches
+ * them.
+ */
+@Slf4j
+public class ReadLazyNistFile {
+
+  private final NistOptions nistOptions;
+  private final ReadNistFile readNistFile;
+
+  public ReadLazyNistFile() {
+    this(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  }
+
+  public ReadLazyNistFile(NistOptions nistOptions) {
+    this.nistOptions = nistOptions;
+    this.readNistFile = new ReadNistFile(nistOptions);
+  }
+
+  /**
+   * The file is memory-mapped : records are decoded from the mapping, which stays valid after the
+   * file is closed.
+   *
+   * @param path path of the NistFile, at most 2GB
+   */
+  public NistFile execute(Path path) throws Nist4jException {
+    log.debug("Reading of lazy NistFile : starting from path {}", path);
+    if (path == null) {
+      throw new ErrorDecodingNist4jException("path is null");
+    }
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return execute(ReadNistFile.map(fileChannel));
+    } catch (IOException e) {
+      log.error("Error while opening nistFile {}", path, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  /**
+   * The stream is fully read in memory, but the records are only decoded on their first access.
+   */
+  public NistFile execute(InputStream inputStream) throws Nist4jException {
+    log.debug("Reading of lazy NistFile : starting from inputStream");
+    if (inputStream == null) {
+      throw new ErrorDecodingNist4jException("inputStream is null");
+    }
+    try {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int count;
+      while ((count = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, count);
+      }
+      return execute(ByteBuffer.wrap(outputStream.toByteArray()));
+    } catch (IOException e) {
+      log.error("Error while reading nistFile", e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  private NistFile execute(ByteBuffer buffer) throws Nist4jException {
+    NistStreamReader nistStreamReader =
+        new NistStreamReader(buffer, readNistFile::readRecord, nistOptions.getReadProjection());
+    NistRecord rt1 = ReadNistFile.readRT1(nistStreamReader);
+
+    Map<RecordTypeEnum, List<Supplier<NistRecord>>> recordSuppliers = new TreeMap<>();
+    while (nistStreamReader.hasNext()) {
+      try {
+        NistDecoderHelper.Token token = nistStreamReader.nextToken();
+        recordSuppliers
+            .computeIfAbsent(RecordTypeEnum.findByRecordId(token.crt), r -> new ArrayList<>())
+            .add(newRecordSupplier(token));
+      } catch (Exception e) {
+        log.error("Error while indexing nistFile", e);
+        throw new InvalidFormatNist4jException(e.getMessage());
+      }
+    }
+    return new LazyNistFileImpl(rt1, recordSuppliers);
+  }
+
+  private Supplier<NistRecord> newRecordSupplier(NistDecoderHelper.Token token) {
+    ByteBuffer buffer = token.buffer;
+    int recordType = token.crt;
+    Charset charset = token.charsetDecoder.charset();
+    return () -> {
+      // A decoder is not thread-safe : each record is decoded with its own
+      NistDecoderHelper.Token recordToken =
+          new NistDecoderHelper.Token(buffer, charset.newDecoder());
+      recordToken.crt = recordType;
+      try {
+        return readNistFile.readRecord(recordToken);
+      } catch (Exception e) {
+        log.error("Error while decoding record type {}", recordType, e);
+        throw new InvalidFormatNist4jException(e.getMessage());
+      }
+    };
+  }
+}
@@ -15,49 +15,34 @@
  */
 package io.github.nist4j.use_cases;
 
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistBufferPool;
 import io.github.nist4j.entities.NistFile;
 import io.github.nist4j.entities.NistFileBuilder;
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.CharsetEnum;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
 import io.github.nist4j.exceptions.Nist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
-import io.github.nist4j.use_cases.helpers.serializer.binary.*;
-import java.io.DataInputStream;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamReader;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodecRegistry;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ReadNistFile {
 
   private final NistOptions nistOptions;
-  private final RT1TransactionInformationRecordSerializerImpl
-      rt1TransactionInformationRecordSerializer; // R1
-  private final RT2UserDefinedDescriptionTextRecordSerializerImpl
-      rt2UserDefinedDescriptionTextRecordSerializer; // R2
-  private final RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl
-      rt3LowResolutionGrayscaleFingerprintRecordSerializer; // R3
-  private final RT4HighResolutionGrayscaleFingerprintRecordSerializerImpl
-      rt4HighResolutionGrayscaleFingerprintRecordSerializer; // R4
-  private final RT5LowResolutionBinaryFingerprintRecordSerializerImpl
-      rt5LowResolutionBinaryFingerprintRecordSerializer; // R5
-  private final RT6HighResolutionBinaryFingerprintRecordSerializerImpl
-      rt6HighResolutionBinaryFingerprintRecordSerializer; // R6
-  private final RT7UserDefinedImageRecordSerializerImpl rt7UserDefinedImageRecordSerializer; // R7
-  private final RT8SignatureImageRecordSerializerImpl rt8SignatureImageRecordSerializer; // R8
-  private final RT9MinutiaeDataRecordSerializerImpl rt9MinutiaeDataRecordSerializer; // R9
-  private final DefaultTextRecordSerializer rt10defaultTextRecordSerializer; // R10
-  private final DefaultTextRecordSerializer rt11defaultTextRecordSerializer; // R11
-  private final DefaultTextRecordSerializer rt12defaultTextRecordSerializer; // R12
-  private final RT13LatentImageDataRecordSerializerImpl rt13defaultTextRecordSerializer; // R13
-  private final RT14VariableResolutionFingerprintRecordSerializerImpl
-      rt14VariableResolutionFingerprintRecordSerializer; // R14
-  private final DefaultTextRecordSerializer rt15defaultTextRecordSerializer; // R15
-  private final DefaultTextRecordSerializer rt16defaultTextRecordSerializer; // R16
-  private final DefaultTextRecordSerializer rt17defaultTextRecordSerializer; // R17
+  private final RecordCodecRegistry recordCodecRegistry;
 
   public static final NistOptions DEFAULT_OPTIONS_FOR_READ_FILE =
       NistOptionsImpl.builder()
@@ -71,126 +56,147 @@ public class ReadNistFile {
   }
 
   public ReadNistFile(NistOptions nistOptions) {
+    this(nistOptions, new RecordCodecRegistry(nistOptions));
+  }
+
+  /**
+   * @param recordCodecRegistry codecs of the records, can be shared with {@link WriteNistFile}. The read uses
+   *     the options of the registry.
+   */
+  public ReadNistFile(RecordCodecRegistry recordCodecRegistry) {
+    this(recordCodecRegistry.getNistOptions(), recordCodecRegistry);
+  }
+
+  /**
+   * @param nistOptions options of the read, which must be the options of the registry
+   * @param recordCodecRegistry codecs of the records, can be shared with {@link WriteNistFile}
+   */
+  public ReadNistFile(NistOptions nistOptions, RecordCodecRegistry recordCodecRegistry) {
+    if (!nistOptions.equals(recordCodecRegistry.getNistOptions())) {
+      throw new Nist4jException(
+          "The options of the read differ from the options of the record codec registry");
+    }
     this.nistOptions = nistOptions;
-    this.rt1TransactionInformationRecordSerializer =
-        new RT1TransactionInformationRecordSerializerImpl(nistOptions);
-    this.rt2UserDefinedDescriptionTextRecordSerializer =
-        new RT2UserDefinedDescriptionTextRecordSerializerImpl(nistOptions);
-    this.rt4HighResolutionGrayscaleFingerprintRecordSerializer =
-        new RT4HighResolutionGrayscaleFingerprintRecordSerializerImpl(nistOptions);
-    this.rt3LowResolutionGrayscaleFingerprintRecordSerializer =
-        new RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl(nistOptions);
-    this.rt5LowResolutionBinaryFingerprintRecordSerializer =
-        new RT5LowResolutionBinaryFingerprintRecordSerializerImpl(nistOptions);
-    this.rt6HighResolutionBinaryFingerprintRecordSerializer =
-        new RT6HighResolutionBinaryFingerprintRecordSerializerImpl(nistOptions);
-    this.rt7UserDefinedImageRecordSerializer =
-        new RT7UserDefinedImageRecordSerializerImpl(nistOptions);
-    this.rt8SignatureImageRecordSerializer = new RT8SignatureImageRecordSerializerImpl(nistOptions);
-    this.rt9MinutiaeDataRecordSerializer = new RT9MinutiaeDataRecordSerializerImpl(nistOptions);
-    this.rt10defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 10);
-    this.rt11defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 11);
-    this.rt12defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 12);
-    this.rt13defaultTextRecordSerializer = new RT13LatentImageDataRecordSerializerImpl(nistOptions);
-    this.rt14VariableResolutionFingerprintRecordSerializer =
-        new RT14VariableResolutionFingerprintRecordSerializerImpl(nistOptions);
-    this.rt15defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 15);
-    this.rt16defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 16);
-    this.rt17defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 17);
+    this.recordCodecRegistry = recordCodecRegistry;
   }
 
+  /**
+   * Read a NistFile from a stream. Only the records and fields of the read projection of the
+   * options are decoded, the RT1 is always decoded.
+   * <br/>
+   * With a {@link NistBufferPool} in the options, the large records are read out of the heap in
+   * buffers of the pool, given back when the NistFile is closed. The records longer than the spill
+   * threshold of the options are written to temporary files, memory-mapped and deleted when the
+   * NistFile is closed.
+   *
+   * @param inputStream stream of the NistFile
+   */
   public NistFile execute(InputStream inputStream) throws Nist4jException {
     log.debug("Reading of NistFile : starting from inputStream");
     if (inputStream == null) {
       throw new ErrorDecodingNist4jException("inputStream is null");
     }
 
-    NistDecoderHelper.Token token;
-    NistFileBuilder nistFileBuilder = new CreateNistFile(nistOptions).execute();
-
-    // Read 1st record
+    NistBufferPool bufferPool = nistOptions.getBufferPool();
+    if (bufferPool == null && nistOptions.getSpillThreshold() == Integer.MAX_VALUE) {
+      return read(openStream(inputStream));
+    }
+    NistStreamReader nistStreamReader =
+        new NistStreamReader(
+            inputStream,
+            this::readRecord,
+            nistOptions.getReadProjection(),
+            bufferPool,
+            nistOptions.getSpillThreshold(),
+            nistOptions.getSpillDirectory());
+    Runnable release = () -> release(nistStreamReader, bufferPool);
     try {
-      byte[] nistBytes = new byte[inputStream.available()];
-      DataInputStream dataInputStream = new DataInputStream(inputStream);
-      dataInputStream.readFully(nistBytes);
+      return read(nistStreamReader, release);
+    } catch (RuntimeException e) {
+      release.run();
+      throw e;
+    }
+  }
 
-      token = new NistDecoderHelper.Token(nistBytes);
-      nistFileBuilder.withRecord(1, rt1TransactionInformationRecordSerializer.read(token));
-    } catch (ErrorDecodingNist4jException
-        | UnsupportedOperationException
-        | IOException
-        | NumberFormatException e) {
+  /**
+   * Give back the pooled buffers and delete the spilled files of the records read
+   */
+  private static void release(NistStreamReader nistStreamReader, NistBufferPool bufferPool) {
+    if (bufferPool != null) {
+      nistStreamReader.getPooledBuffers().forEach(bufferPool::release);
+    }
+    nistStreamReader.getSpilledFiles().forEach(NistStreamReader::deleteSpilledFile);
+  }
+
+  /**
+   * Read a NistFile from a memory-mapped file : images are read-only slices of the mapping, their
+   * bytes are not copied in the heap.
+   *
+   * @param path path of the NistFile, at most 2GB
+   */
+  public NistFile execute(Path path) throws Nist4jException {
+    log.debug("Reading of NistFile : starting from path {}", path);
+    if (path == null) {
+      throw new ErrorDecodingNist4jException("path is null");
+    }
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return execute(fileChannel);
+    } catch (IOException e) {
+      log.error("Error while opening nistFile {}", path, e);
       throw new ErrorDecodingNist4jException(e.getMessage());
     }
+  }
 
-    while (nextRecord(token)) {
-      try {
-        switch (token.crt) {
-          case 0:
-          case 1:
-            continue; // Le record 1 a déjà été fait on byPass
-          case 2:
-            nistFileBuilder.withRecord(
-                token.crt, rt2UserDefinedDescriptionTextRecordSerializer.read(token));
-            break;
-          case 3:
-            nistFileBuilder.withRecord(
-                token.crt, rt3LowResolutionGrayscaleFingerprintRecordSerializer.read(token));
-            break;
-          case 4:
-            nistFileBuilder.withRecord(
-                token.crt, rt4HighResolutionGrayscaleFingerprintRecordSerializer.read(token));
-            break;
-          case 5:
-            nistFileBuilder.withRecord(
-                token.crt, rt5LowResolutionBinaryFingerprintRecordSerializer.read(token));
-            break;
-          case 6:
-            nistFileBuilder.withRecord(
-                token.crt, rt6HighResolutionBinaryFingerprintRecordSerializer.read(token));
-            break;
-          case 7:
-            nistFileBuilder.withRecord(token.crt, rt7UserDefinedImageRecordSerializer.read(token));
-            break;
-          case 8:
-            nistFileBuilder.withRecord(token.crt, rt8SignatureImageRecordSerializer.read(token));
-            break;
-          case 9:
-            nistFileBuilder.withRecord(token.crt, rt9MinutiaeDataRecordSerializer.read(token));
-            break;
-          case 10:
-            nistFileBuilder.withRecord(token.crt, rt10defaultTextRecordSerializer.read(token));
-            break;
-          case 11:
-            nistFileBuilder.withRecord(token.crt, rt11defaultTextRecordSerializer.read(token));
-            break;
-          case 12:
-            nistFileBuilder.withRecord(token.crt, rt12defaultTextRecordSerializer.read(token));
-            break;
-          case 13:
-            nistFileBuilder.withRecord(token.crt, rt13defaultTextRecordSerializer.read(token));
-            break;
-          case 14:
-            nistFileBuilder.withRecord(
-                token.crt, rt14VariableResolutionFingerprintRecordSerializer.read(token));
-            break;
-          case 15:
-            nistFileBuilder.withRecord(token.crt, rt15defaultTextRecordSerializer.read(token));
-            break;
-          case 16:
-            nistFileBuilder.withRecord(token.crt, rt16defaultTextRecordSerializer.read(token));
-            break;
-          case 17:
-            nistFileBuilder.withRecord(token.crt, rt17defaultTextRecordSerializer.read(token));
-            break;
-          default:
-            log.error("RecordType not implemented {}", token.crt);
-            nistFileBuilder.withRecord(
-                token.crt, new DefaultTextRecordSerializer(nistOptions, token.crt).read(token));
-        }
-        log.debug(
-            "Parsing of record {} pos {}, length {}", token.crt, token.pos, token.buffer.length);
+  /**
+   * Read a NistFile by mapping the fileChannel from its current position. The mapping stays valid
+   * after the channel is closed.
+   *
+   * @param fileChannel channel of the NistFile, at most 2GB
+   */
+  public NistFile execute(FileChannel fileChannel) throws Nist4jException {
+    if (fileChannel == null) {
+      throw new ErrorDecodingNist4jException("fileChannel is null");
+    }
+    return read(
+        new NistStreamReader(map(fileChannel), this::readRecord, nistOptions.getReadProjection()));
+  }
 
+  static MappedByteBuffer map(FileChannel fileChannel) throws ErrorDecodingNist4jException {
+    try {
+      long position = fileChannel.position();
+      long size = fileChannel.size() - position;
+      if (size > Integer.MAX_VALUE) {
+        throw new ErrorDecodingNist4jException(
+            format("NistFile of %s bytes is too large to be mapped", size));
+      }
+      return fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    } catch (IOException e) {
+      log.error("Error while mapping nistFile", e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  private NistFile read(NistStreamReader nistStreamReader) throws Nist4jException {
+    return read(nistStreamReader, null);
+  }
+
+  /**
+   * @param onClose action run when the NistFile is closed, null if none
+   */
+  private NistFile read(NistStreamReader nistStreamReader, Runnable onClose)
+      throws Nist4jException {
+    NistFileBuilder nistFileBuilder = new CreateNistFile(nistOptions).execute();
+    if (onClose != null) {
+      nistFileBuilder.withOnClose(onClose);
+    }
+
+    // Read 1st record
+    nistFileBuilder.withRecord(1, readRT1(nistStreamReader));
+
+    while (nistStreamReader.hasNext()) {
+      try {
+        NistRecord nistRecord = nistStreamReader.next();
+        nistFileBuilder.withRecord(nistRecord.getRecordId(), nistRecord);
       } catch (Exception e) {
         log.error("Error while decoding nistFile", e);
         throw new InvalidFormatNist4jException(e.getMessage());
@@ -199,20 +205,32 @@ public class ReadNistFile {
     return nistFileBuilder.build();
   }
 
-  private boolean nextRecord(NistDecoderHelper.Token token) {
-    if (token.header.isEmpty()) {
-      return false;
+  static NistRecord readRT1(NistStreamReader nistStreamReader) throws ErrorDecodingNist4jException {
+    try {
+      return nistStreamReader.next();
+    } catch (ErrorDecodingNist4jException
+        | UnsupportedOperationException
+        | IndexOutOfBoundsException
+        | NumberFormatException e) {
+      throw new ErrorDecodingNist4jException(e.getMessage());
     }
+  }
 
-    int rsPos = token.header.indexOf(NistDecoderHelper.SEP_RS);
-    if (rsPos == -1) {
-      rsPos = token.header.length() - 1;
+  /**
+   * Open a reader pulling the records one by one from the inputStream, the RT1 first then the
+   * others in the order of the CNT field (1.003).
+   *
+   * @param inputStream stream of the NistFile
+   * @return a reader holding only the current record in memory
+   */
+  public NistStreamReader openStream(InputStream inputStream) throws Nist4jException {
+    if (inputStream == null) {
+      throw new ErrorDecodingNist4jException("inputStream is null");
     }
+    return new NistStreamReader(inputStream, this::readRecord, nistOptions.getReadProjection());
+  }
 
-    int usPos = token.header.indexOf(NistDecoderHelper.SEP_US);
-    token.crt = Integer.parseInt(token.header.substring(0, usPos));
-    token.header = token.header.substring(rsPos + 1);
-
-    return true;
+  NistRecord readRecord(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
+    return recordCodecRegistry.get(token.crt).read(token);
   }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import io.github.nist4j.entities.index.NistFileIndex;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.serializer.NistFileIndexSerializer;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+
+/** Read the sidecar file written by {@link IndexNistFile} */
+@Slf4j
+public class ReadNistFileIndex {
+
+  private final NistFileIndexSerializer nistFileIndexSerializer = new NistFileIndexSerializer();
+
+  /**
+   * @param indexPath path of the sidecar file
+   * @return the index of the file of NistFiles
+   */
+  public NistFileIndex execute(Path indexPath) throws Nist4jException {
+    log.debug("Reading of index {}", indexPath);
+    if (indexPath == null) {
+      throw new ErrorDecodingNist4jException("indexPath is null");
+    }
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(indexPath))) {
+      return nistFileIndexSerializer.read(inputStream);
+    } catch (IOException e) {
+      log.error("Error while opening index {}", indexPath, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+}
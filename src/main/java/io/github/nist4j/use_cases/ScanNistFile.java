@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.entities.summary.NistFileSummary;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.entities.summary.impl.NistFileSummaryImpl;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.serializer.NistRecordSummaryReader;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamReader;
+import io.github.nist4j.use_cases.helpers.serializer.binary.RT1TransactionInformationRecordSerializerImpl;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scan a NistFile without decoding its records : only the RT1 is decoded, then the first bytes of
+ * each record are read to build its summary and the others are skipped.
+ */
+@Slf4j
+public class ScanNistFile {
+
+  private final NistOptions nistOptions;
+  private final RT1TransactionInformationRecordSerializerImpl
+      rt1TransactionInformationRecordSerializer;
+  private final NistRecordSummaryReader nistRecordSummaryReader;
+
+  public ScanNistFile() {
+    this(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  }
+
+  public ScanNistFile(NistOptions nistOptions) {
+    this.nistOptions = nistOptions;
+    this.rt1TransactionInformationRecordSerializer =
+        new RT1TransactionInformationRecordSerializerImpl(nistOptions);
+    this.nistRecordSummaryReader = new NistRecordSummaryReader(nistOptions);
+  }
+
+  /**
+   * Scan a NistFile from a stream. The records out of the read projection of the options are not
+   * in the summary.
+   *
+   * @param inputStream stream of the NistFile
+   */
+  public NistFileSummary execute(InputStream inputStream) throws Nist4jException {
+    log.debug("Scanning of NistFile : starting from inputStream");
+    if (inputStream == null) {
+      throw new ErrorDecodingNist4jException("inputStream is null");
+    }
+    return scan(openStream(inputStream));
+  }
+
+  /**
+   * Scan a NistFile from a memory-mapped file : only the pages holding the beginning of each
+   * record are read from the disk.
+   *
+   * @param path path of the NistFile, at most 2GB
+   */
+  public NistFileSummary execute(Path path) throws Nist4jException {
+    log.debug("Scanning of NistFile : starting from path {}", path);
+    if (path == null) {
+      throw new ErrorDecodingNist4jException("path is null");
+    }
+    try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return scan(
+          new NistStreamReader(
+              ReadNistFile.map(fileChannel),
+              rt1TransactionInformationRecordSerializer::read,
+              nistOptions.getReadProjection()));
+    } catch (IOException e) {
+      log.error("Error while opening nistFile {}", path, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  /**
+   * @return a reader decoding only the RT1, the other records are read with {@link
+   *     NistStreamReader#nextTokenHead(int)}
+   */
+  NistStreamReader openStream(InputStream inputStream) {
+    return new NistStreamReader(
+        inputStream,
+        rt1TransactionInformationRecordSerializer::read,
+        nistOptions.getReadProjection());
+  }
+
+  NistFileSummary scan(NistStreamReader nistStreamReader) throws Nist4jException {
+    NistRecord rt1 = ReadNistFile.readRT1(nistStreamReader);
+
+    List<NistRecordSummary> records = new ArrayList<>();
+    while (nistStreamReader.hasNext()) {
+      try {
+        NistDecoderHelper.Token token =
+            nistStreamReader.nextTokenHead(NistRecordSummaryReader.HEAD_LENGTH);
+        long offset = nistStreamReader.getRecordOffset();
+        records.add(
+            nistRecordSummaryReader.read(token, offset, nistStreamReader.getPosition() - offset));
+      } catch (Exception e) {
+        log.error("Error while scanning nistFile", e);
+        throw new InvalidFormatNist4jException(e.getMessage());
+      }
+    }
+
+    return NistFileSummaryImpl.builder()
+        .ver(rt1.getFieldText(RT1FieldsEnum.VER).orElse(null))
+        .tot(rt1.getFieldText(RT1FieldsEnum.TOT).orElse(null))
+        .dat(rt1.getFieldText(RT1FieldsEnum.DAT).orElse(null))
+        .ori(rt1.getFieldText(RT1FieldsEnum.ORI).orElse(null))
+        .tcn(rt1.getFieldText(RT1FieldsEnum.TCN).orElse(null))
+        .dcs(rt1.getFieldText(RT1FieldsEnum.DCS).orElse(null))
+        .records(records)
+        .build();
+  }
+}
@@ -19,27 +19,41 @@ import static io.github.nist4j.enums.RecordTypeEnum.RT1;
 import static java.lang.String.format;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
+import io.github.nist4j.entities.NistContentTable;
 import io.github.nist4j.entities.NistFile;
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.entities.impl.NistOptionsImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.CharsetEnum;
 import io.github.nist4j.enums.RecordTypeEnum;
-import io.github.nist4j.enums.records.RT1FieldsEnum;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
 import io.github.nist4j.exceptions.Nist4jException;
-import io.github.nist4j.use_cases.helpers.converters.SubFieldToStringConverter;
-import io.github.nist4j.use_cases.helpers.serializer.binary.*;
+import io.github.nist4j.use_cases.helpers.serializer.ChannelOutputStream;
+import io.github.nist4j.use_cases.helpers.serializer.EncodedRecord;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodecRegistry;
 import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 
+/**
+ * Writer of NistFiles. When the records are encoded in parallel, it holds a pool of threads until
+ * it is closed.
+ */
 @Slf4j
-public class WriteNistFile {
+public class WriteNistFile implements AutoCloseable {
 
   public static final NistOptions DEFAULT_OPTIONS_FOR_WRITE =
       NistOptionsImpl.builder()
@@ -48,63 +62,37 @@ public class WriteNistFile {
           .charset(CharsetEnum.DEFAULT.getCharset())
           .build();
 
-  private final RT1TransactionInformationRecordSerializerImpl
-      rt1TransactionInformationRecordSerializer; // R1
-  private final RT2UserDefinedDescriptionTextRecordSerializerImpl
-      rt2UserDefinedDescriptionTextRecordSerializer; // R2
-  private final RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl
-      rt3LowResolutionGrayscaleFingerprintRecordSerializer; // R3
-  private final RT4HighResolutionGrayscaleFingerprintRecordSerializerImpl
-      rt4HighResolutionGrayscaleFingerprintRecordSerializer; // R4
-  private final RT5LowResolutionBinaryFingerprintRecordSerializerImpl
-      rt5LowResolutionBinaryFingerprintRecordSerializer; // R5
-  private final RT6HighResolutionBinaryFingerprintRecordSerializerImpl
-      rt6HighResolutionBinaryFingerprintRecordSerializer; // R6
-  private final RT7UserDefinedImageRecordSerializerImpl rt7UserDefinedImageRecordSerializer; // R7
-  private final RT8SignatureImageRecordSerializerImpl rt8SignatureImageRecordSerializer; // R8
-  private final RT9MinutiaeDataRecordSerializerImpl rt9MinutiaeDataRecordSerializer; // R9
-  private final DefaultTextRecordSerializer rt10defaultTextRecordSerializer; // R10
-  private final DefaultTextRecordSerializer rt11defaultTextRecordSerializer; // R11
-  private final DefaultTextRecordSerializer rt12defaultTextRecordSerializer; // R12
-  private final RT13LatentImageDataRecordSerializerImpl rt13defaultTextRecordSerializer; // R13
-  private final RT14VariableResolutionFingerprintRecordSerializerImpl
-      rt14VariableResolutionFingerprintRecordSerializer; // R14
-  private final DefaultTextRecordSerializer rt15defaultTextRecordSerializer; // R15
-  private final DefaultTextRecordSerializer rt16defaultTextRecordSerializer; // R16
-  private final DefaultTextRecordSerializer rt17defaultTextRecordSerializer; // R17
+  private final RecordCodecRegistry recordCodecRegistry;
   private final NistOptions nistOptions;
+  private volatile ForkJoinPool forkJoinPool; // created on the first parallel write
 
   public WriteNistFile() {
     this(DEFAULT_OPTIONS_FOR_WRITE);
   }
 
   public WriteNistFile(NistOptions nistOptions) {
+    this(nistOptions, new RecordCodecRegistry(nistOptions));
+  }
+
+  /**
+   * @param recordCodecRegistry codecs of the records, can be shared with {@link ReadNistFile}. The write uses
+   *     the options of the registry.
+   */
+  public WriteNistFile(RecordCodecRegistry recordCodecRegistry) {
+    this(recordCodecRegistry.getNistOptions(), recordCodecRegistry);
+  }
+
+  /**
+   * @param nistOptions options of the write, which must be the options of the registry
+   * @param recordCodecRegistry codecs of the records, can be shared with {@link ReadNistFile}
+   */
+  public WriteNistFile(NistOptions nistOptions, RecordCodecRegistry recordCodecRegistry) {
+    if (!nistOptions.equals(recordCodecRegistry.getNistOptions())) {
+      throw new Nist4jException(
+          "The options of the write differ from the options of the record codec registry");
+    }
     this.nistOptions = nistOptions;
-    this.rt1TransactionInformationRecordSerializer =
-        new RT1TransactionInformationRecordSerializerImpl(nistOptions);
-    this.rt2UserDefinedDescriptionTextRecordSerializer =
-        new RT2UserDefinedDescriptionTextRecordSerializerImpl(nistOptions);
-    this.rt3LowResolutionGrayscaleFingerprintRecordSerializer =
-        new RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl(nistOptions);
-    this.rt4HighResolutionGrayscaleFingerprintRecordSerializer =
-        new RT4HighResolutionGrayscaleFingerprintRecordSerializerImpl(nistOptions);
-    this.rt5LowResolutionBinaryFingerprintRecordSerializer =
-        new RT5LowResolutionBinaryFingerprintRecordSerializerImpl(nistOptions);
-    this.rt6HighResolutionBinaryFingerprintRecordSerializer =
-        new RT6HighResolutionBinaryFingerprintRecordSerializerImpl(nistOptions);
-    this.rt8SignatureImageRecordSerializer = new RT8SignatureImageRecordSerializerImpl(nistOptions);
-    this.rt9MinutiaeDataRecordSerializer = new RT9MinutiaeDataRecordSerializerImpl(nistOptions);
-    this.rt7UserDefinedImageRecordSerializer =
-        new RT7UserDefinedImageRecordSerializerImpl(nistOptions);
-    this.rt10defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 10);
-    this.rt11defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 11);
-    this.rt12defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 12);
-    this.rt13defaultTextRecordSerializer = new RT13LatentImageDataRecordSerializerImpl(nistOptions);
-    this.rt14VariableResolutionFingerprintRecordSerializer =
-        new RT14VariableResolutionFingerprintRecordSerializerImpl(nistOptions);
-    this.rt15defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 15);
-    this.rt16defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 16);
-    this.rt17defaultTextRecordSerializer = new DefaultTextRecordSerializer(nistOptions, 17);
+    this.recordCodecRegistry = recordCodecRegistry;
   }
 
   public OutputStream execute(NistFile nistFile, OutputStream outputStream) throws Nist4jException {
@@ -117,88 +105,7 @@ public class WriteNistFile {
     }
 
     try (BufferedOutputStream bufferedOS = new BufferedOutputStream(outputStream)) {
-      // R1
-      if (isEmpty(nistFile.getRT1TransactionInformationRecord())) {
-        throw new InvalidFormatNist4jException("Record : " + RT1.getLabel() + " must be present");
-      }
-      rt1TransactionInformationRecordSerializer.write(
-          bufferedOS, nistFile.getRT1TransactionInformationRecord());
-
-      // The write order is based on CNT field 1.003
-      List<Pair<String, String>> cntPairs =
-          nistFile
-              .getRT1TransactionInformationRecord()
-              .getFieldText(RT1FieldsEnum.CNT)
-              .map(SubFieldToStringConverter::toListOfPairs)
-              .orElseThrow(
-                  () -> new InvalidFormatNist4jException("Missing CNT field on RT1 code '1.003'"));
-
-      for (Pair<String, String> cntPair : cntPairs) {
-        final int recordId = Integer.parseInt(cntPair.getKey());
-        final Integer idcId = Integer.parseInt(cntPair.getValue());
-        final RecordTypeEnum recordType = RecordTypeEnum.findByRecordId(recordId);
-        if (recordType != RT1) {
-          final NistRecord nistRecord =
-              nistFile
-                  .getRecordByTypeAndIdc(recordType, idcId)
-                  .orElseThrow(
-                      () ->
-                          new ErrorEncodingNist4jException(
-                              format("Missing record %s with idc %s", recordId, idcId)));
-          switch (recordType) {
-            case RT2:
-              rt2UserDefinedDescriptionTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT3:
-              rt3LowResolutionGrayscaleFingerprintRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT4:
-              rt4HighResolutionGrayscaleFingerprintRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT5:
-              rt5LowResolutionBinaryFingerprintRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT6:
-              rt6HighResolutionBinaryFingerprintRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT7:
-              rt7UserDefinedImageRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT8:
-              rt8SignatureImageRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT9:
-              rt9MinutiaeDataRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT10:
-              rt10defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT11:
-              rt11defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT12:
-              rt12defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT13:
-              rt13defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT14:
-              rt14VariableResolutionFingerprintRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT15:
-              rt15defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT16:
-              rt16defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            case RT17:
-              rt17defaultTextRecordSerializer.write(bufferedOS, nistRecord);
-              break;
-            default:
-              new DefaultTextRecordSerializer(nistOptions, recordId).write(bufferedOS, nistRecord);
-          }
-        }
-      }
+      writeRecords(nistFile, bufferedOS);
       bufferedOS.flush();
     } catch (Exception e) {
       log.error("Exception while execute", e);
@@ -206,4 +113,233 @@ public class WriteNistFile {
     }
     return outputStream;
   }
+
+  /**
+   * Write the NistFile to a channel : the images are written from their own buffer in gathering
+   * writes, without being copied in the heap when they are mapped or direct. The channel is not
+   * closed.
+   */
+  public WritableByteChannel execute(NistFile nistFile, WritableByteChannel channel)
+      throws Nist4jException {
+    log.debug("Writing a nistFile to channel");
+    if (nistFile == null) {
+      throw new ErrorDecodingNist4jException("nistFile is null");
+    }
+    if (channel == null) {
+      throw new ErrorDecodingNist4jException("channel is null");
+    }
+
+    try {
+      ChannelOutputStream channelOS = new ChannelOutputStream(channel);
+      writeRecords(nistFile, channelOS);
+      channelOS.flush();
+    } catch (Exception e) {
+      log.error("Exception while execute", e);
+      throw new ErrorEncodingNist4jException("Exception while execute" + e.getMessage());
+    }
+    return channel;
+  }
+
+  /**
+   * Calculate the number of bytes of the NistFile once written, without writing it : to allocate
+   * a buffer or a file of the right size, or to set the Content-Length of an HTTP response.
+   */
+  public long serializedSize(NistFile nistFile) throws Nist4jException {
+    if (nistFile == null) {
+      throw new ErrorEncodingNist4jException("nistFile is null");
+    }
+    long size = 0;
+    for (NistRecord nistRecord : getRecordsInWriteOrder(nistFile)) {
+      size += serializedSize(nistRecord);
+    }
+    return size;
+  }
+
+  /**
+   * Calculate the number of bytes of the record once written, without writing it
+   */
+  public long serializedSize(NistRecord nistRecord) throws Nist4jException {
+    if (nistRecord == null) {
+      throw new ErrorEncodingNist4jException("nistRecord is null");
+    }
+    Optional<ByteBuffer> rawBytes = nistRecord.getRawBytes();
+    if (rawBytes.isPresent()) {
+      return rawBytes.get().remaining();
+    }
+    return recordCodecRegistry.get(nistRecord.getRecordId()).serializedSize(nistRecord);
+  }
+
+  private void writeRecords(NistFile nistFile, OutputStream outputStream) throws IOException {
+    List<NistRecord> records = getRecordsInWriteOrder(nistFile);
+    if (isParallelWrite(records)) {
+      writeRecordsInParallel(records, outputStream);
+    } else {
+      for (NistRecord nistRecord : records) {
+        writeRecord(outputStream, nistRecord);
+      }
+    }
+  }
+
+  private boolean isParallelWrite(List<NistRecord> records) {
+    if (nistOptions.getWriteParallelism() <= 1) {
+      return false;
+    }
+    long recordsToEncode = records.stream().filter(r -> !r.getRawBytes().isPresent()).count();
+    return recordsToEncode >= nistOptions.getParallelWriteThreshold();
+  }
+
+  /**
+   * Encode the headers and text fields of each record on the pool, then write the records in
+   * their order, the images from their own buffer. The records read from a file and not modified
+   * are copied as is, without task.
+   */
+  private void writeRecordsInParallel(List<NistRecord> records, OutputStream outputStream)
+      throws IOException {
+    ForkJoinPool pool = getForkJoinPool();
+    List<ForkJoinTask<EncodedRecord>> tasks = new ArrayList<>(records.size());
+    for (NistRecord nistRecord : records) {
+      tasks.add(
+          nistRecord.getRawBytes().isPresent() ? null : pool.submit(() -> encode(nistRecord)));
+    }
+    try {
+      for (int i = 0; i < records.size(); i++) {
+        ForkJoinTask<EncodedRecord> task = tasks.get(i);
+        if (task == null) {
+          writeRecord(outputStream, records.get(i));
+        } else {
+          task.join().writeTo(outputStream);
+        }
+      }
+    } finally {
+      // Stop the remaining encodings when the write failed
+      tasks.stream().filter(Objects::nonNull).forEach(task -> task.cancel(false));
+    }
+  }
+
+  private EncodedRecord encode(NistRecord nistRecord) {
+    EncodedRecord encodedRecord = new EncodedRecord();
+    recordCodecRegistry.get(nistRecord.getRecordId()).write(encodedRecord, nistRecord);
+    return encodedRecord;
+  }
+
+  private ForkJoinPool getForkJoinPool() {
+    ForkJoinPool pool = forkJoinPool;
+    if (pool == null) {
+      synchronized (this) {
+        pool = forkJoinPool;
+        if (pool == null) {
+          pool = new ForkJoinPool(nistOptions.getWriteParallelism());
+          forkJoinPool = pool;
+        }
+      }
+    }
+    return pool;
+  }
+
+  /**
+   * Shut down the threads of the parallel writes once their tasks are done. A later parallel write
+   * starts a new pool.
+   */
+  @Override
+  public void close() {
+    ForkJoinPool pool;
+    synchronized (this) {
+      pool = forkJoinPool;
+      forkJoinPool = null;
+    }
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  private List<NistRecord> getRecordsInWriteOrder(NistFile nistFile) {
+    // R1
+    if (isEmpty(nistFile.getRT1TransactionInformationRecord())) {
+      throw new InvalidFormatNist4jException("Record : " + RT1.getLabel() + " must be present");
+    }
+    List<NistRecord> records = new ArrayList<>();
+    records.add(nistFile.getRT1TransactionInformationRecord());
+
+    // The write order is based on CNT field 1.003
+    NistContentTable contentTable =
+        nistFile
+            .getContentTable()
+            .orElseThrow(
+                () -> new InvalidFormatNist4jException("Missing CNT field on RT1 code '1.003'"));
+
+    for (int i = 0; i < contentTable.size(); i++) {
+      final int recordId = contentTable.getRecordType(i);
+      final Integer idcId = contentTable.getIdc(i);
+      final RecordTypeEnum recordType = RecordTypeEnum.findByRecordId(recordId);
+      if (recordType != RT1) {
+        final NistRecord nistRecord =
+            nistFile
+                .getRecordByTypeAndIdc(recordType, idcId)
+                .orElseThrow(
+                    () ->
+                        new ErrorEncodingNist4jException(
+                            format("Missing record %s with idc %s", recordId, idcId)));
+        records.add(nistRecord);
+      }
+    }
+    return records;
+  }
+
+  /**
+   * Open a writer emitting the NistFile record by record, the images can be given as streams.
+   *
+   * @param outputStream stream receiving the NistFile
+   * @param record1 RT1 declaring in its CNT field all the records to write, in the same order
+   */
+  public NistStreamWriter openStream(OutputStream outputStream, NistRecord record1)
+      throws Nist4jException {
+    if (outputStream == null) {
+      throw new ErrorEncodingNist4jException("outputStream is null");
+    }
+    if (record1 == null) {
+      throw new ErrorEncodingNist4jException("record1 is null");
+    }
+    return new NistStreamWriter(outputStream, this::writeRecord, nistOptions, record1);
+  }
+
+  /**
+   * Open a writer emitting the NistFile record by record, the images can be given as streams. The
+   * CNT field and the LEN of the RT1 are calculated at close from the records written.
+   *
+   * @param channel channel positioned where the NistFile has to be written, a file for instance
+   * @param record1 RT1 of the NistFile
+   */
+  public NistStreamWriter openStream(SeekableByteChannel channel, NistRecord record1)
+      throws Nist4jException {
+    if (channel == null) {
+      throw new ErrorEncodingNist4jException("channel is null");
+    }
+    if (record1 == null) {
+      throw new ErrorEncodingNist4jException("record1 is null");
+    }
+    return new NistStreamWriter(channel, this::writeRecord, nistOptions, record1);
+  }
+
+  /**
+   * Write the record with its codec, or copy its bytes as is when it was read from a file and not
+   * modified since
+   */
+  private void writeRecord(OutputStream outputStream, NistRecord nistRecord)
+      throws ErrorEncodingNist4jException {
+    Optional<ByteBuffer> rawBytes = nistRecord.getRawBytes();
+    if (rawBytes.isPresent()) {
+      ByteBuffer source = rawBytes.get();
+      WritableByteChannel channel = ChannelOutputStream.asChannel(outputStream);
+      try {
+        while (source.hasRemaining()) {
+          channel.write(source);
+        }
+      } catch (IOException e) {
+        log.error("Exception when writing the record {}", nistRecord.getRecordId(), e);
+        throw new ErrorEncodingNist4jException(e.getMessage());
+      }
+    } else {
+      recordCodecRegistry.get(nistRecord.getRecordId()).write(outputStream, nistRecord);
+    }
+  }
 }
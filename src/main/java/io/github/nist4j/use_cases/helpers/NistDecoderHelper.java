@@ -15,8 +15,15 @@
  */
 package io.github.nist4j.use_cases.helpers;
 
+import io.github.nist4j.entities.NistContentTable;
+import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.enums.CharsetEnum;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -34,6 +41,36 @@ public class NistDecoderHelper {
   public static final char[] TAG_SEP_COLN = {':', ':'};
   public static final char[] TAG_SEP_GSFS = {SEP_GS, SEP_FS};
 
+  /**
+   * Records 3 to 8 are binary records : their LEN is stored on the first 4 bytes. The others are
+   * tagged records starting with the field X.001:LEN
+   *
+   * @param recordType record type number
+   * @return true if the record type is a binary one
+   */
+  public static boolean isBinaryRecordType(int recordType) {
+    return recordType >= 3 && recordType <= 8;
+  }
+
+  /**
+   * @return the charset of the options, or the default charset when none is set
+   */
+  public static Charset getCharset(NistOptions nistOptions) {
+    Charset charset = nistOptions.getCharset();
+    return charset != null ? charset : CharsetEnum.DEFAULT.getCharset();
+  }
+
+  /**
+   * @return true if the charset encodes the ASCII characters on one byte, as ASCII does
+   */
+  public static boolean isAsciiCompatible(Charset charset) {
+    String name = charset.name();
+    return name.equals("US-ASCII")
+        || name.equals("UTF-8")
+        || name.startsWith("ISO-8859-")
+        || name.startsWith("windows-125");
+  }
+
   public static class Tag {
     public final int type;
     public final int field;
@@ -46,17 +83,103 @@ public class NistDecoderHelper {
 
   public static class Token {
 
-    public final byte[] buffer;
+    public final ByteBuffer buffer;
     public int pos;
 
-    public String header;
+    /** Content of the CNT field (1.003), set when the RT1 is read */
+    public NistContentTable contentTable;
+
     public int crt;
 
     public CharsetDecoder charsetDecoder;
 
+    private CharsetDecoder asciiCheckedDecoder;
+    private boolean isAsciiCompatible;
+
     public Token(byte[] buffer) {
-      this.buffer = buffer;
-      this.charsetDecoder = CharsetEnum.CP1256.getCharset().newDecoder();
+      this(buffer, CharsetEnum.CP1256.getCharset().newDecoder());
+    }
+
+    public Token(ByteBuffer buffer) {
+      this(buffer, CharsetEnum.CP1256.getCharset().newDecoder());
+    }
+
+    public Token(byte[] buffer, CharsetDecoder charsetDecoder) {
+      this(ByteBuffer.wrap(buffer), charsetDecoder);
+    }
+
+    /**
+     * The buffer is not copied : positions of the token are relative to the current position of
+     * the buffer, which can be a heap buffer or a mapped file.
+     */
+    public Token(ByteBuffer buffer, CharsetDecoder charsetDecoder) {
+      this.buffer = buffer.slice();
+      this.charsetDecoder = charsetDecoder;
+    }
+
+    /**
+     * @return a read-only view of the bytes between offset and offset + length, sharing the
+     *     content of the buffer
+     */
+    public ByteBuffer slice(int offset, int length) {
+      checkRange(offset, length);
+      ByteBuffer duplicate = buffer.duplicate();
+      ((Buffer) duplicate).limit(offset + length).position(offset);
+      return duplicate.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Decode the bytes between offset and offset + length. When they are all ASCII and the charset
+     * is ASCII compatible, the String is built directly from the bytes, the decoder is only used
+     * otherwise.
+     */
+    public String decode(int offset, int length) throws CharacterCodingException {
+      checkRange(offset, length);
+      if (hasAsciiCompatibleDecoder()) {
+        if (buffer.hasArray()) {
+          byte[] array = buffer.array();
+          int start = buffer.arrayOffset() + offset;
+          if (isAscii(array, start, length)) {
+            return new String(array, start, length, StandardCharsets.ISO_8859_1);
+          }
+        } else {
+          byte[] bytes = new byte[length];
+          ByteBuffer duplicate = buffer.duplicate();
+          ((Buffer) duplicate).position(offset);
+          duplicate.get(bytes);
+          if (isAscii(bytes, 0, length)) {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+          }
+        }
+      }
+      return String.valueOf(charsetDecoder.decode(slice(offset, length)));
+    }
+
+    private void checkRange(int offset, int length) {
+      if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+        throw new IndexOutOfBoundsException(
+            "Slice [" + offset + ", " + (offset + length) + "[ out of buffer " + buffer.limit());
+      }
+    }
+
+    /**
+     * @return true when the ASCII bytes are decoded by the current decoder as the same characters
+     */
+    public boolean hasAsciiCompatibleDecoder() {
+      if (asciiCheckedDecoder != charsetDecoder) {
+        isAsciiCompatible = isAsciiCompatible(charsetDecoder.charset());
+        asciiCheckedDecoder = charsetDecoder;
+      }
+      return isAsciiCompatible;
+    }
+
+    private static boolean isAscii(byte[] bytes, int offset, int length) {
+      for (int i = offset; i < offset + length; i++) {
+        if (bytes[i] < 0) {
+          return false;
+        }
+      }
+      return true;
     }
 
     // directory of charset.
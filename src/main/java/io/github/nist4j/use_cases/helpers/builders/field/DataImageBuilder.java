@@ -19,6 +19,7 @@ import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.entities.field.DataBuilder;
 import io.github.nist4j.entities.field.DataImage;
 import io.github.nist4j.entities.field.impl.DataImageImmutableImpl;
+import java.nio.ByteBuffer;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,25 +28,45 @@ public class DataImageBuilder extends AbstractDataBuilder<DataImage, byte[]>
     implements DataBuilder<DataImage, byte[]> {
 
   private byte[] imageData;
+  private ByteBuffer imageBuffer;
 
   @Override
   public DataImageImmutableImpl build() {
+    if (imageBuffer != null) {
+      return new DataImageImmutableImpl(imageBuffer);
+    }
     return new DataImageImmutableImpl(this);
   }
 
   @Override
   public DataBuilder from(@NonNull DataImage dataImage) {
-    return new DataImageBuilder().withValue(dataImage.getData());
+    return new DataImageBuilder().withBuffer(dataImage.asReadOnlyBuffer());
   }
 
   @Override
   public DataBuilder withValue(byte[] value) {
     this.imageData = value;
+    this.imageBuffer = null;
+    return this;
+  }
+
+  /**
+   * Use the remaining bytes of the buffer as image without copying them (a slice of a mapped file
+   * for instance). The content of the buffer must not be modified afterward.
+   */
+  public DataImageBuilder withBuffer(@NonNull ByteBuffer value) {
+    this.imageBuffer = value;
+    this.imageData = null;
     return this;
   }
 
   @Override
   public byte[] getValue() {
+    if (imageBuffer != null) {
+      byte[] value = new byte[imageBuffer.remaining()];
+      imageBuffer.duplicate().get(value);
+      return value;
+    }
     return imageData;
   }
 
@@ -24,11 +24,21 @@ import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 import io.github.nist4j.entities.NistFile;
 import io.github.nist4j.entities.NistFileBuilder;
 import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
 import io.github.nist4j.entities.impl.NistFileImmutableImpl;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.impl.RecordIdcIndex;
 import io.github.nist4j.entities.record.Callback;
 import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.entities.record.NistRecordBuilder;
+import io.github.nist4j.enums.CharsetEnum;
 import io.github.nist4j.enums.RecordTypeEnum;
 import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
+import io.github.nist4j.use_cases.helpers.builders.records.DefaultNistTextRecordBuilderImpl;
+import java.nio.ByteBuffer;
 import java.util.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -40,6 +50,15 @@ import lombok.extern.slf4j.Slf4j;
 public final class NistFileBuilderImpl implements NistFileBuilder {
 
   public static final String IDC_NOT_FOUND = "";
+
+  /** Options of the copies of the records, which keep their fields as is */
+  private static final NistOptions OPTIONS_FOR_COPY =
+      NistOptionsImpl.builder()
+          .isCalculateLENOnBuild(false)
+          .isCalculateCNTOnBuild(false)
+          .charset(CharsetEnum.DEFAULT.getCharset())
+          .build();
+
   private final NistOptions nistOptions;
 
   @Getter(AccessLevel.PUBLIC)
@@ -48,6 +67,13 @@ public final class NistFileBuilderImpl implements NistFileBuilder {
   private List<Callback<NistFileBuilder>> beforeBuild;
   private List<Callback<NistFile>> afterBuild;
 
+  @Getter(AccessLevel.NONE)
+  private Runnable onClose;
+
+  /** Index of the records, kept up to date by each change of the records through this builder */
+  @Getter(AccessLevel.NONE)
+  private final RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+
   public NistFileBuilderImpl(
       @NonNull NistOptions nistOptions,
       @NonNull List<Callback<NistFileBuilder>> beforeBuildCallbacks,
@@ -77,6 +103,9 @@ public final class NistFileBuilderImpl implements NistFileBuilder {
       }
       records.add(nistRecord);
     }
+    if (recordType != RT1) {
+      recordIdcIndex.add(recordType, nistRecord);
+    }
     return this;
   }
 
@@ -90,17 +119,43 @@ public final class NistFileBuilderImpl implements NistFileBuilder {
     return nistFile;
   }
 
+  @Override
+  public NistFileBuilder withOnClose(@NonNull Runnable onClose) {
+    this.onClose = onClose;
+    return this;
+  }
+
+  @Override
+  public Optional<Runnable> getOnClose() {
+    return Optional.ofNullable(onClose);
+  }
+
+  /**
+   * Inject a mutable copy of the records of the NistFile. The records of a NistFile {@link
+   * NistFile#isReleasedOnClose() released on close} are copied in the heap, so that the NistFile
+   * built doesn't share its buffers.
+   */
   @Override
   public NistFileBuilder from(NistFile nistFile) {
     this.mapOfAllRecords.clear();
-    // inject a mutable copy of NistFile's records
-    this.mapOfAllRecords.putAll(new TreeMap<>(nistFile.getMapOfAllrecords()));
+    boolean isCopiedToHeap = nistFile.isReleasedOnClose();
+    nistFile
+        .getMapOfAllrecords()
+        .forEach(
+            (recordType, records) -> {
+              List<NistRecord> copies = new ArrayList<>(records.size());
+              records.forEach(r -> copies.add(isCopiedToHeap ? copyToHeap(r) : r));
+              mapOfAllRecords.put(recordType, copies);
+            });
+    recordIdcIndex.clear();
+    mapOfAllRecords.forEach(recordIdcIndex::reindex);
     return this;
   }
 
   @Override
   public NistFileBuilder removeRecord(RecordTypeEnum recordType) {
     mapOfAllRecords.remove(recordType);
+    recordIdcIndex.remove(recordType);
     return this;
   }
 
@@ -111,11 +166,13 @@ public final class NistFileBuilderImpl implements NistFileBuilder {
       if (RT1.equals(recordType)) {
         mapOfAllRecords.remove(recordType);
       } else {
-        findRecordIndexByIdc(records, idcId).ifPresent(i -> records.remove(i.intValue()));
-        if (records.isEmpty()) {
-          mapOfAllRecords.remove(recordType);
-        } else {
-          mapOfAllRecords.put(recordType, records);
+        Optional<Integer> recordIndexFound = findIndexedRecordIndex(records, recordType, idcId);
+        if (recordIndexFound.isPresent()) {
+          records.remove(recordIndexFound.get().intValue());
+          if (records.isEmpty()) {
+            mapOfAllRecords.remove(recordType);
+          }
+          recordIdcIndex.remove(recordType, idcId, records);
         }
       }
     }
@@ -151,47 +208,74 @@ public final class NistFileBuilderImpl implements NistFileBuilder {
     if (RT1.equals(recordType)) {
       return Optional.ofNullable(records.get(0));
     }
-    return findRecordIndexByIdc(records, idcId).map(records::get);
+    return recordIdcIndex.get(recordType, idcId);
   }
 
   @Override
   public NistFileBuilder replaceRecord(
       @NonNull RecordTypeEnum recordType, @NonNull Integer idcId, @NonNull NistRecord newRecord) {
-    final List<NistRecord> originalRecords = mapOfAllRecords.get(recordType);
-    final List<NistRecord> resultRecords = new ArrayList<>();
-    final String idcIdStr = String.valueOf(idcId);
-
     if (RT1.equals(recordType)) {
+      List<NistRecord> resultRecords = new ArrayList<>();
       resultRecords.add(newRecord);
-    } else {
-      Optional<Integer> recordIdFound = findRecordIndexByIdc(originalRecords, idcId);
-      if (!recordIdFound.isPresent()) {
-        throw new Nist4jException(format("Record with idc %s not found", idcId));
-      } else {
-        for (int i = 0; i < originalRecords.size(); i++) {
-          if (i == recordIdFound.get()) {
-            if (!newRecord.getFieldText(IDC).isPresent()
-                || !idcIdStr.equals(newRecord.getFieldText(IDC).get())) {
-              throw new Nist4jException(format("IDC Field must be set to %s in newRecord", idcId));
-            }
-            resultRecords.add(newRecord);
-          } else {
-            resultRecords.add(originalRecords.get(i));
-          }
-        }
-      }
+      mapOfAllRecords.put(recordType, resultRecords);
+      return this;
+    }
+    List<NistRecord> records = mapOfAllRecords.get(recordType);
+    Optional<Integer> recordIndexFound = findIndexedRecordIndex(records, recordType, idcId);
+    if (!recordIndexFound.isPresent()) {
+      throw new Nist4jException(format("Record with idc %s not found", idcId));
+    }
+    if (!newRecord.getFieldText(IDC).isPresent()
+        || !idcId.equals(RecordIdcIndex.idcOf(newRecord))) {
+      throw new Nist4jException(format("IDC Field must be set to %s in newRecord", idcId));
     }
-    mapOfAllRecords.put(recordType, resultRecords);
+    records.set(recordIndexFound.get(), newRecord);
+    recordIdcIndex.replace(recordType, idcId, newRecord);
     return this;
   }
 
+  /**
+   * Find the position of the record through the index, by reference rather than by parsing the
+   * IDC of each record. The records are scanned when the lists were changed out of the builder.
+   */
+  private Optional<Integer> findIndexedRecordIndex(
+      List<NistRecord> records, RecordTypeEnum recordType, Integer idcId) {
+    Optional<NistRecord> recordFound = recordIdcIndex.get(recordType, idcId);
+    if (isEmpty(records) || !recordFound.isPresent()) {
+      return Optional.empty();
+    }
+    for (int i = 0; i < records.size(); i++) {
+      if (records.get(i) == recordFound.get()) {
+        return Optional.of(i);
+      }
+    }
+    return findRecordIndexByIdc(records, idcId);
+  }
+
+  /**
+   * Copy the images and the text fields not decoded, the record is written back field by field
+   */
+  private static NistRecord copyToHeap(NistRecord record) {
+    NistRecordBuilder recordBuilder =
+        DefaultNistTextRecordBuilderImpl.newRecordBuilder(OPTIONS_FOR_COPY, record.getRecordId())
+            .from(record);
+    for (Map.Entry<Integer, Data> field : record.getFields().entrySet()) {
+      if (field.getValue() instanceof DataImage) {
+        byte[] image = ((DataImage) field.getValue()).getData();
+        recordBuilder.withField(
+            field.getKey(), new DataImageBuilder().withBuffer(ByteBuffer.wrap(image)).build());
+      } else if (field.getValue() instanceof DataTextLazyImpl) {
+        recordBuilder.withField(field.getKey(), ((DataTextLazyImpl) field.getValue()).copyToHeap());
+      }
+    }
+    return recordBuilder.buildTransferringOwnership();
+  }
+
   protected Optional<Integer> findRecordIndexByIdc(
       @NonNull List<NistRecord> records, @NonNull Integer idcId) {
-    final String idcIdStr = String.valueOf(idcId);
     if (!isEmpty(records)) {
       for (int i = 0; i < records.size(); i++) {
-        final String idcValueFound = records.get(i).getFieldText(IDC).orElse(IDC_NOT_FOUND);
-        if (idcIdStr.equals(idcValueFound)) {
+        if (idcId.equals(RecordIdcIndex.idcOf(records.get(i)))) {
           return Optional.of(i);
         }
       }
@@ -24,7 +24,10 @@ import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.entities.record.impl.DefaultRecordImmutableImpl;
 import io.github.nist4j.enums.records.interfaces.IFieldTypeEnum;
+import io.github.nist4j.exceptions.Nist4jException;
+import java.nio.ByteBuffer;
 import java.util.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
@@ -42,6 +45,12 @@ public class AbstractNistRecordBuilderImpl implements NistRecordBuilder {
   private List<Callback<NistRecordBuilder>> beforeBuild;
   private List<Callback<NistRecord>> afterBuild;
 
+  @Getter(AccessLevel.NONE)
+  private ByteBuffer rawBytes;
+
+  @Getter(AccessLevel.NONE)
+  private boolean isOwnershipTransferred;
+
   public AbstractNistRecordBuilderImpl(
       @NonNull NistOptions nistOptions,
       @NonNull Integer recordId,
@@ -58,16 +67,20 @@ public class AbstractNistRecordBuilderImpl implements NistRecordBuilder {
 
   @Override
   public NistRecordBuilder from(NistRecord record) {
+    checkOwnership();
     // Copy immutable to mutable map
     TreeMap<Integer, Data> mutableFields = new TreeMap<>(record.getFields());
     this.fields.clear(); // Clear actual data with new
     this.fields.putAll(mutableFields);
+    this.rawBytes = null;
     return this;
   }
 
   @Override
   public NistRecordBuilder withField(@NonNull Integer fieldTypeId, @NonNull Data data) {
+    checkOwnership();
     fields.put(fieldTypeId, data);
+    this.rawBytes = null;
     return this;
   }
 
@@ -83,20 +96,52 @@ public class AbstractNistRecordBuilderImpl implements NistRecordBuilder {
 
   @Override
   public NistRecordBuilder removeField(@NonNull Integer fieldId) {
+    checkOwnership();
     this.fields.remove(fieldId);
+    this.rawBytes = null;
     return this;
   }
 
+  @Override
+  public NistRecordBuilder withRawBytes(@NonNull ByteBuffer rawBytes) {
+    checkOwnership();
+    this.rawBytes = rawBytes;
+    return this;
+  }
+
+  @Override
+  public Optional<ByteBuffer> getRawBytes() {
+    return Optional.ofNullable(rawBytes);
+  }
+
   @Override
   public NistRecord build() {
+    return build(false);
+  }
+
+  @Override
+  public NistRecord buildTransferringOwnership() {
+    return build(true);
+  }
+
+  private NistRecord build(boolean isTransferringOwnership) {
+    checkOwnership();
     this.beforeBuild.forEach(callback -> callback.execute(this));
 
-    NistRecord nistRecord = new DefaultRecordImmutableImpl(this.recordId, this);
+    NistRecord nistRecord =
+        new DefaultRecordImmutableImpl(this.recordId, this, isTransferringOwnership);
+    this.isOwnershipTransferred = isTransferringOwnership;
 
     this.afterBuild.forEach(callback -> callback.execute(nistRecord));
     return nistRecord;
   }
 
+  private void checkOwnership() {
+    if (isOwnershipTransferred) {
+      throw new Nist4jException("The fields of this builder were transferred to a record");
+    }
+  }
+
   @Override
   public NistRecordBuilder withBeforeBuild(@NonNull Callback<NistRecordBuilder> callback) {
     if (isEmpty(this.beforeBuild)) {
@@ -118,6 +163,6 @@ public class AbstractNistRecordBuilderImpl implements NistRecordBuilder {
   @Override
   public NistRecordBuilder newBuilder() {
     return new AbstractNistRecordBuilderImpl(
-        nistOptions, recordId, recordName, new TreeMap<>(), beforeBuild, afterBuild);
+        nistOptions, recordId, recordName, new TreeMap<>(), beforeBuild, afterBuild, null, false);
   }
 }
@@ -19,17 +19,26 @@ import static java.lang.String.format;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.field.DataText;
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import java.nio.charset.Charset;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
 @Slf4j
 public class FieldLENRecordTextCalculator {
 
   private final NistOptions nistOptions;
+  private final Charset charset;
+  private final boolean isAsciiCompatible;
+
+  public FieldLENRecordTextCalculator(NistOptions nistOptions) {
+    this.nistOptions = nistOptions;
+    this.charset = NistDecoderHelper.getCharset(nistOptions);
+    this.isAsciiCompatible = NistDecoderHelper.isAsciiCompatible(charset);
+  }
 
   public int calculateLength(NistRecordBuilder nistRecordBuilder) {
     final int defaultPrefixLength = calculatePrefixLength(nistRecordBuilder.getRecordId());
@@ -38,7 +47,7 @@ public class FieldLENRecordTextCalculator {
     final int allFieldsLengthWithoutLEN =
         fields.entrySet().stream()
             .filter(e -> e.getKey() != 1)
-            .mapToInt(e -> e.getValue().getLength())
+            .mapToInt(e -> calculateFieldLength(e.getValue()))
             .map(len -> len + defaultPrefixLength)
             .sum();
 
@@ -54,8 +63,36 @@ public class FieldLENRecordTextCalculator {
     return allFieldslengthWithLEN;
   }
 
+  /**
+   * @return the number of bytes of the value of a field once written : the text is encoded with
+   *     the charset of the options, the fields read from a file and the images are written as is
+   */
+  public int calculateFieldLength(Data data) {
+    if (data instanceof DataTextLazyImpl) {
+      return ((DataTextLazyImpl) data).getByteLength();
+    } else if (data instanceof DataText) {
+      return calculateTextLength(((DataText) data).getData());
+    } else {
+      return data.getLength();
+    }
+  }
+
   public int calculatePrefixLength(Integer recordId) {
     // <GS>14.001:
     return format("%s%s.001:", NistDecoderHelper.SEP_GS, recordId).length();
   }
+
+  private int calculateTextLength(String text) {
+    if (isAsciiCompatible) {
+      int i = 0;
+      while (i < text.length() && text.charAt(i) < 0x80) {
+        i++;
+      }
+      if (i == text.length()) {
+        // One byte per character
+        return i;
+      }
+    }
+    return text.getBytes(charset).length;
+  }
 }
@@ -16,6 +16,7 @@
 package io.github.nist4j.use_cases.helpers.converters;
 
 import io.github.nist4j.entities.NistOptions;
+import java.nio.ByteBuffer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +33,10 @@ public class LongTo2BytesConverter {
     return (0xffL & byte1) << 8 | (0xffL & byte2);
   }
 
+  public static long from2Bytes(ByteBuffer buffer, int offset) {
+    return 0xffffL & buffer.getShort(offset);
+  }
+
   public static byte[] to2Bytes(long value) {
     return new byte[] {(byte) (value >> 8), (byte) value};
   }
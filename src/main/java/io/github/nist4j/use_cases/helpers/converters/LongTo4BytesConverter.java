@@ -16,6 +16,7 @@
 package io.github.nist4j.use_cases.helpers.converters;
 
 import io.github.nist4j.entities.NistOptions;
+import java.nio.ByteBuffer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,6 +35,10 @@ public class LongTo4BytesConverter {
     return (0xffL & byte1) << 24 | (0xffL & byte2) << 16 | (0xffL & byte3) << 8 | (0xffL & byte4);
   }
 
+  public static long from4Bytes(ByteBuffer buffer, int offset) {
+    return 0xffffffffL & buffer.getInt(offset);
+  }
+
   public static byte[] to4Bytes(long value) {
     return new byte[] {
       (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value
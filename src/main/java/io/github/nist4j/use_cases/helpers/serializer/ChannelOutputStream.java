@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import lombok.NonNull;
+
+/**
+ * Output of the record writers on a channel.
+ * <br/>
+ * The small writes of the headers and text fields are gathered in a buffer, while the images are
+ * written from their own buffer : a mapped or direct image is written to the channel without being
+ * copied in the heap, in the same gathering write as the header preceding it.
+ */
+public class ChannelOutputStream extends OutputStream implements WritableByteChannel {
+
+  private static final int HEADER_BUFFER_SIZE = 8 * 1024;
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer header = ByteBuffer.allocate(HEADER_BUFFER_SIZE);
+  private final ByteBuffer[] gather = new ByteBuffer[2];
+  private boolean isOpen = true;
+
+  public ChannelOutputStream(@NonNull WritableByteChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * @return the stream itself when it is a channel, so that the images written to it are not
+   *     copied in an intermediate array
+   */
+  public static WritableByteChannel asChannel(@NonNull OutputStream outputStream) {
+    if (outputStream instanceof WritableByteChannel) {
+      return (WritableByteChannel) outputStream;
+    }
+    return Channels.newChannel(outputStream);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    checkOpen();
+    if (!header.hasRemaining()) {
+      flushHeader();
+    }
+    header.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    checkOpen();
+    if (length > header.remaining()) {
+      flushHeader();
+      if (length > header.capacity()) {
+        writeFully(ByteBuffer.wrap(bytes, offset, length));
+        return;
+      }
+    }
+    header.put(bytes, offset, length);
+  }
+
+  /**
+   * Write the buffered header then the bytes of the source, in a single gathering write when the
+   * channel supports it
+   */
+  @Override
+  public int write(ByteBuffer source) throws IOException {
+    checkOpen();
+    int count = source.remaining();
+    ((Buffer) header).flip();
+    if (channel instanceof GatheringByteChannel) {
+      gather[0] = header;
+      gather[1] = source;
+      while (header.hasRemaining() || source.hasRemaining()) {
+        ((GatheringByteChannel) channel).write(gather);
+      }
+      gather[1] = null;
+    } else {
+      writeFully(header);
+      writeFully(source);
+    }
+    ((Buffer) header).clear();
+    return count;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    checkOpen();
+    flushHeader();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return isOpen && channel.isOpen();
+  }
+
+  /**
+   * Flush the buffered header and close the channel
+   */
+  @Override
+  public void close() throws IOException {
+    if (isOpen) {
+      try {
+        flushHeader();
+      } finally {
+        isOpen = false;
+        channel.close();
+      }
+    }
+  }
+
+  private void flushHeader() throws IOException {
+    ((Buffer) header).flip();
+    writeFully(header);
+    ((Buffer) header).clear();
+  }
+
+  private void writeFully(ByteBuffer source) throws IOException {
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  private void checkOpen() throws ClosedChannelException {
+    if (!isOpen) {
+      throw new ClosedChannelException();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record encoded by a {@link RecordWriter} ahead of its write, to encode the records of a NistFile
+ * in parallel and write them in order afterward.
+ * <br/>
+ * Only the headers and text fields are copied : the read-only buffers of the images are kept as is
+ * and written from their own buffer, so that the images are not duplicated in the heap. The
+ * writable buffers, which the writer may reuse, are copied.
+ */
+public class EncodedRecord extends OutputStream implements WritableByteChannel {
+
+  private final List<ByteBuffer> segments = new ArrayList<>();
+  private final ByteArrayOutputStream text = new ByteArrayOutputStream();
+
+  @Override
+  public void write(int b) {
+    text.write(b);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    text.write(bytes, offset, length);
+  }
+
+  @Override
+  public int write(ByteBuffer source) {
+    int count = source.remaining();
+    endText();
+    if (source.isReadOnly()) {
+      segments.add(source.slice());
+      ((Buffer) source).position(source.limit());
+    } else {
+      ByteBuffer copy = ByteBuffer.allocate(count);
+      copy.put(source);
+      segments.add((ByteBuffer) ((Buffer) copy).flip());
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release : the segments are kept until the record is written
+  }
+
+  /**
+   * Write the record, the images from their own buffer when the stream is a channel
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    endText();
+    WritableByteChannel channel = ChannelOutputStream.asChannel(outputStream);
+    for (ByteBuffer segment : segments) {
+      ByteBuffer source = segment.duplicate();
+      while (source.hasRemaining()) {
+        channel.write(source);
+      }
+    }
+  }
+
+  private void endText() {
+    if (text.size() > 0) {
+      segments.add(ByteBuffer.wrap(text.toByteArray()));
+      text.reset();
+    }
+  }
+}
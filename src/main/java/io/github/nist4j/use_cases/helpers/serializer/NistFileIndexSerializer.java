@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.index.impl.NistFileIndexImpl;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary format of the index of a file of NistFiles : a header, then the transactions, then the
+ * records, all numbers being big-endian.
+ *
+ * <pre>
+ * header      : magic "N4JX", version (int), transaction count (int), record count (int)
+ * transaction : offset (long), length (long), first record (int), DCS (boolean + UTF)
+ * record      : type (unsigned byte), IDC (int), offset (long), length (int)
+ * </pre>
+ */
+@Slf4j
+public class NistFileIndexSerializer {
+
+  private static final int MAGIC = 0x4e344a58;
+  private static final int VERSION = 1;
+
+  public void write(OutputStream outputStream, NistFileIndexImpl index)
+      throws ErrorEncodingNist4jException {
+    try {
+      DataOutputStream out = new DataOutputStream(outputStream);
+      int transactionCount = index.getTransactionCount();
+      int recordCount = index.getRecordTypes().length;
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(transactionCount);
+      out.writeInt(recordCount);
+      for (int t = 0; t < transactionCount; t++) {
+        out.writeLong(index.getTransactionOffsets()[t]);
+        out.writeLong(index.getTransactionLengths()[t]);
+        out.writeInt(index.getFirstRecords()[t]);
+        String dcs = index.getDcs()[t];
+        out.writeBoolean(dcs != null);
+        if (dcs != null) {
+          out.writeUTF(dcs);
+        }
+      }
+      for (int r = 0; r < recordCount; r++) {
+        out.writeByte(index.getRecordTypes()[r]);
+        out.writeInt(index.getIdcs()[r]);
+        out.writeLong(index.getRecordOffsets()[r]);
+        out.writeInt((int) index.getRecordLengths()[r]);
+      }
+      out.flush();
+    } catch (IOException e) {
+      log.error("Error while writing the index", e);
+      throw new ErrorEncodingNist4jException(e.getMessage());
+    }
+  }
+
+  public NistFileIndexImpl read(InputStream inputStream) throws ErrorDecodingNist4jException {
+    try {
+      DataInputStream in = new DataInputStream(inputStream);
+      if (in.readInt() != MAGIC) {
+        throw new ErrorDecodingNist4jException("Decoding index - Not an index of NistFiles");
+      }
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new ErrorDecodingNist4jException(
+            format("Decoding index - Unsupported version %s", version));
+      }
+      int transactionCount = in.readInt();
+      int recordCount = in.readInt();
+      if (transactionCount < 0 || recordCount < 0) {
+        throw new ErrorDecodingNist4jException("Decoding index - Invalid header");
+      }
+
+      long[] transactionOffsets = new long[transactionCount];
+      long[] transactionLengths = new long[transactionCount];
+      String[] dcs = new String[transactionCount];
+      int[] firstRecords = new int[transactionCount + 1];
+      for (int t = 0; t < transactionCount; t++) {
+        transactionOffsets[t] = in.readLong();
+        transactionLengths[t] = in.readLong();
+        firstRecords[t] = in.readInt();
+        dcs[t] = in.readBoolean() ? in.readUTF() : null;
+      }
+      firstRecords[transactionCount] = recordCount;
+
+      int[] recordTypes = new int[recordCount];
+      int[] idcs = new int[recordCount];
+      long[] recordOffsets = new long[recordCount];
+      long[] recordLengths = new long[recordCount];
+      for (int r = 0; r < recordCount; r++) {
+        recordTypes[r] = in.readUnsignedByte();
+        idcs[r] = in.readInt();
+        recordOffsets[r] = in.readLong();
+        recordLengths[r] = in.readInt() & 0xffffffffL;
+      }
+      return new NistFileIndexImpl(
+          transactionOffsets,
+          transactionLengths,
+          dcs,
+          firstRecords,
+          recordTypes,
+          idcs,
+          recordOffsets,
+          recordLengths);
+    } catch (IOException | IllegalArgumentException e) {
+      log.error("Error while reading the index", e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+}
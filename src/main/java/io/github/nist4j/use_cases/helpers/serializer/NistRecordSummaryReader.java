@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.entities.summary.impl.NistRecordSummaryImpl;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.converters.ByteToStringConverter;
+import io.github.nist4j.use_cases.helpers.converters.LongToStringConverter;
+import io.github.nist4j.use_cases.helpers.converters.SubFieldToStringConverter;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read the summary of a record from its first bytes, without building a NistRecord. Binary records
+ * are read at the fixed offsets of their fields, tagged records up to their field FGP (X.013).
+ */
+@Slf4j
+public class NistRecordSummaryReader {
+
+  /** Number of bytes of a record holding the fields of its summary */
+  public static final int HEAD_LENGTH = 512;
+
+  private static final int FIELD_IDC = 2;
+  private static final int FIELD_IMP = 3;
+  private static final int FIELD_CGA = 11;
+  private static final int FIELD_FGP = 13;
+  private static final int FGP_BINARY_SIZE = 6;
+  private static final int OFFSET_IDC = 4;
+  private static final int OFFSET_IMP = 5;
+  private static final int OFFSET_FGP = 6;
+  private static final int OFFSET_GCA = 17;
+  private static final int OFFSET_RT7_GCA = 32;
+
+  private final LongToStringConverter longToStringConverter;
+  private final ByteToStringConverter byteToStringConverter;
+
+  public NistRecordSummaryReader(@NonNull NistOptions nistOptions) {
+    this.longToStringConverter = new LongToStringConverter(nistOptions);
+    this.byteToStringConverter = new ByteToStringConverter(nistOptions);
+  }
+
+  /**
+   * @param token first bytes of the record, see {@link NistStreamReader#nextTokenHead(int)}
+   * @param offset offset of the record from the beginning of the RT1
+   * @param length size in bytes of the record
+   */
+  public NistRecordSummary read(NistDecoderHelper.Token token, long offset, long length)
+      throws ErrorDecodingNist4jException {
+    NistRecordSummaryImpl.NistRecordSummaryImplBuilder builder =
+        NistRecordSummaryImpl.builder().recordType(token.crt).offset(offset).length(length);
+    switch (token.crt) {
+      case 3:
+      case 4:
+      case 5:
+      case 6:
+        readImageBinaryFields(token, builder);
+        break;
+      case 7:
+        readByte(token, OFFSET_IDC).ifPresent(v -> builder.idc(longToStringConverter.toString(v)));
+        readByte(token, OFFSET_RT7_GCA)
+            .ifPresent(v -> builder.cga(byteToStringConverter.toString(v)));
+        break;
+      case 8:
+        readByte(token, OFFSET_IDC).ifPresent(v -> builder.idc(longToStringConverter.toString(v)));
+        break;
+      case 13:
+      case 14:
+      case 15:
+        readTaggedFields(token, builder, FIELD_FGP);
+        break;
+      default:
+        readTaggedFields(token, builder, FIELD_IDC);
+    }
+    return builder.build();
+  }
+
+  private void readImageBinaryFields(
+      NistDecoderHelper.Token token, NistRecordSummaryImpl.NistRecordSummaryImplBuilder builder) {
+    readByte(token, OFFSET_IDC).ifPresent(v -> builder.idc(longToStringConverter.toString(v)));
+    readByte(token, OFFSET_IMP).ifPresent(v -> builder.imp(longToStringConverter.toString(v)));
+    List<String> fgpItems = new ArrayList<>(FGP_BINARY_SIZE);
+    for (int i = 0; i < FGP_BINARY_SIZE; i++) {
+      readByte(token, OFFSET_FGP + i)
+          .ifPresent(v -> fgpItems.add(byteToStringConverter.toString(v)));
+    }
+    builder.fgp(SubFieldToStringConverter.fromItems(fgpItems));
+    readByte(token, OFFSET_GCA).ifPresent(v -> builder.cga(byteToStringConverter.toString(v)));
+  }
+
+  private OptionalInt readByte(NistDecoderHelper.Token token, int offset) {
+    return token.pos + offset < token.buffer.limit()
+        ? OptionalInt.of(token.buffer.get(token.pos + offset))
+        : OptionalInt.empty();
+  }
+
+  /**
+   * Read the tagged fields in the order of the record, up to lastField or up to the end of the
+   * token
+   */
+  private void readTaggedFields(
+      NistDecoderHelper.Token token,
+      NistRecordSummaryImpl.NistRecordSummaryImplBuilder builder,
+      int lastField)
+      throws ErrorDecodingNist4jException {
+    ByteBuffer buffer = token.buffer;
+    int limit = buffer.limit();
+    int pos = token.pos;
+    while (pos < limit) {
+      while (pos < limit && buffer.get(pos) != '.') {
+        pos++;
+      }
+      int field = 0;
+      while (++pos < limit && buffer.get(pos) != ':') {
+        int digit = buffer.get(pos) - '0';
+        if (digit < 0 || digit > 9) {
+          throw new ErrorDecodingNist4jException(
+              format("Decoding NIST - Invalid tag in record type %s", token.crt));
+        }
+        field = field * 10 + digit;
+      }
+      if (field > lastField) {
+        return;
+      }
+      int start = ++pos;
+      while (pos < limit
+          && buffer.get(pos) != NistDecoderHelper.SEP_GS
+          && buffer.get(pos) != NistDecoderHelper.SEP_FS) {
+        pos++;
+      }
+      if (pos >= limit) {
+        // The value is truncated at the end of the head of the record
+        return;
+      }
+      setField(builder, field, decode(token, start, pos - start));
+      if (buffer.get(pos) == NistDecoderHelper.SEP_FS) {
+        return;
+      }
+      pos++;
+    }
+  }
+
+  private void setField(
+      NistRecordSummaryImpl.NistRecordSummaryImplBuilder builder, int field, String value) {
+    switch (field) {
+      case FIELD_IDC:
+        builder.idc(value);
+        break;
+      case FIELD_IMP:
+        builder.imp(value);
+        break;
+      case FIELD_CGA:
+        builder.cga(value);
+        break;
+      case FIELD_FGP:
+        builder.fgp(value);
+        break;
+      default:
+        // Not in the summary
+    }
+  }
+
+  private String decode(NistDecoderHelper.Token token, int offset, int length)
+      throws ErrorDecodingNist4jException {
+    try {
+      return token.decode(offset, length);
+    } catch (CharacterCodingException e) {
+      log.error("Exception when reading the summary of record {}", token.crt, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+}
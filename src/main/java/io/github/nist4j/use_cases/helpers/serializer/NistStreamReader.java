@@ -0,0 +1,806 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistBufferPool;
+import io.github.nist4j.entities.NistReadProjection;
+import io.github.nist4j.entities.impl.NistReadProjectionImpl;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.converters.LongTo4BytesConverter;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pull parser reading a NistFile record by record.
+ * <br/>
+ * The RT1 is read first, then each record listed in its CNT field (1.003) is read using its own
+ * LEN, so only one record is held in memory at a time. When the NistFile is already in a buffer
+ * (a mapped file for instance), records are decoded from slices of this buffer without copy.
+ */
+@Slf4j
+public class NistStreamReader implements Iterator<NistRecord>, Closeable {
+
+  private static final int TAG_HEADER_MAX_LENGTH = 32;
+  private static final int FIELD_DATA = 999;
+
+  private final RecordSource recordSource;
+  private final RecordReader recordReader;
+  private final NistReadProjection readProjection;
+  private final Deque<Integer> nextRecordTypes = new ArrayDeque<>();
+  private final byte[] header = new byte[TAG_HEADER_MAX_LENGTH];
+  private long taggedLength;
+  private long recordOffset;
+  private CharsetDecoder charsetDecoder;
+  private boolean isRT1Read = false;
+
+  /**
+   * @param inputStream stream positioned at the beginning of the RT1
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   */
+  public NistStreamReader(@NonNull InputStream inputStream, @NonNull RecordReader recordReader) {
+    this(inputStream, recordReader, NistReadProjectionImpl.ALL);
+  }
+
+  /**
+   * @param inputStream stream positioned at the beginning of the RT1
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   * @param readProjection records out of the projection are skipped without being read, as well as
+   *     the values of the fields 999 of the tagged records
+   */
+  public NistStreamReader(
+      @NonNull InputStream inputStream,
+      @NonNull RecordReader recordReader,
+      @NonNull NistReadProjection readProjection) {
+    this(inputStream, recordReader, readProjection, null);
+  }
+
+  /**
+   * @param inputStream stream positioned at the beginning of the RT1
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   * @param readProjection records out of the projection are skipped without being read, as well as
+   *     the values of the fields 999 of the tagged records
+   * @param bufferPool pool of the buffers of the large records, see {@link #getPooledBuffers()},
+   *     null to read all the records in the heap
+   */
+  public NistStreamReader(
+      @NonNull InputStream inputStream,
+      @NonNull RecordReader recordReader,
+      @NonNull NistReadProjection readProjection,
+      NistBufferPool bufferPool) {
+    this(inputStream, recordReader, readProjection, bufferPool, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * @param inputStream stream positioned at the beginning of the RT1
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   * @param readProjection records out of the projection are skipped without being read, as well as
+   *     the values of the fields 999 of the tagged records
+   * @param bufferPool pool of the buffers of the large records, see {@link #getPooledBuffers()},
+   *     null to read all the records in the heap
+   * @param spillThreshold length above which a record is written to a temporary file and mapped,
+   *     see {@link #getSpilledFiles()}
+   * @param spillDirectory directory of the temporary files, null for the default one
+   */
+  public NistStreamReader(
+      @NonNull InputStream inputStream,
+      @NonNull RecordReader recordReader,
+      @NonNull NistReadProjection readProjection,
+      NistBufferPool bufferPool,
+      int spillThreshold,
+      Path spillDirectory) {
+    this.recordSource =
+        new InputStreamRecordSource(inputStream, bufferPool, spillThreshold, spillDirectory);
+    this.recordReader = recordReader;
+    this.readProjection = readProjection;
+  }
+
+  /**
+   * @param buffer buffer positioned at the beginning of the RT1, it is not copied so it must not
+   *     be modified while the records are in use
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   */
+  public NistStreamReader(@NonNull ByteBuffer buffer, @NonNull RecordReader recordReader) {
+    this(buffer, recordReader, NistReadProjectionImpl.ALL);
+  }
+
+  /**
+   * @param buffer buffer positioned at the beginning of the RT1, it is not copied so it must not
+   *     be modified while the records are in use
+   * @param recordReader reader dispatching on {@link NistDecoderHelper.Token#crt}
+   * @param readProjection records out of the projection are skipped without being read, as well as
+   *     the values of the fields 999 of the tagged records
+   */
+  public NistStreamReader(
+      @NonNull ByteBuffer buffer,
+      @NonNull RecordReader recordReader,
+      @NonNull NistReadProjection readProjection) {
+    this.recordSource = new ByteBufferRecordSource(buffer);
+    this.recordReader = recordReader;
+    this.readProjection = readProjection;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!isRT1Read) {
+      return true;
+    }
+    for (int recordType : nextRecordTypes) {
+      if (readProjection.isRecordTypeIncluded(recordType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public NistRecord next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more record in the NistFile");
+    }
+    if (!isRT1Read) {
+      return readRT1();
+    }
+    NistDecoderHelper.Token token = nextToken();
+    log.debug("Parsing of record {}, length {}", token.crt, token.buffer.limit());
+    return recordReader.read(token);
+  }
+
+  /**
+   * Read the bytes of the next record without decoding it. The RT1 has to be read first with
+   * {@link #next()}, as its CNT field lists the following records.
+   *
+   * @return token of the next record, positioned at its beginning
+   */
+  public NistDecoderHelper.Token nextToken() {
+    if (!isRT1Read) {
+      throw new IllegalStateException("The RT1 has to be read first");
+    }
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more record in the NistFile");
+    }
+    while (!readProjection.isRecordTypeIncluded(nextRecordTypes.peek())) {
+      skipRecord(nextRecordTypes.poll());
+    }
+    return readToken(nextRecordTypes.poll(), charsetDecoder, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Read only the first bytes of the next record, the others are skipped without being copied.
+   * Useful to look at the fields at the beginning of a record without reading its image.
+   *
+   * @param maxLength maximum number of bytes of the record to read, the LEN field is always read
+   * @return token of the beginning of the next record, positioned at its beginning
+   */
+  public NistDecoderHelper.Token nextTokenHead(int maxLength) {
+    if (!isRT1Read) {
+      throw new IllegalStateException("The RT1 has to be read first");
+    }
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more record in the NistFile");
+    }
+    while (!readProjection.isRecordTypeIncluded(nextRecordTypes.peek())) {
+      skipRecord(nextRecordTypes.poll());
+    }
+    return readToken(nextRecordTypes.poll(), charsetDecoder, maxLength);
+  }
+
+  /**
+   * Skip all the records not read yet, whatever the read projection, so that the source is
+   * positioned at the end of the NistFile. The RT1 has to be read first with {@link #next()}.
+   */
+  public void skipRemaining() {
+    if (!isRT1Read) {
+      throw new IllegalStateException("The RT1 has to be read first");
+    }
+    while (!nextRecordTypes.isEmpty()) {
+      skipRecord(nextRecordTypes.poll());
+    }
+  }
+
+  /**
+   * @return offset in bytes, from the beginning of the RT1, of the last record read
+   */
+  public long getRecordOffset() {
+    return recordOffset;
+  }
+
+  /**
+   * @return number of bytes read from the beginning of the RT1, the end of the NistFile once all
+   *     the records are read
+   */
+  public long getPosition() {
+    return recordSource.position();
+  }
+
+  /**
+   * @return the buffers acquired from the pool for the records read so far. They are not released
+   *     by {@link #close()}, as the records keep using them.
+   */
+  public List<ByteBuffer> getPooledBuffers() {
+    return recordSource.getPooledBuffers();
+  }
+
+  /**
+   * @return the temporary files holding the records spilled to disk so far. They are not deleted
+   *     by {@link #close()}, as the records keep using them, but once their records are
+   *     unreachable.
+   */
+  public List<Path> getSpilledFiles() {
+    return recordSource.getSpilledFiles();
+  }
+
+  /**
+   * Delete a file of {@link #getSpilledFiles()} once its records are not used anymore. When it
+   * can't be deleted yet, it is deleted once its records are unreachable.
+   */
+  public static void deleteSpilledFile(Path spilledFile) {
+    SpilledFiles.delete(spilledFile);
+  }
+
+  @Override
+  public void close() throws IOException {
+    recordSource.close();
+  }
+
+  private NistRecord readRT1() {
+    NistDecoderHelper.Token token =
+        readToken(RecordTypeEnum.RT1.getNumber(), null, Integer.MAX_VALUE);
+    NistRecord nistRecord = recordReader.read(token);
+    isRT1Read = true;
+    charsetDecoder = token.charsetDecoder;
+
+    if (token.contentTable != null) {
+      for (int i = 0; i < token.contentTable.size(); i++) {
+        nextRecordTypes.add(token.contentTable.getRecordType(i));
+      }
+    }
+    return nistRecord;
+  }
+
+  private NistDecoderHelper.Token readToken(int recordType, CharsetDecoder decoder, int maxLength) {
+    try {
+      recordOffset = recordSource.position();
+      ByteBuffer buffer =
+          NistDecoderHelper.isBinaryRecordType(recordType)
+              ? readBinaryRecord(maxLength)
+              : readTaggedRecord(recordType, maxLength);
+      NistDecoderHelper.Token token =
+          decoder == null
+              ? new NistDecoderHelper.Token(buffer)
+              : new NistDecoderHelper.Token(buffer, decoder);
+      token.crt = recordType;
+      return token;
+    } catch (IOException e) {
+      log.error("Error while reading record {}", recordType, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  private void skipRecord(int recordType) {
+    log.debug("Skipping record {} out of the read projection", recordType);
+    try {
+      if (NistDecoderHelper.isBinaryRecordType(recordType)) {
+        byte[] lenBytes = readBinaryLength();
+        long length = LongTo4BytesConverter.from4Bytes(lenBytes, 0);
+        recordSource.skip(checkLength(length, lenBytes.length) - lenBytes.length);
+      } else {
+        int headerSize = readTaggedHeader(recordType);
+        skipTaggedRemaining(recordType, checkLength(taggedLength, headerSize) - headerSize);
+      }
+    } catch (IOException e) {
+      log.error("Error while skipping record {}", recordType, e);
+      throw new ErrorDecodingNist4jException(e.getMessage());
+    }
+  }
+
+  private void skipTaggedRemaining(int recordType, long remaining) throws IOException {
+    // The last byte is read to check the LEN ends on the <FS> separator
+    recordSource.skip(remaining - 1L);
+    int value = recordSource.read();
+    if (value != -1 && value != NistDecoderHelper.SEP_FS) {
+      log.warn("LEN of record type {} does not end on a <FS> separator", recordType);
+      while ((value = recordSource.read()) != -1 && value != NistDecoderHelper.SEP_FS) {
+        // Look for the end of the record
+      }
+    }
+  }
+
+  private ByteBuffer readBinaryRecord(int maxLength) throws IOException {
+    byte[] lenBytes = readBinaryLength();
+    int length = checkLength(LongTo4BytesConverter.from4Bytes(lenBytes, 0), lenBytes.length);
+    int headLength = Math.min(length, Math.max(maxLength, lenBytes.length));
+    ByteBuffer buffer = recordSource.readRemaining(lenBytes, headLength);
+    recordSource.skip((long) length - headLength);
+    return buffer;
+  }
+
+  private byte[] readBinaryLength() throws IOException {
+    byte[] lenBytes = new byte[4];
+    for (int i = 0; i < lenBytes.length; i++) {
+      int value = recordSource.read();
+      if (value == -1) {
+        throw new ErrorDecodingNist4jException("Unexpected end of stream reading binary LEN");
+      }
+      lenBytes[i] = (byte) value;
+    }
+    return lenBytes;
+  }
+
+  private ByteBuffer readTaggedRecord(int recordType, int maxLength) throws IOException {
+    int headerSize = readTaggedHeader(recordType);
+    int length = checkLength(taggedLength, headerSize);
+    if (length > maxLength) {
+      ByteBuffer head =
+          recordSource.readRemaining(
+              Arrays.copyOf(header, headerSize), Math.max(maxLength, headerSize));
+      skipTaggedRemaining(recordType, (long) length - head.limit());
+      return head;
+    }
+    if (!readProjection.isFieldIncluded(recordType, FIELD_DATA)) {
+      return readTaggedRecordUpToData(recordType, headerSize, length);
+    }
+    ByteBuffer buffer = recordSource.readRemaining(Arrays.copyOf(header, headerSize), length);
+    if (buffer.limit() > 0 && buffer.get(buffer.limit() - 1) != NistDecoderHelper.SEP_FS) {
+      // A LEN counted in chars instead of bytes is shorter than the record : read up to the <FS>
+      log.warn("LEN of record type {} does not end on a <FS> separator", recordType);
+      return recordSource.readUntilFS(buffer);
+    }
+    return buffer;
+  }
+
+  /**
+   * Read the text fields of a tagged record up to the tag of its field 999 included, the value of
+   * the field 999 is skipped without being copied. The serializers stop on this truncated field.
+   */
+  private ByteBuffer readTaggedRecordUpToData(int recordType, int headerSize, int length)
+      throws IOException {
+    byte[] bytes = Arrays.copyOf(header, Math.min(length, header.length * 4));
+    int size = headerSize;
+    int tagStart = header[headerSize - 1] == NistDecoderHelper.SEP_GS ? headerSize : -1;
+    int value;
+    while (size < length && (value = recordSource.read()) != -1) {
+      if (size == bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.min(length, size * 2));
+      }
+      bytes[size++] = (byte) value;
+      if (value == NistDecoderHelper.SEP_GS) {
+        tagStart = size;
+      } else if (value == NistDecoderHelper.SEP_FS) {
+        break;
+      } else if (value == ':' && tagStart != -1) {
+        if (isDataTag(bytes, tagStart, size - 1)) {
+          skipTaggedRemaining(recordType, (long) length - size);
+          return ByteBuffer.wrap(Arrays.copyOf(bytes, size));
+        }
+        tagStart = -1;
+      }
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOf(bytes, size));
+    if (size > 0 && bytes[size - 1] != NistDecoderHelper.SEP_FS) {
+      // A LEN counted in chars instead of bytes is shorter than the record : read up to the <FS>
+      log.warn("LEN of record type {} does not end on a <FS> separator", recordType);
+      return recordSource.readUntilFS(buffer);
+    }
+    return buffer;
+  }
+
+  private static boolean isDataTag(byte[] bytes, int from, int to) {
+    int dot = to - 1;
+    while (dot >= from && bytes[dot] != '.') {
+      dot--;
+    }
+    if (dot < from || to - dot > 10) {
+      return false;
+    }
+    int field = 0;
+    for (int i = dot + 1; i < to; i++) {
+      if (bytes[i] < '0' || bytes[i] > '9') {
+        return false;
+      }
+      field = field * 10 + (bytes[i] - '0');
+    }
+    return field == FIELD_DATA;
+  }
+
+  /**
+   * Read the field X.001:LEN up to its separator into {@link #header}, and its value into {@link
+   * #taggedLength}
+   *
+   * @return the number of bytes read
+   */
+  private int readTaggedHeader(int recordType) throws IOException {
+    int headerSize = 0;
+    int colonPos = -1;
+    int value;
+    while ((value = recordSource.read()) != -1) {
+      if (headerSize == header.length) {
+        throw new ErrorDecodingNist4jException(
+            format("Decoding NIST - Invalid LEN field for record type %s", recordType));
+      }
+      header[headerSize++] = (byte) value;
+      if (value == ':' && colonPos == -1) {
+        colonPos = headerSize;
+      } else if (value == NistDecoderHelper.SEP_GS || value == NistDecoderHelper.SEP_FS) {
+        break;
+      }
+    }
+    if (colonPos == -1 || headerSize <= colonPos) {
+      throw new ErrorDecodingNist4jException(
+          format("Decoding NIST - Missing LEN field for record type %s", recordType));
+    }
+    int endOfLength =
+        header[headerSize - 1] == NistDecoderHelper.SEP_GS
+                || header[headerSize - 1] == NistDecoderHelper.SEP_FS
+            ? headerSize - 1
+            : headerSize;
+    taggedLength = parseLength(header, colonPos, endOfLength, recordType);
+    return headerSize;
+  }
+
+  private long parseLength(byte[] header, int from, int to, int recordType) {
+    if (from >= to) {
+      throw new ErrorDecodingNist4jException(
+          format("Decoding NIST - Empty LEN field for record type %s", recordType));
+    }
+    long length = 0;
+    for (int i = from; i < to; i++) {
+      int digit = header[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new ErrorDecodingNist4jException(
+            format("Decoding NIST - Invalid LEN field for record type %s", recordType));
+      }
+      length = length * 10 + digit;
+    }
+    return length;
+  }
+
+  private static int checkLength(long length, int alreadyReadSize) {
+    if (length < alreadyReadSize || length > Integer.MAX_VALUE) {
+      throw new ErrorDecodingNist4jException(format("Decoding NIST - Invalid LEN %s", length));
+    }
+    return (int) length;
+  }
+
+  /** Source of the bytes of the records, read sequentially */
+  private interface RecordSource extends Closeable {
+
+    /**
+     * @return the next byte, or -1 at the end of the source
+     */
+    int read() throws IOException;
+
+    /**
+     * @return number of bytes consumed from the beginning of the source
+     */
+    long position();
+
+    /**
+     * @param alreadyRead first bytes of the record, already consumed with {@link #read()}
+     * @param length length of the whole record
+     * @return the whole record, shorter than length if the source is truncated
+     */
+    ByteBuffer readRemaining(byte[] alreadyRead, int length) throws IOException;
+
+    /**
+     * Skip n bytes, or up to the end of the source
+     */
+    void skip(long n) throws IOException;
+
+    /**
+     * @param alreadyRead record already read
+     * @return the record extended up to the next {@code <FS>} separator
+     */
+    ByteBuffer readUntilFS(ByteBuffer alreadyRead) throws IOException;
+
+    /**
+     * @return the buffers acquired from a pool to hold the records
+     */
+    List<ByteBuffer> getPooledBuffers();
+
+    /**
+     * @return the temporary files holding the records spilled to disk
+     */
+    List<Path> getSpilledFiles();
+  }
+
+  /** Consumer of the bytes of a record copied chunk by chunk */
+  private interface ChunkWriter {
+    void write(byte[] chunk, int count) throws IOException;
+  }
+
+  private static class InputStreamRecordSource implements RecordSource {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String SPILL_FILE_PREFIX = "nist4j-";
+    private static final String SPILL_FILE_SUFFIX = ".rec";
+
+    private final InputStream inputStream;
+    private final NistBufferPool bufferPool;
+    private final int spillThreshold;
+    private final Path spillDirectory;
+    private final List<ByteBuffer> pooledBuffers = new ArrayList<>();
+    private final List<Path> spilledFiles = new ArrayList<>();
+    private byte[] chunk;
+    private long position = 0;
+
+    InputStreamRecordSource(
+        InputStream inputStream,
+        NistBufferPool bufferPool,
+        int spillThreshold,
+        Path spillDirectory) {
+      this.inputStream =
+          inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+      this.bufferPool = bufferPool;
+      this.spillThreshold = spillThreshold;
+      this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = inputStream.read();
+      if (value != -1) {
+        position++;
+      }
+      return value;
+    }
+
+    @Override
+    public long position() {
+      return position;
+    }
+
+    @Override
+    public ByteBuffer readRemaining(byte[] alreadyRead, int length) throws IOException {
+      if (length > spillThreshold) {
+        return readRemainingInFile(alreadyRead, length);
+      }
+      if (bufferPool != null && length >= bufferPool.getMinBufferSize()) {
+        return readRemainingInPool(alreadyRead, length);
+      }
+      byte[] buffer = Arrays.copyOf(alreadyRead, length);
+      int size = readFully(buffer, alreadyRead.length);
+      position += size - alreadyRead.length;
+      if (size < buffer.length) {
+        // Keep the same tolerance as the serializers on truncated records
+        log.warn("Record truncated : expected {} bytes, read {}", buffer.length, size);
+        return ByteBuffer.wrap(Arrays.copyOf(buffer, size));
+      }
+      return ByteBuffer.wrap(buffer);
+    }
+
+    @Override
+    public ByteBuffer readUntilFS(ByteBuffer alreadyRead) throws IOException {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(alreadyRead.limit() * 2);
+      byte[] alreadyReadBytes = new byte[alreadyRead.limit()];
+      alreadyRead.duplicate().get(alreadyReadBytes);
+      outputStream.write(alreadyReadBytes);
+      int value;
+      while ((value = read()) != -1) {
+        outputStream.write(value);
+        if (value == NistDecoderHelper.SEP_FS) {
+          break;
+        }
+      }
+      return ByteBuffer.wrap(outputStream.toByteArray());
+    }
+
+    @Override
+    public void skip(long n) throws IOException {
+      long remaining = n;
+      while (remaining > 0) {
+        long count = inputStream.skip(remaining);
+        if (count <= 0) {
+          // skip() may not detect the end of the stream
+          if (inputStream.read() == -1) {
+            break;
+          }
+          count = 1;
+        }
+        position += count;
+        remaining -= count;
+      }
+    }
+
+    @Override
+    public List<ByteBuffer> getPooledBuffers() {
+      return Collections.unmodifiableList(pooledBuffers);
+    }
+
+    @Override
+    public List<Path> getSpilledFiles() {
+      return Collections.unmodifiableList(spilledFiles);
+    }
+
+    @Override
+    public void close() throws IOException {
+      inputStream.close();
+    }
+
+    /**
+     * Read the record in a buffer of the pool, out of the heap
+     */
+    private ByteBuffer readRemainingInPool(byte[] alreadyRead, int length) throws IOException {
+      ByteBuffer buffer = bufferPool.acquire(length);
+      pooledBuffers.add(buffer);
+      buffer.put(alreadyRead);
+      copyRemaining(alreadyRead.length, length, (bytes, count) -> buffer.put(bytes, 0, count));
+      ByteBuffer record = buffer.duplicate();
+      ((Buffer) record).flip();
+      return record.slice();
+    }
+
+    /**
+     * Write the record in a temporary file, mapped so that its bytes are paged in on demand
+     */
+    private ByteBuffer readRemainingInFile(byte[] alreadyRead, int length) throws IOException {
+      Path spilledFile =
+          spillDirectory == null
+              ? Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX)
+              : Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+      SpilledFiles.register(spilledFile);
+      spilledFiles.add(spilledFile);
+      log.debug("Spilling record of {} bytes to {}", length, spilledFile);
+      try (FileChannel fileChannel =
+          FileChannel.open(spilledFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        writeFully(fileChannel, ByteBuffer.wrap(alreadyRead));
+        int size =
+            copyRemaining(
+                alreadyRead.length,
+                length,
+                (bytes, count) -> writeFully(fileChannel, ByteBuffer.wrap(bytes, 0, count)));
+        // The mapping stays valid after the channel is closed
+        return SpilledFiles.track(
+            spilledFile, fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+      }
+    }
+
+    /**
+     * Copy the remaining bytes of the record from the stream, chunk by chunk
+     *
+     * @return the number of bytes of the record, shorter than length if the stream is truncated
+     */
+    private int copyRemaining(int alreadyReadSize, int length, ChunkWriter chunkWriter)
+        throws IOException {
+      if (chunk == null) {
+        chunk = new byte[CHUNK_SIZE];
+      }
+      int size = alreadyReadSize;
+      while (size < length) {
+        int count = inputStream.read(chunk, 0, Math.min(chunk.length, length - size));
+        if (count == -1) {
+          // Keep the same tolerance as the serializers on truncated records
+          log.warn("Record truncated : expected {} bytes, read {}", length, size);
+          break;
+        }
+        chunkWriter.write(chunk, count);
+        size += count;
+      }
+      position += size - alreadyReadSize;
+      return size;
+    }
+
+    private static void writeFully(FileChannel fileChannel, ByteBuffer source) throws IOException {
+      while (source.hasRemaining()) {
+        fileChannel.write(source);
+      }
+    }
+
+    private int readFully(byte[] buffer, int offset) throws IOException {
+      int pos = offset;
+      while (pos < buffer.length) {
+        int count = inputStream.read(buffer, pos, buffer.length - pos);
+        if (count == -1) {
+          break;
+        }
+        pos += count;
+      }
+      return pos;
+    }
+  }
+
+  private static class ByteBufferRecordSource implements RecordSource {
+
+    private final ByteBuffer buffer;
+    private int pos = 0;
+
+    ByteBufferRecordSource(ByteBuffer buffer) {
+      this.buffer = buffer.slice();
+    }
+
+    @Override
+    public int read() {
+      return pos < buffer.limit() ? buffer.get(pos++) & 0xff : -1;
+    }
+
+    @Override
+    public long position() {
+      return pos;
+    }
+
+    @Override
+    public ByteBuffer readRemaining(byte[] alreadyRead, int length) {
+      int start = pos - alreadyRead.length;
+      int end = start + length;
+      if (end > buffer.limit()) {
+        // Keep the same tolerance as the serializers on truncated records
+        log.warn("Record truncated : expected {} bytes, read {}", length, buffer.limit() - start);
+        end = buffer.limit();
+      }
+      pos = end;
+      return slice(start, end);
+    }
+
+    @Override
+    public ByteBuffer readUntilFS(ByteBuffer alreadyRead) {
+      int start = pos - alreadyRead.limit();
+      while (pos < buffer.limit() && buffer.get(pos++) != NistDecoderHelper.SEP_FS) {
+        // Look for the end of the record
+      }
+      return slice(start, pos);
+    }
+
+    @Override
+    public void skip(long n) {
+      pos = (int) Math.min(buffer.limit(), pos + Math.max(0, n));
+    }
+
+    @Override
+    public List<ByteBuffer> getPooledBuffers() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<Path> getSpilledFiles() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release : the buffer is owned by the caller
+    }
+
+    private ByteBuffer slice(int start, int end) {
+      ByteBuffer duplicate = buffer.duplicate();
+      ((Buffer) duplicate).limit(end).position(start);
+      return duplicate.slice();
+    }
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static io.github.nist4j.enums.RecordTypeEnum.RT1;
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistContentTable;
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.impl.NistContentTableImpl;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
+import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
+import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
+import io.github.nist4j.use_cases.helpers.builders.records.DefaultNistTextRecordBuilderImpl;
+import io.github.nist4j.use_cases.helpers.converters.SubFieldToStringConverter;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Push writer emitting a NistFile record by record.
+ * <br/>
+ * The images can be given as streams of known length, they are copied to the output when their
+ * record is written and never held in memory as a whole. On an output stream, the RT1 is written
+ * first and its CNT field (1.003) must declare the records written afterward, in the same order.
+ * On a seekable channel, the CNT field and the LEN of the RT1 are calculated from the records
+ * written and patched at close.
+ */
+@Slf4j
+public class NistStreamWriter implements Closeable {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final int FIELD_IDC = 2;
+  private static final int FIELD_DATA = 999;
+
+  private final OutputStream outputStream;
+  private final SeekableByteChannel channel;
+  private final RecordWriter recordWriter;
+  private final NistOptions nistOptions;
+  private final NistRecord record1;
+  private final NistContentTable declaredContent;
+  private final List<Pair<String, String>> content = new ArrayList<>();
+  private long startPosition;
+  private int record1Length;
+  private boolean isClosed = false;
+
+  /**
+   * Write the RT1 at once
+   *
+   * @param outputStream stream receiving the NistFile
+   * @param recordWriter writer dispatching on the record type
+   * @param nistOptions options of the records rebuilt around a streamed image
+   * @param record1 RT1 declaring in its CNT field all the records to write
+   */
+  public NistStreamWriter(
+      @NonNull OutputStream outputStream,
+      @NonNull RecordWriter recordWriter,
+      @NonNull NistOptions nistOptions,
+      @NonNull NistRecord record1) {
+    this.outputStream = new BufferedOutputStream(outputStream);
+    this.channel = null;
+    this.recordWriter = recordWriter;
+    this.nistOptions = withLENCalculatedOnBuild(nistOptions);
+    this.record1 = record1;
+    this.declaredContent =
+        NistContentTableImpl.parse(
+            record1
+                .getFieldText(RT1FieldsEnum.CNT)
+                .orElseThrow(
+                    () ->
+                        new InvalidFormatNist4jException("Missing CNT field on RT1 code '1.003'")));
+    recordWriter.write(this.outputStream, record1);
+  }
+
+  /**
+   * Write the RT1 at once, it is written again at close with the CNT field of the records written
+   *
+   * @param channel channel positioned where the NistFile has to be written
+   * @param recordWriter writer dispatching on the record type
+   * @param nistOptions options of the records rebuilt around a streamed image
+   * @param record1 RT1 of the NistFile. When its CNT field already declares the records written,
+   *     the records do not have to be moved at close to make room for the final RT1
+   */
+  public NistStreamWriter(
+      @NonNull SeekableByteChannel channel,
+      @NonNull RecordWriter recordWriter,
+      @NonNull NistOptions nistOptions,
+      @NonNull NistRecord record1) {
+    this.outputStream = new ChannelOutputStream(channel);
+    this.channel = channel;
+    this.recordWriter = recordWriter;
+    this.nistOptions = withLENCalculatedOnBuild(nistOptions);
+    this.record1 = record1;
+    this.declaredContent = null;
+    try {
+      this.startPosition = channel.position();
+      byte[] bytes = encode(record1);
+      this.record1Length = bytes.length;
+      outputStream.write(bytes);
+    } catch (IOException e) {
+      log.error("Exception when writing the RT1", e);
+      throw new ErrorEncodingNist4jException(e.getMessage());
+    }
+  }
+
+  /**
+   * Write a record whose images are already in memory
+   */
+  public void write(@NonNull NistRecord record) throws ErrorEncodingNist4jException {
+    if (isClosed) {
+      throw new IllegalStateException("The writer is closed");
+    }
+    if (RT1.getNumber() == record.getRecordId()) {
+      throw new InvalidFormatNist4jException("The RT1 is written when the writer is opened");
+    }
+    String idc = record.getFieldText(FIELD_IDC).orElse("0");
+    if (declaredContent != null) {
+      int index = content.size();
+      if (index >= declaredContent.size()
+          || declaredContent.getRecordType(index) != record.getRecordId()
+          || declaredContent.getIdc(index) != parseIdc(record, index, idc)) {
+        throw new InvalidFormatNist4jException(
+            format(
+                "Record %s with idc %s is not the next record declared in the CNT field",
+                record.getRecordId(), idc));
+      }
+    }
+    recordWriter.write(outputStream, record);
+    content.add(Pair.of(String.valueOf(record.getRecordId()), idc));
+  }
+
+  private static int parseIdc(NistRecord record, int index, String idc)
+      throws ErrorEncodingNist4jException {
+    try {
+      return Integer.parseInt(idc.trim());
+    } catch (NumberFormatException e) {
+      throw new ErrorEncodingNist4jException(
+          format(
+              "Record %s at index %s has a non numeric idc %s", record.getRecordId(), index, idc));
+    }
+  }
+
+  /**
+   * Write a record with its image (field 999) read from a channel. The LEN of the record is
+   * calculated with the length of the image.
+   *
+   * @param record record without its image
+   * @param image channel positioned at the beginning of the image, it is not closed
+   * @param imageLength number of bytes of the image
+   */
+  public void write(@NonNull NistRecord record, @NonNull ReadableByteChannel image, int imageLength)
+      throws ErrorEncodingNist4jException {
+    write(
+        DefaultNistTextRecordBuilderImpl.newRecordBuilder(nistOptions, record.getRecordId())
+            .from(record)
+            .withField(FIELD_DATA, new StreamedDataImage(image, imageLength))
+            .build());
+  }
+
+  /**
+   * Same as {@link #write(NistRecord, ReadableByteChannel, int)} with an image read from a stream
+   */
+  public void write(@NonNull NistRecord record, @NonNull InputStream image, int imageLength)
+      throws ErrorEncodingNist4jException {
+    write(record, Channels.newChannel(image), imageLength);
+  }
+
+  /**
+   * Patch the RT1 on a seekable channel, then close the output
+   *
+   * @throws ErrorEncodingNist4jException when records declared in the CNT field of the RT1 were
+   *     not written
+   */
+  @Override
+  public void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    try {
+      outputStream.flush();
+      if (channel != null) {
+        patchRecord1();
+      } else if (content.size() < declaredContent.size()) {
+        throw new ErrorEncodingNist4jException(
+            format(
+                "Only %s records written on the %s declared in the CNT field",
+                content.size(), declaredContent.size()));
+      }
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  private void patchRecord1() throws IOException {
+    List<Pair<String, String>> cnt = new ArrayList<>();
+    cnt.add(Pair.of(String.valueOf(RT1.getNumber()), String.valueOf(content.size())));
+    cnt.addAll(content);
+    NistRecord newRecord1 =
+        DefaultNistTextRecordBuilderImpl.newRecordBuilder(nistOptions, RT1.getNumber())
+            .from(record1)
+            .withField(
+                RT1FieldsEnum.CNT,
+                new DataTextBuilder()
+                    .withValue(SubFieldToStringConverter.fromListOfPairs(cnt))
+                    .build())
+            .build();
+    byte[] bytes = encode(newRecord1);
+
+    long end = channel.position();
+    int shift = bytes.length - record1Length;
+    if (shift != 0) {
+      log.debug("Moving the records of {} bytes to patch the RT1", shift);
+      moveRecords(startPosition + record1Length, end, shift);
+    }
+    channel.position(startPosition);
+    ByteBuffer source = ByteBuffer.wrap(bytes);
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+    channel.position(end + shift);
+    if (shift < 0) {
+      channel.truncate(end + shift);
+    }
+  }
+
+  private void moveRecords(long from, long to, int shift) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+    if (shift > 0) {
+      // Move from the end, not to overwrite the bytes still to move
+      for (long position = to; position > from; ) {
+        int count = (int) Math.min(COPY_BUFFER_SIZE, position - from);
+        position -= count;
+        copy(buffer, position, position + shift, count);
+      }
+    } else {
+      for (long position = from; position < to; ) {
+        int count = (int) Math.min(COPY_BUFFER_SIZE, to - position);
+        copy(buffer, position, position + shift, count);
+        position += count;
+      }
+    }
+  }
+
+  private void copy(ByteBuffer buffer, long from, long to, int count) throws IOException {
+    ((Buffer) buffer).clear().limit(count);
+    channel.position(from);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("End of channel at " + channel.position());
+      }
+    }
+    ((Buffer) buffer).flip();
+    channel.position(to);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private byte[] encode(NistRecord record) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    recordWriter.write(bytes, record);
+    return bytes.toByteArray();
+  }
+
+  private static NistOptions withLENCalculatedOnBuild(NistOptions nistOptions) {
+    return NistOptionsImpl.builder()
+        .isCalculateLENOnBuild(true)
+        .isCalculateCNTOnBuild(false)
+        .charset(nistOptions.getCharset())
+        .readProjection(nistOptions.getReadProjection())
+        .build();
+  }
+}
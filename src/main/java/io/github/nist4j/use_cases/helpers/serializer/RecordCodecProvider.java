@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import io.github.nist4j.entities.NistOptions;
+
+/**
+ * Provider of a custom {@link RecordCodec}, loaded with {@link java.util.ServiceLoader} by every
+ * {@link RecordCodecRegistry}. Its codec replaces the default codec of its record type.
+ *
+ * <p>Providers are declared in a file
+ * META-INF/services/io.github.nist4j.use_cases.helpers.serializer.RecordCodecProvider
+ */
+public interface RecordCodecProvider {
+
+  /**
+   * @return record type number handled by the codec, from 1 to 99
+   */
+  int getRecordType();
+
+  /**
+   * @param nistOptions options of the registry
+   * @return the codec, created once per registry on the first record of its type
+   */
+  RecordCodec create(NistOptions nistOptions);
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.use_cases.helpers.serializer.binary.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Codecs of the record types 1 to 99, indexed by record type. Each codec is created on the first
+ * record of its type. The default codecs are replaced by the codecs registered with {@link
+ * #register(int, Function)} or provided by a {@link RecordCodecProvider}, and the record types
+ * without codec, including the types out of this range, are read and written as text records.
+ * <br/>
+ * All the codecs are created with the options of the registry.
+ */
+@Slf4j
+public class RecordCodecRegistry {
+
+  public static final int MAX_RECORD_TYPE = 99;
+
+  private final NistOptions nistOptions;
+
+  @SuppressWarnings("unchecked")
+  private final Function<NistOptions, RecordCodec>[] factories = new Function[MAX_RECORD_TYPE + 1];
+
+  private final AtomicReferenceArray<RecordCodec> codecs =
+      new AtomicReferenceArray<>(MAX_RECORD_TYPE + 1);
+
+  public RecordCodecRegistry(@NonNull NistOptions nistOptions) {
+    this.nistOptions = nistOptions;
+    factories[1] = RT1TransactionInformationRecordSerializerImpl::new;
+    factories[2] = RT2UserDefinedDescriptionTextRecordSerializerImpl::new;
+    factories[3] = RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl::new;
+    factories[4] = RT4HighResolutionGrayscaleFingerprintRecordSerializerImpl::new;
+    factories[5] = RT5LowResolutionBinaryFingerprintRecordSerializerImpl::new;
+    factories[6] = RT6HighResolutionBinaryFingerprintRecordSerializerImpl::new;
+    factories[7] = RT7UserDefinedImageRecordSerializerImpl::new;
+    factories[8] = RT8SignatureImageRecordSerializerImpl::new;
+    factories[9] = RT9MinutiaeDataRecordSerializerImpl::new;
+    factories[13] = RT13LatentImageDataRecordSerializerImpl::new;
+    factories[14] = RT14VariableResolutionFingerprintRecordSerializerImpl::new;
+    for (RecordCodecProvider provider : Providers.PROVIDERS) {
+      register(provider.getRecordType(), provider::create);
+    }
+  }
+
+  /**
+   * @return the options the codecs are created with
+   */
+  public NistOptions getNistOptions() {
+    return nistOptions;
+  }
+
+  /**
+   * Replace the codec of a record type
+   *
+   * @param recordType record type number, from 1 to 99
+   * @param factory creates the codec from the options of the registry, on the first record of its
+   *     type
+   * @return this registry
+   */
+  public RecordCodecRegistry register(
+      int recordType, @NonNull Function<NistOptions, RecordCodec> factory) {
+    checkRecordType(recordType);
+    factories[recordType] = factory;
+    codecs.set(recordType, null);
+    return this;
+  }
+
+  /**
+   * @param recordType record type number
+   * @return the codec of the record type, a text codec if none is registered or if the record type
+   *     is out of the range 1 to 99
+   */
+  public RecordCodec get(int recordType) {
+    if (recordType < 1 || recordType > MAX_RECORD_TYPE) {
+      log.debug("Record type {} out of range, read as a text record", recordType);
+      return new DefaultTextRecordSerializer(nistOptions, recordType);
+    }
+    RecordCodec codec = codecs.get(recordType);
+    if (codec == null) {
+      codec = create(recordType);
+      if (!codecs.compareAndSet(recordType, null, codec)) {
+        codec = codecs.get(recordType);
+      }
+    }
+    return codec;
+  }
+
+  private RecordCodec create(int recordType) {
+    Function<NistOptions, RecordCodec> factory = factories[recordType];
+    if (factory == null) {
+      log.debug("No codec for record type {}, read as a text record", recordType);
+      return new DefaultTextRecordSerializer(nistOptions, recordType);
+    }
+    return factory.apply(nistOptions);
+  }
+
+  private static void checkRecordType(int recordType) {
+    if (recordType < 1 || recordType > MAX_RECORD_TYPE) {
+      throw new IllegalArgumentException(format("Invalid record type %s", recordType));
+    }
+  }
+
+  /** Providers loaded once, on the first registry created */
+  private static final class Providers {
+
+    private static final List<RecordCodecProvider> PROVIDERS = load();
+
+    private static List<RecordCodecProvider> load() {
+      List<RecordCodecProvider> providers = new ArrayList<>();
+      for (RecordCodecProvider provider : ServiceLoader.load(RecordCodecProvider.class)) {
+        log.info(
+            "Codec {} registered for record type {}",
+            provider.getClass().getName(),
+            provider.getRecordType());
+        providers.add(provider);
+      }
+      return Collections.unmodifiableList(providers);
+    }
+  }
+}
@@ -21,4 +21,15 @@ import java.io.OutputStream;
 
 public interface RecordWriter {
   void write(OutputStream outputStream, NistRecord record) throws ErrorEncodingNist4jException;
+
+  /**
+   * @return the number of bytes written by {@link #write(OutputStream, NistRecord)} for the record.
+   *     By default the record is written to a stream counting the bytes, the codecs knowing the
+   *     size of their records calculate it without writing them.
+   */
+  default long serializedSize(NistRecord record) throws ErrorEncodingNist4jException {
+    CountingOutputStream countingOutputStream = new CountingOutputStream();
+    write(countingOutputStream, record);
+    return countingOutputStream.getCount();
+  }
 }
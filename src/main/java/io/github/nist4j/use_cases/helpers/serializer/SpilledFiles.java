@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import java.io.IOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Temporary files of the records spilled to disk. A file is deleted when its NistFile is closed,
+ * otherwise once its mapping is unreachable.
+ * <br/>
+ * The unreachable mappings are polled on each file spilled, without a thread of their own.
+ */
+@Slf4j
+final class SpilledFiles {
+
+  private static final Set<SpilledFileReference> REFERENCES = ConcurrentHashMap.newKeySet();
+  private static final ReferenceQueue<ByteBuffer> UNREACHABLE_MAPPINGS = new ReferenceQueue<>();
+
+  private SpilledFiles() {}
+
+  /**
+   * Register a file created for a spilled record, before it is written. The files whose mapping
+   * became unreachable are deleted meanwhile.
+   */
+  static void register(Path spilledFile) {
+    log.debug("Spilling a record to {}", spilledFile);
+    deleteUnreachableFiles();
+  }
+
+  /**
+   * @param mapping mapping of the file, the slices of the records keep it reachable
+   */
+  static ByteBuffer track(Path spilledFile, ByteBuffer mapping) {
+    REFERENCES.add(new SpilledFileReference(spilledFile, mapping));
+    return mapping;
+  }
+
+  /**
+   * Delete the file. A file still in use can't be deleted on some platforms, it is then deleted
+   * once its mapping is unreachable.
+   */
+  static void delete(Path spilledFile) {
+    try {
+      Files.deleteIfExists(spilledFile);
+    } catch (IOException e) {
+      // A file still mapped cannot be deleted on some platforms
+      log.warn("Error while deleting spilled file {}", spilledFile, e);
+    }
+  }
+
+  private static void deleteUnreachableFiles() {
+    SpilledFileReference reference;
+    while ((reference = (SpilledFileReference) UNREACHABLE_MAPPINGS.poll()) != null) {
+      REFERENCES.remove(reference);
+      delete(reference.spilledFile);
+    }
+  }
+
+  private static final class SpilledFileReference extends PhantomReference<ByteBuffer> {
+
+    private final Path spilledFile;
+
+    private SpilledFileReference(Path spilledFile, ByteBuffer mapping) {
+      super(mapping, UNREACHABLE_MAPPINGS);
+      this.spilledFile = spilledFile;
+    }
+  }
+}
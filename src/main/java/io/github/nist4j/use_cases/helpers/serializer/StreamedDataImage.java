@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static java.lang.String.format;
+
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Image of known length read from a channel only when its record is written, so that it is never
+ * held in memory as a whole. It can be read only once.
+ */
+final class StreamedDataImage implements DataImage {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final ReadableByteChannel source;
+  private final int length;
+  private boolean isConsumed = false;
+
+  StreamedDataImage(ReadableByteChannel source, int length) {
+    this.source = source;
+    this.length = length;
+  }
+
+  @Override
+  public byte[] getData() {
+    consume();
+    byte[] data = new byte[length];
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    try {
+      while (buffer.hasRemaining()) {
+        if (source.read(buffer) < 0) {
+          throw endOfStream(buffer.remaining());
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return data;
+  }
+
+  @Override
+  public ByteBuffer asReadOnlyBuffer() {
+    return ByteBuffer.wrap(getData()).asReadOnlyBuffer();
+  }
+
+  @Override
+  public InputStream openStream() {
+    return new ByteArrayInputStream(getData());
+  }
+
+  @Override
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    consume();
+    ByteBuffer buffer = ByteBuffer.allocate(Math.min(length, COPY_BUFFER_SIZE));
+    int remaining = length;
+    while (remaining > 0) {
+      ((Buffer) buffer).clear().limit(Math.min(buffer.capacity(), remaining));
+      int count = source.read(buffer);
+      if (count < 0) {
+        throw endOfStream(remaining);
+      }
+      ((Buffer) buffer).flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      remaining -= count;
+    }
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public String toString() {
+    return "DataImage(value=***, length=" + length + ")";
+  }
+
+  @Override
+  public DataImage deepCopy() {
+    return this;
+  }
+
+  private void consume() {
+    if (isConsumed) {
+      throw new IllegalStateException("The image stream has already been read");
+    }
+    isConsumed = true;
+  }
+
+  private ErrorEncodingNist4jException endOfStream(int remaining) {
+    return new ErrorEncodingNist4jException(
+        format("Image stream ended %s bytes before its length %s", remaining, length));
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Encoder of the tagged fields "type.field:value" of a text record. The tags are written from
+ * precomputed ASCII bytes, and the ASCII values are written without going through the charset.
+ * <br/>
+ * The bytes are gathered in a buffer of the encoder, flushed to the stream when full or on {@link
+ * #flush()}. An encoder is used for a single record and is not thread safe.
+ */
+public class TaggedFieldEncoder {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final int MAX_TYPE = 99;
+  private static final int MAX_FIELD = 999;
+
+  /** "type." for the record types 0 to 99 */
+  private static final byte[][] TYPE_TAGS = new byte[MAX_TYPE + 1][];
+
+  /** "NNN:" for the fields 0 to 999 */
+  private static final byte[][] FIELD_TAGS = new byte[MAX_FIELD + 1][];
+
+  static {
+    for (int type = 0; type <= MAX_TYPE; type++) {
+      TYPE_TAGS[type] = toAscii(type + String.valueOf(NistDecoderHelper.TAG_SEP_DOT[0]));
+    }
+    for (int field = 0; field <= MAX_FIELD; field++) {
+      FIELD_TAGS[field] =
+          new byte[] {
+            (byte) ('0' + field / 100),
+            (byte) ('0' + field / 10 % 10),
+            (byte) ('0' + field % 10),
+            (byte) NistDecoderHelper.TAG_SEP_COLN[0]
+          };
+    }
+  }
+
+  private final OutputStream outputStream;
+  private final Charset charset;
+  private final boolean isAsciiCompatible;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int count = 0;
+
+  public TaggedFieldEncoder(OutputStream outputStream, Charset charset) {
+    this.outputStream = outputStream;
+    this.charset = charset;
+    this.isAsciiCompatible = NistDecoderHelper.isAsciiCompatible(charset);
+  }
+
+  /**
+   * Write the tag "type.field:" of a field
+   */
+  public void writeTag(int recordId, int field) throws IOException {
+    if (recordId < 0 || recordId > MAX_TYPE || field < 0 || field > MAX_FIELD) {
+      // Out of the NIST ranges : no precomputed tag
+      write(toAscii(recordId + "." + String.format("%03d", field) + ":"));
+    } else {
+      write(TYPE_TAGS[recordId]);
+      write(FIELD_TAGS[field]);
+    }
+  }
+
+  /**
+   * Write the value of a text field, encoded with the charset
+   */
+  public void writeText(String text) throws IOException {
+    int length = text.length();
+    if (isAsciiCompatible) {
+      int i = 0;
+      while (i < length) {
+        if (count == buffer.length) {
+          flushBuffer();
+        }
+        char c = text.charAt(i);
+        if (c >= 0x80) {
+          break;
+        }
+        buffer[count++] = (byte) c;
+        i++;
+      }
+      if (i == length) {
+        return;
+      }
+      // Not only ASCII : the remaining characters go through the charset
+      write(text.substring(i).getBytes(charset));
+    } else {
+      write(text.getBytes(charset));
+    }
+  }
+
+  /**
+   * Write a separator, GS or FS
+   */
+  public void writeSeparator(char separator) throws IOException {
+    if (count == buffer.length) {
+      flushBuffer();
+    }
+    buffer[count++] = (byte) separator;
+  }
+
+  /**
+   * Write the bytes gathered to the stream, before writing directly to the stream
+   *
+   * @return the stream
+   */
+  public OutputStream flush() throws IOException {
+    flushBuffer();
+    return outputStream;
+  }
+
+  private void write(byte[] bytes) throws IOException {
+    if (bytes.length > buffer.length - count) {
+      flushBuffer();
+      if (bytes.length > buffer.length) {
+        outputStream.write(bytes);
+        return;
+      }
+    }
+    System.arraycopy(bytes, 0, buffer, count, bytes.length);
+    count += bytes.length;
+  }
+
+  private void flushBuffer() throws IOException {
+    if (count > 0) {
+      outputStream.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  private static byte[] toAscii(String value) {
+    byte[] bytes = new byte[value.length()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) value.charAt(i);
+    }
+    return bytes;
+  }
+}
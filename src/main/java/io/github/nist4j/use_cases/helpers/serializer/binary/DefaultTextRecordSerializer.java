@@ -18,15 +18,13 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.AbstractNistRecordBuilderImpl;
 import io.github.nist4j.use_cases.helpers.builders.records.DefaultNistTextRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class DefaultTextRecordSerializer
-    extends AbstractTextRecordSerializer<AbstractNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    extends AbstractTextRecordSerializer<AbstractNistRecordBuilderImpl> implements RecordCodec {
 
   public DefaultTextRecordSerializer(NistOptions nistOptions, int recordId) {
     super(nistOptions, new DefaultNistTextRecordBuilderImpl(nistOptions, recordId));
@@ -17,15 +17,14 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.RT14VariableResolutionFingerprintNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT14VariableResolutionFingerprintRecordSerializerImpl
     extends AbstractTextRecordSerializer<RT14VariableResolutionFingerprintNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public RT14VariableResolutionFingerprintRecordSerializerImpl(NistOptions nistOptions) {
     super(nistOptions, new RT14VariableResolutionFingerprintNistRecordBuilderImpl(nistOptions));
@@ -17,15 +17,13 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.RT15PalmNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT15PalmRecordSerializerImpl
-    extends AbstractTextRecordSerializer<RT15PalmNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    extends AbstractTextRecordSerializer<RT15PalmNistRecordBuilderImpl> implements RecordCodec {
 
   public RT15PalmRecordSerializerImpl(NistOptions nistOptions) {
     super(nistOptions, new RT15PalmNistRecordBuilderImpl(nistOptions));
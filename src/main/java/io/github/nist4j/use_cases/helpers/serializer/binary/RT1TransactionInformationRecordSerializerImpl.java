@@ -17,21 +17,21 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.impl.NistContentTableImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
 import io.github.nist4j.use_cases.helpers.builders.records.RT1TransactionInformationNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT1TransactionInformationRecordSerializerImpl
     extends AbstractTextRecordSerializer<RT1TransactionInformationNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public RT1TransactionInformationRecordSerializerImpl(NistOptions nistOptions) {
     // This record is always write in plain text encoding
@@ -41,6 +41,7 @@ public class RT1TransactionInformationRecordSerializerImpl
   @Override
   public NistRecord read(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
     checkIfPosOutOfIndex(token);
+    int start = token.pos;
     NistRecordBuilder nistRecordBuilder = getNistRecordBuilder().newBuilder();
 
     do {
@@ -53,10 +54,12 @@ public class RT1TransactionInformationRecordSerializerImpl
       String value =
           nextWord(token, NistDecoderHelper.TAG_SEP_GSFS, NistDecoderHelper.FIELD_MAX_LENGTH - 1);
       if (tag.field == 3) {
-        token.header = value;
+        token.contentTable = NistContentTableImpl.parse(value);
       }
 
-      log.debug("NIST - tag.type: {} ,tag.field: {}, value : {}", tag.type, tag.field, value);
+      if (log.isDebugEnabled()) {
+        log.debug("NIST - tag.type: {} ,tag.field: {}, value : {}", tag.type, tag.field, value);
+      }
       Data dataText = new DataTextBuilder().withValue(value).build();
       nistRecordBuilder.withField(tag.field, dataText);
 
@@ -65,8 +68,9 @@ public class RT1TransactionInformationRecordSerializerImpl
             "NIST - tag.type: {} ,tag.field: {}, setCharSetDecoder {}", tag.type, tag.field, value);
         token.setCharSetDecoder(value);
       }
-    } while (token.buffer[token.pos++] != NistDecoderHelper.SEP_FS);
+    } while (token.buffer.get(token.pos++) != NistDecoderHelper.SEP_FS);
 
-    return nistRecordBuilder.build();
+    withRawBytes(nistRecordBuilder, token, start);
+    return nistRecordBuilder.buildTransferringOwnership();
   }
 }
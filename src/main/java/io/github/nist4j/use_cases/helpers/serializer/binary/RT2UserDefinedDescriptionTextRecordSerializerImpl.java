@@ -17,15 +17,14 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.RT2UserDefinedDescriptionTextNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT2UserDefinedDescriptionTextRecordSerializerImpl
     extends AbstractTextRecordSerializer<RT2UserDefinedDescriptionTextNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public RT2UserDefinedDescriptionTextRecordSerializerImpl(NistOptions nistOptions) {
     super(nistOptions, new RT2UserDefinedDescriptionTextNistRecordBuilderImpl(nistOptions));
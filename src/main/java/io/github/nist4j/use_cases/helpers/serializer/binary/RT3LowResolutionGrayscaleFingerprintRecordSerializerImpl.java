@@ -17,8 +17,7 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.RT3LowResolutionGrayscaleFingerprintNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractImageBinaryRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl
     extends AbstractImageBinaryRecordSerializer<
         RT3LowResolutionGrayscaleFingerprintNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public RT3LowResolutionGrayscaleFingerprintRecordSerializerImpl(NistOptions nistOptions) {
     super(nistOptions, new RT3LowResolutionGrayscaleFingerprintNistRecordBuilderImpl(nistOptions));
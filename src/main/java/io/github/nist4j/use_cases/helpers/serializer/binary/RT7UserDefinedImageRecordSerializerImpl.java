@@ -23,21 +23,20 @@ import io.github.nist4j.enums.records.RT7FieldsEnum;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
-import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
 import io.github.nist4j.use_cases.helpers.builders.records.RT7UserDefinedImageNistRecordBuilderImpl;
 import io.github.nist4j.use_cases.helpers.converters.ByteToStringConverter;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractImageBinaryRecordSerializer;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT7UserDefinedImageRecordSerializerImpl
     extends AbstractImageBinaryRecordSerializer<RT7UserDefinedImageNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public static final int FIXED_SIZE_OF_FIELDS = 33;
   private final ByteToStringConverter byteToStringConverter;
@@ -50,6 +49,7 @@ public class RT7UserDefinedImageRecordSerializerImpl
   @Override
   public NistRecord read(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
     checkIfPosOutOfIndex(token);
+    int start = token.pos;
 
     NistRecordBuilder nistRecordBuilder = getNistRecordBuilder().newBuilder();
     int recordId = nistRecordBuilder.getRecordId();
@@ -64,127 +64,127 @@ public class RT7UserDefinedImageRecordSerializerImpl
 
     if (checkRecordSizeLength(token, 4)) {
       // 7.002 : IDC
-      int idc = token.buffer[token.pos + 4];
+      int idc = token.buffer.get(token.pos + 4);
       Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(idc)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IDC, dataText);
     }
 
     if (checkRecordSizeLength(token, 5)) {
       // 7.003 : IMT
-      int imt = token.buffer[token.pos + 5];
+      int imt = token.buffer.get(token.pos + 5);
       Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(imt)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMT, dataText);
     }
 
     if (checkRecordSizeLength(token, 6)) {
       // 7.004 : IMD
-      int imd = token.buffer[token.pos + 6];
+      int imd = token.buffer.get(token.pos + 6);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(imd)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMD, dataText);
     }
 
     if (checkRecordSizeLength(token, 7)) {
-      int pcn = token.buffer[token.pos + 7];
+      int pcn = token.buffer.get(token.pos + 7);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(pcn)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.PCN, dataText);
     }
 
     if (checkRecordSizeLength(token, 8)) {
-      int pcn2 = token.buffer[token.pos + 8];
+      int pcn2 = token.buffer.get(token.pos + 8);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(pcn2)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.PCN2, dataText);
     }
 
     if (checkRecordSizeLength(token, 9)) {
-      int pcn3 = token.buffer[token.pos + 9];
+      int pcn3 = token.buffer.get(token.pos + 9);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(pcn3)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.PCN3, dataText);
     }
 
     if (checkRecordSizeLength(token, 10)) {
-      int pcn4 = token.buffer[token.pos + 10];
+      int pcn4 = token.buffer.get(token.pos + 10);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(pcn4)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.PCN4, dataText);
     }
 
     if (checkRecordSizeLength(token, 11)) {
-      int pcn5 = token.buffer[token.pos + 11];
+      int pcn5 = token.buffer.get(token.pos + 11);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(pcn5)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.PCN5, dataText);
     }
 
     if (checkRecordSizeLength(token, 17)) {
-      int intVal = token.buffer[token.pos + 17];
+      int intVal = token.buffer.get(token.pos + 17);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR, dataText);
     }
 
     if (checkRecordSizeLength(token, 18)) {
-      int intVal = token.buffer[token.pos + 18];
+      int intVal = token.buffer.get(token.pos + 18);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR2, dataText);
     }
 
     if (checkRecordSizeLength(token, 19)) {
-      int intVal = token.buffer[token.pos + 19];
+      int intVal = token.buffer.get(token.pos + 19);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR3, dataText);
     }
 
     if (checkRecordSizeLength(token, 20)) {
-      int intVal = token.buffer[token.pos + 20];
+      int intVal = token.buffer.get(token.pos + 20);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR4, dataText);
     }
 
     if (checkRecordSizeLength(token, 21)) {
-      int intVal = token.buffer[token.pos + 21];
+      int intVal = token.buffer.get(token.pos + 21);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR5, dataText);
     }
 
     if (checkRecordSizeLength(token, 22)) {
-      int intVal = token.buffer[token.pos + 22];
+      int intVal = token.buffer.get(token.pos + 22);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR6, dataText);
     }
 
     if (checkRecordSizeLength(token, 23)) {
-      int intVal = token.buffer[token.pos + 23];
+      int intVal = token.buffer.get(token.pos + 23);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR7, dataText);
     }
 
     if (checkRecordSizeLength(token, 24)) {
-      int intVal = token.buffer[token.pos + 24];
+      int intVal = token.buffer.get(token.pos + 24);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR8, dataText);
     }
 
     if (checkRecordSizeLength(token, 25)) {
-      int intVal = token.buffer[token.pos + 25];
+      int intVal = token.buffer.get(token.pos + 25);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR9, dataText);
     }
 
     if (checkRecordSizeLength(token, 26)) {
-      int intVal = token.buffer[token.pos + 26];
+      int intVal = token.buffer.get(token.pos + 26);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR10, dataText);
     }
 
     if (checkRecordSizeLength(token, 27)) {
-      int intVal = token.buffer[token.pos + 27];
+      int intVal = token.buffer.get(token.pos + 27);
       Data dataText =
           new DataTextBuilder().withValue(byteToStringConverter.toString(intVal)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.IMR11, dataText);
@@ -205,7 +205,7 @@ public class RT7UserDefinedImageRecordSerializerImpl
     }
 
     if (checkRecordSizeLength(token, 32)) {
-      int gca = token.buffer[token.pos + 32];
+      int gca = token.buffer.get(token.pos + 32);
       log.debug("T{} recordBuilder - parsing du recordBuilder GCA {}", recordId, gca);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(gca)).build();
       nistRecordBuilder.withField(RT7FieldsEnum.GCA, dataText);
@@ -214,20 +214,19 @@ public class RT7UserDefinedImageRecordSerializerImpl
     // 7.999 : DATA
     int dataSize = length - FIXED_SIZE_OF_FIELDS;
 
-    if (token.pos + dataSize + FIXED_SIZE_OF_FIELDS - 1 > token.buffer.length) {
-      dataSize += token.buffer.length - token.pos - FIXED_SIZE_OF_FIELDS;
+    if (token.pos + dataSize + FIXED_SIZE_OF_FIELDS - 1 > token.buffer.limit()) {
+      dataSize += token.buffer.limit() - token.pos - FIXED_SIZE_OF_FIELDS;
     }
 
-    if (dataSize > 0) {
-      byte[] data = new byte[dataSize];
-      System.arraycopy(token.buffer, token.pos + FIXED_SIZE_OF_FIELDS, data, 0, dataSize);
-      Data dataImage = new DataImageBuilder().withValue(data).build();
+    if (dataSize > 0 && isFieldIncluded(recordId, RT7FieldsEnum.DATA.getId())) {
+      ByteBuffer data = token.slice(token.pos + FIXED_SIZE_OF_FIELDS, dataSize);
+      Data dataImage = newDataImage(data);
       nistRecordBuilder.withField(RT7FieldsEnum.DATA, dataImage);
     }
 
     token.pos += length;
 
-    return nistRecordBuilder.build();
+    return buildWithReadProjection(nistRecordBuilder, token, start);
   }
 
   @Override
@@ -279,4 +278,9 @@ public class RT7UserDefinedImageRecordSerializerImpl
       throw new ErrorEncodingNist4jException(e.getMessage());
     }
   }
+
+  @Override
+  public long serializedSize(NistRecord record) {
+    return serializedSize(record, FIXED_SIZE_OF_FIELDS);
+  }
 }
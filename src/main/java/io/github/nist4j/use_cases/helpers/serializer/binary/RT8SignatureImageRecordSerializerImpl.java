@@ -23,21 +23,20 @@ import io.github.nist4j.enums.records.RT8FieldsEnum;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
-import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
 import io.github.nist4j.use_cases.helpers.builders.records.RT8SignatureImageNistRecordBuilderImpl;
 import io.github.nist4j.use_cases.helpers.converters.ByteToStringConverter;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractImageBinaryRecordSerializer;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT8SignatureImageRecordSerializerImpl
     extends AbstractImageBinaryRecordSerializer<RT8SignatureImageNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public static final int FIXED_SIZE_OF_FIELDS = 12;
   private final ByteToStringConverter byteToStringConverter;
@@ -50,6 +49,7 @@ public class RT8SignatureImageRecordSerializerImpl
   @Override
   public NistRecord read(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
     checkIfPosOutOfIndex(token);
+    int start = token.pos;
 
     NistRecordBuilder nistRecordBuilder = getNistRecordBuilder().newBuilder();
     int recordId = nistRecordBuilder.getRecordId();
@@ -64,27 +64,27 @@ public class RT8SignatureImageRecordSerializerImpl
 
     if (checkRecordSizeLength(token, 4)) {
       // 8.002 : IDC
-      int idc = token.buffer[token.pos + 4];
+      int idc = token.buffer.get(token.pos + 4);
       Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(idc)).build();
       nistRecordBuilder.withField(RT8FieldsEnum.IDC, dataText);
     }
 
     if (checkRecordSizeLength(token, 5)) {
-      int sig = token.buffer[token.pos + 5];
+      int sig = token.buffer.get(token.pos + 5);
       Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(sig)).build();
       nistRecordBuilder.withField(RT8FieldsEnum.SIG, dataText);
     }
 
     if (checkRecordSizeLength(token, 6)) {
       // 8.004 : SRT
-      int srt = token.buffer[token.pos + 6];
+      int srt = token.buffer.get(token.pos + 6);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(srt)).build();
       nistRecordBuilder.withField(RT8FieldsEnum.SRT, dataText);
     }
 
     if (checkRecordSizeLength(token, 7)) {
       // 8.004 : ISR
-      int isr = token.buffer[token.pos + 7];
+      int isr = token.buffer.get(token.pos + 7);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(isr)).build();
       nistRecordBuilder.withField(RT8FieldsEnum.ISR, dataText);
     }
@@ -106,20 +106,19 @@ public class RT8SignatureImageRecordSerializerImpl
     // 8.999 : DATA
     int dataSize = length - FIXED_SIZE_OF_FIELDS;
 
-    if (token.pos + dataSize + FIXED_SIZE_OF_FIELDS - 1 > token.buffer.length) {
-      dataSize += token.buffer.length - token.pos - FIXED_SIZE_OF_FIELDS;
+    if (token.pos + dataSize + FIXED_SIZE_OF_FIELDS - 1 > token.buffer.limit()) {
+      dataSize += token.buffer.limit() - token.pos - FIXED_SIZE_OF_FIELDS;
     }
 
-    if (dataSize > 0) {
-      byte[] data = new byte[dataSize];
-      System.arraycopy(token.buffer, token.pos + FIXED_SIZE_OF_FIELDS, data, 0, dataSize);
-      Data dataImage = new DataImageBuilder().withValue(data).build();
+    if (dataSize > 0 && isFieldIncluded(recordId, RT8FieldsEnum.DATA.getId())) {
+      ByteBuffer data = token.slice(token.pos + FIXED_SIZE_OF_FIELDS, dataSize);
+      Data dataImage = newDataImage(data);
       nistRecordBuilder.withField(RT8FieldsEnum.DATA, dataImage);
     }
 
     token.pos += length;
 
-    return nistRecordBuilder.build();
+    return buildWithReadProjection(nistRecordBuilder, token, start);
   }
 
   @Override
@@ -151,7 +150,8 @@ public class RT8SignatureImageRecordSerializerImpl
     }
   }
 
-  private int calculateLength(NistRecord record) {
-    return FIXED_SIZE_OF_FIELDS + record.getFieldLength(RT8FieldsEnum.DATA).orElse(0);
+  @Override
+  public long serializedSize(NistRecord record) {
+    return serializedSize(record, FIXED_SIZE_OF_FIELDS);
   }
 }
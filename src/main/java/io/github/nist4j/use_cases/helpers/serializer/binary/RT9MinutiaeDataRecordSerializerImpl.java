@@ -17,15 +17,14 @@ package io.github.nist4j.use_cases.helpers.serializer.binary;
 
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.use_cases.helpers.builders.records.RT9MinutiaeDataNistRecordBuilderImpl;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import io.github.nist4j.use_cases.helpers.serializer.binary.abstracts.AbstractTextRecordSerializer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class RT9MinutiaeDataRecordSerializerImpl
     extends AbstractTextRecordSerializer<RT9MinutiaeDataNistRecordBuilderImpl>
-    implements RecordReader, RecordWriter {
+    implements RecordCodec {
 
   public RT9MinutiaeDataRecordSerializerImpl(NistOptions nistOptions) {
     super(nistOptions, new RT9MinutiaeDataNistRecordBuilderImpl(nistOptions));
@@ -18,6 +18,7 @@ package io.github.nist4j.use_cases.helpers.serializer.binary.abstracts;
 import static java.lang.String.format;
 
 import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.entities.field.DataImage;
 import io.github.nist4j.entities.field.impl.DataImageImmutableImpl;
 import io.github.nist4j.entities.record.NistRecord;
@@ -26,8 +27,10 @@ import io.github.nist4j.enums.records.interfaces.IFieldTypeEnum;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
 import io.github.nist4j.use_cases.helpers.converters.LongTo2BytesConverter;
 import io.github.nist4j.use_cases.helpers.converters.LongTo4BytesConverter;
+import io.github.nist4j.use_cases.helpers.serializer.ChannelOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Optional;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -87,12 +90,24 @@ public abstract class AbstractBinaryRecordSerializer extends AbstractRecordSeria
         && field.getTypeClass() != DataImage.class) {
       throw new InvalidFormatNist4jException(format("Field %s is not type Data", field.getCode()));
     }
-    if (!record.getFieldImage(field).isPresent()) {
+    Optional<Data> oFieldData = record.getFieldData(field);
+    if (!oFieldData.isPresent()) {
       throw new InvalidFormatNist4jException(format("Missing %s field", field.getCode()));
     }
+    if (!(oFieldData.get() instanceof DataImage)) {
+      throw new InvalidFormatNist4jException(
+          format("Field %s isn't in image format", field.getCode()));
+    }
 
-    byte[] byteArrays = record.getFieldImage(field).get();
     log.debug("T{} record - writing du field  {}", record.getRecordId(), field.getCode());
-    outputStream.write(byteArrays);
+    ((DataImage) oFieldData.get()).writeTo(ChannelOutputStream.asChannel(outputStream));
+  }
+
+  /**
+   * @param sizeOfFixedFields number of bytes of the fields written before the image
+   * @return the number of bytes of the record once written
+   */
+  protected long serializedSize(@NonNull NistRecord record, int sizeOfFixedFields) {
+    return sizeOfFixedFields + record.getFieldLength(FIELD_DATA).orElse(0);
   }
 }
@@ -23,14 +23,13 @@ import io.github.nist4j.enums.records.GenericImageTypeEnum;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
-import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
 import io.github.nist4j.use_cases.helpers.converters.ByteToStringConverter;
 import io.github.nist4j.use_cases.helpers.converters.SubFieldToStringConverter;
-import io.github.nist4j.use_cases.helpers.serializer.RecordReader;
-import io.github.nist4j.use_cases.helpers.serializer.RecordWriter;
+import io.github.nist4j.use_cases.helpers.serializer.RecordCodec;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -40,7 +39,9 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBuilder>
-    extends AbstractBinaryRecordSerializer implements RecordReader, RecordWriter {
+    extends AbstractBinaryRecordSerializer implements RecordCodec {
+
+  private static final int FIXED_SIZE_OF_FIELDS = 18;
 
   private final ByteToStringConverter byteToStringConverter;
 
@@ -52,6 +53,7 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
   @Override
   public NistRecord read(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
     checkIfPosOutOfIndex(token);
+    int start = token.pos;
 
     NistRecordBuilder nistRecordBuilder = getNistRecordBuilder().newBuilder();
     int recordId = nistRecordBuilder.getRecordId();
@@ -66,7 +68,7 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
 
     if (checkRecordSizeLength(token, 4)) {
       // X.002 : IDC
-      int fingerPrintNo = token.buffer[token.pos + 4];
+      int fingerPrintNo = token.buffer.get(token.pos + 4);
       Data dataText =
           new DataTextBuilder().withValue(longToStringConverter.toString(fingerPrintNo)).build();
       nistRecordBuilder.withField(GenericImageTypeEnum.IDC, dataText);
@@ -74,7 +76,7 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
 
     if (checkRecordSizeLength(token, 5)) {
       // X.003 : IMP
-      int imp = token.buffer[token.pos + 5];
+      int imp = token.buffer.get(token.pos + 5);
       Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(imp)).build();
       nistRecordBuilder.withField(GenericImageTypeEnum.IMP, dataText);
     }
@@ -82,33 +84,33 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
     List<String> fgpArrays = new ArrayList<>();
     if (checkRecordSizeLength(token, 6)) {
       // X.004 : FGP
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 6]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 6)));
     }
 
     if (checkRecordSizeLength(token, 7)) {
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 7]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 7)));
     }
 
     if (checkRecordSizeLength(token, 8)) {
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 8]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 8)));
     }
 
     if (checkRecordSizeLength(token, 9)) {
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 9]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 9)));
     }
 
     if (checkRecordSizeLength(token, 10)) {
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 10]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 10)));
     }
 
     if (checkRecordSizeLength(token, 11)) {
-      fgpArrays.add(byteToStringConverter.toString(token.buffer[token.pos + 11]));
+      fgpArrays.add(byteToStringConverter.toString(token.buffer.get(token.pos + 11)));
     }
     Data dataTextFGP = new DataTextBuilder().withItems(fgpArrays).build();
     nistRecordBuilder.withField(GenericImageTypeEnum.FGP, dataTextFGP);
 
     if (checkRecordSizeLength(token, 12)) {
-      int isr = token.buffer[token.pos + 12];
+      int isr = token.buffer.get(token.pos + 12);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(isr)).build();
       nistRecordBuilder.withField(GenericImageTypeEnum.ISR, dataText);
     }
@@ -128,7 +130,7 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
     }
 
     if (checkRecordSizeLength(token, 17)) {
-      int gca = token.buffer[token.pos + 17];
+      int gca = token.buffer.get(token.pos + 17);
       log.debug("T{} record - parsing du record GCA {}", recordId, gca);
       Data dataText = new DataTextBuilder().withValue(byteToStringConverter.toString(gca)).build();
       nistRecordBuilder.withField(GenericImageTypeEnum.GCA, dataText);
@@ -137,20 +139,19 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
     // X.999 : DATA
     int dataSize = length - 18;
 
-    if (token.pos + dataSize + 17 > token.buffer.length) {
-      dataSize += token.buffer.length - token.pos - 18;
+    if (token.pos + dataSize + 17 > token.buffer.limit()) {
+      dataSize += token.buffer.limit() - token.pos - 18;
     }
 
-    if (dataSize > 0) {
-      byte[] data = new byte[dataSize];
-      System.arraycopy(token.buffer, token.pos + 18, data, 0, data.length + 18 - 18);
-      Data dataImage = new DataImageBuilder().withValue(data).build();
+    if (dataSize > 0 && isFieldIncluded(recordId, GenericImageTypeEnum.DATA.getId())) {
+      ByteBuffer data = token.slice(token.pos + 18, dataSize);
+      Data dataImage = newDataImage(data);
       nistRecordBuilder.withField(GenericImageTypeEnum.DATA, dataImage);
     }
 
     token.pos += length;
 
-    return nistRecordBuilder.build();
+    return buildWithReadProjection(nistRecordBuilder, token, start);
   }
 
   @Override
@@ -201,4 +202,9 @@ public abstract class AbstractImageBinaryRecordSerializer<Z extends NistRecordBu
       throw new ErrorEncodingNist4jException(e.getMessage());
     }
   }
+
+  @Override
+  public long serializedSize(NistRecord record) {
+    return serializedSize(record, FIXED_SIZE_OF_FIELDS);
+  }
 }
@@ -17,18 +17,25 @@ package io.github.nist4j.use_cases.helpers.serializer.binary.abstracts;
 
 import static java.lang.String.format;
 
+import io.github.nist4j.entities.ImageStore;
 import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.field.DataText;
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.converters.LongTo2BytesConverter;
 import io.github.nist4j.use_cases.helpers.converters.LongTo4BytesConverter;
 import io.github.nist4j.use_cases.helpers.converters.LongToStringConverter;
 import java.io.OutputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharacterCodingException;
+import java.util.ArrayList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -41,6 +48,7 @@ public abstract class AbstractRecordSerializer {
   protected static final int EMPTY_INT = 255;
   protected static final byte[] EMPTY_BYTES2 = new byte[] {0, 0};
   protected static final byte[] EMPTY_BYTES4 = new byte[] {0, 0, 0, 0};
+  protected static final int FIELD_DATA = 999;
 
   protected final NistOptions nistOptions;
   private final NistRecordBuilder nistRecordBuilder;
@@ -59,39 +67,177 @@ public abstract class AbstractRecordSerializer {
   public abstract NistRecord read(NistDecoderHelper.Token token)
       throws ErrorDecodingNist4jException;
 
+  /**
+   * Read the tag "type.field:" from the ASCII bytes of the token, without decoding them
+   */
   protected NistDecoderHelper.Tag getTagInfo(NistDecoderHelper.Token token)
       throws ErrorDecodingNist4jException {
-    String type = nextWord(token, NistDecoderHelper.TAG_SEP_DOT, 2);
+    int type = nextInt(token, '.', true);
     token.pos++;
-    String field = nextWord(token, NistDecoderHelper.TAG_SEP_COLN, 10);
+    int field = nextInt(token, ':', false);
     token.pos++;
 
-    return new NistDecoderHelper.Tag(
-        Integer.parseInt(type.replace(",", "")), Integer.parseInt(field));
+    return new NistDecoderHelper.Tag(type, field);
+  }
+
+  /**
+   * Read the ASCII digits of the token up to the separators {@code <GS>} or {@code <FS>}, without
+   * decoding them
+   */
+  protected int nextInt(NistDecoderHelper.Token token) throws ErrorDecodingNist4jException {
+    int start = token.pos;
+    long value = 0;
+    while (token.pos < token.buffer.limit()) {
+      byte b = token.buffer.get(token.pos);
+      if (b == NistDecoderHelper.SEP_GS || b == NistDecoderHelper.SEP_FS) {
+        break;
+      }
+      value = appendDigit(token, value, b);
+      token.pos++;
+    }
+    if (token.pos == start) {
+      throw new ErrorDecodingNist4jException(
+          format("Decoding NIST - Empty number in record type %s", token.crt));
+    }
+    return (int) value;
+  }
+
+  private int nextInt(NistDecoderHelper.Token token, char separator, boolean isCommaIgnored)
+      throws ErrorDecodingNist4jException {
+    long value = 0;
+    int digits = 0;
+    while (token.pos < token.buffer.limit()) {
+      byte b = token.buffer.get(token.pos);
+      if (b == separator) {
+        break;
+      }
+      if (b != ',' || !isCommaIgnored) {
+        value = appendDigit(token, value, b);
+        digits++;
+      }
+      token.pos++;
+    }
+    if (digits == 0 || token.pos == token.buffer.limit()) {
+      throw new ErrorDecodingNist4jException(
+          format("Decoding NIST - Invalid tag in record type %s at %s", token.crt, token.pos));
+    }
+    return (int) value;
+  }
+
+  private static long appendDigit(NistDecoderHelper.Token token, long value, byte b)
+      throws ErrorDecodingNist4jException {
+    int digit = b - '0';
+    long result = value * 10 + digit;
+    if (digit < 0 || digit > 9 || result > Integer.MAX_VALUE) {
+      throw new ErrorDecodingNist4jException(
+          format("Decoding NIST - Invalid number in record type %s at %s", token.crt, token.pos));
+    }
+    return result;
   }
 
   protected String nextWord(NistDecoderHelper.Token token, char[] sepList, int maxLen)
       throws ErrorDecodingNist4jException {
     int i = 0;
     while (i < maxLen
-        && token.pos < token.buffer.length
-        && token.buffer[token.pos] != sepList[0]
-        && token.buffer[token.pos] != sepList[1]) {
+        && token.pos < token.buffer.limit()
+        && token.buffer.get(token.pos) != sepList[0]
+        && token.buffer.get(token.pos) != sepList[1]) {
       token.pos++;
       i++;
     }
 
-    byte[] data = new byte[i];
-    System.arraycopy(token.buffer, token.pos - i, data, 0, i);
-
     try {
-      return String.valueOf(token.charsetDecoder.decode(ByteBuffer.wrap(data)));
+      return token.decode(token.pos - i, i);
     } catch (CharacterCodingException e) {
       log.error("Exception when reading the record ", e);
       throw new ErrorDecodingNist4jException(e.getMessage());
     }
   }
 
+  /**
+   * Same as {@link #nextWord(NistDecoderHelper.Token, char[], int)}, but the bytes are kept as a
+   * slice of the token and only decoded when the value of the field is read
+   */
+  protected DataText nextLazyWord(NistDecoderHelper.Token token, char[] sepList, int maxLen) {
+    int start = token.pos;
+    int i = 0;
+    while (i < maxLen
+        && token.pos < token.buffer.limit()
+        && token.buffer.get(token.pos) != sepList[0]
+        && token.buffer.get(token.pos) != sepList[1]) {
+      token.pos++;
+      i++;
+    }
+
+    ByteBuffer bytes = token.buffer.duplicate();
+    ((Buffer) bytes).limit(start + i).position(start);
+    DataTextLazyImpl dataText =
+        new DataTextLazyImpl(
+            bytes, token.charsetDecoder.charset(), token.hasAsciiCompatibleDecoder());
+    // The records sharing their images must not keep the buffer of their NistFile
+    return isSharingImages() ? dataText.copyToHeap() : dataText;
+  }
+
+  /**
+   * Move the token to the next separator without decoding the bytes skipped
+   */
+  protected void skipWord(NistDecoderHelper.Token token, char[] sepList) {
+    while (token.pos < token.buffer.limit()
+        && token.buffer.get(token.pos) != sepList[0]
+        && token.buffer.get(token.pos) != sepList[1]) {
+      token.pos++;
+    }
+  }
+
+  /**
+   * Build an image from a slice of the token, shared with the identical images already read when
+   * the options have an image store
+   */
+  protected DataImage newDataImage(ByteBuffer data) {
+    DataImage dataImage = new DataImageBuilder().withBuffer(data).build();
+    ImageStore imageStore = nistOptions.getImageStore();
+    return imageStore == null ? dataImage : imageStore.intern(dataImage);
+  }
+
+  private boolean isSharingImages() {
+    return nistOptions.getImageStore() != null;
+  }
+
+  protected boolean isFieldIncluded(int recordId, int fieldId) {
+    return nistOptions.getReadProjection().isFieldIncluded(recordId, fieldId);
+  }
+
+  /**
+   * Build the binary record without the fields out of the read projection. The bytes read since
+   * start are kept on the record when all its fields were read.
+   */
+  protected NistRecord buildWithReadProjection(
+      NistRecordBuilder nistRecordBuilder, NistDecoderHelper.Token token, int start) {
+    int recordId = nistRecordBuilder.getRecordId();
+    boolean isComplete = isFieldIncluded(recordId, FIELD_DATA);
+    for (Integer fieldId : new ArrayList<>(nistRecordBuilder.getFields().keySet())) {
+      if (!isFieldIncluded(recordId, fieldId)) {
+        nistRecordBuilder.removeField(fieldId);
+        isComplete = false;
+      }
+    }
+    if (isComplete) {
+      withRawBytes(nistRecordBuilder, token, start);
+    }
+    return nistRecordBuilder.buildTransferringOwnership();
+  }
+
+  /**
+   * Keep the bytes read since start on the record, so that it can be written back as is while it
+   * is not modified. They are not kept when the images are shared, as they would duplicate them.
+   */
+  protected void withRawBytes(
+      NistRecordBuilder nistRecordBuilder, NistDecoderHelper.Token token, int start) {
+    if (!isSharingImages() && token.pos <= token.buffer.limit()) {
+      nistRecordBuilder.withRawBytes(token.slice(start, token.pos - start));
+    }
+  }
+
   protected long read4BytesAsInt(NistDecoderHelper.Token token) {
     return LongTo4BytesConverter.from4Bytes(token.buffer, token.pos);
   }
@@ -102,14 +248,14 @@ public abstract class AbstractRecordSerializer {
 
   protected void checkIfPosOutOfIndex(NistDecoderHelper.Token token)
       throws ErrorDecodingNist4jException {
-    if (token.pos >= token.buffer.length) {
+    if (token.pos >= token.buffer.limit()) {
       throw new ErrorDecodingNist4jException(
           format("Error decoding record type %s : position %s out of index", token.crt, token.pos));
     }
   }
 
   protected boolean checkRecordSizeLength(NistDecoderHelper.Token token, int offset) {
-    return (token.pos + offset) < token.buffer.length;
+    return (token.pos + offset) < token.buffer.limit();
   }
 
   protected void checkTypeInFieldName(int recordId, NistDecoderHelper.Tag tag)
@@ -15,22 +15,25 @@
  */
 package io.github.nist4j.use_cases.helpers.serializer.binary.abstracts;
 
-import static java.lang.String.format;
-
 import io.github.nist4j.entities.NistOptions;
 import io.github.nist4j.entities.field.Data;
-import io.github.nist4j.entities.field.impl.DataImageImmutableImpl;
-import io.github.nist4j.entities.field.impl.DataTextImmutableImpl;
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.field.DataText;
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
 import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
-import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
+import io.github.nist4j.use_cases.helpers.calculators.FieldLENRecordTextCalculator;
+import io.github.nist4j.use_cases.helpers.serializer.ChannelOutputStream;
+import io.github.nist4j.use_cases.helpers.serializer.TaggedFieldEncoder;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,70 +41,65 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractTextRecordSerializer<Z extends NistRecordBuilder>
     extends AbstractRecordSerializer {
 
+  private final Charset charset;
+  private final FieldLENRecordTextCalculator fieldLENRecordTextCalculator;
+
   public AbstractTextRecordSerializer(
       NistOptions nistOptions, NistRecordBuilder nistRecordBuilder) {
     super(nistOptions, nistRecordBuilder);
+    this.charset = NistDecoderHelper.getCharset(nistOptions);
+    this.fieldLENRecordTextCalculator = new FieldLENRecordTextCalculator(nistOptions);
   }
 
   @Override
   public void write(OutputStream outputStream, NistRecord nistRecord)
       throws ErrorEncodingNist4jException {
     try {
+      TaggedFieldEncoder encoder = new TaggedFieldEncoder(outputStream, charset);
       boolean isFirst = true;
       for (Map.Entry<Integer, Data> iDataEntry : nistRecord.getFields().entrySet()) {
 
         if (isFirst) {
           isFirst = false;
         } else {
-          outputStream.write(NistDecoderHelper.SEP_GS);
+          encoder.writeSeparator(NistDecoderHelper.SEP_GS);
         }
-
-        if (iDataEntry.getValue() instanceof DataTextImmutableImpl) {
-          byte[] buffer =
-              generateFieldTextToken(
-                  nistRecord.getRecordId(),
-                  iDataEntry.getKey(),
-                  ((DataTextImmutableImpl) iDataEntry.getValue()));
-          outputStream.write(buffer);
-        } else if (iDataEntry.getValue() instanceof DataImageImmutableImpl) {
-          outputStream.write(
-              generatePrefixFieldImageToken(nistRecord.getRecordId(), iDataEntry.getKey()));
-          outputStream.write(((DataImageImmutableImpl) iDataEntry.getValue()).getData());
+        encoder.writeTag(nistRecord.getRecordId(), iDataEntry.getKey());
+
+        if (iDataEntry.getValue() instanceof DataTextLazyImpl) {
+          // Untouched field read from a file : copy its bytes without decoding them
+          ((DataTextLazyImpl) iDataEntry.getValue()).writeTo(encoder.flush());
+        } else if (iDataEntry.getValue() instanceof DataText) {
+          encoder.writeText(((DataText) iDataEntry.getValue()).getData());
+        } else if (iDataEntry.getValue() instanceof DataImage) {
+          ((DataImage) iDataEntry.getValue())
+              .writeTo(ChannelOutputStream.asChannel(encoder.flush()));
         } else {
           throw new InvalidFormatNist4jException("not implemented");
         }
       }
 
       // End the nistRecord with <FS>
-      outputStream.write(NistDecoderHelper.SEP_FS);
+      encoder.writeSeparator(NistDecoderHelper.SEP_FS);
+      encoder.flush();
     } catch (IOException e) {
       log.error("Exception when writing nistRecord 1", e);
       throw new ErrorEncodingNist4jException(e.getMessage());
     }
   }
 
-  private byte[] generatePrefixFieldImageToken(Integer recordId, Integer key) {
-    String start =
-        new StringBuilder()
-            .append(recordId)
-            .append(NistDecoderHelper.TAG_SEP_DOT[0])
-            .append(format("%03d", key))
-            .append(NistDecoderHelper.TAG_SEP_COLN[0])
-            .toString();
-    return start.getBytes();
-  }
-
-  private byte[] generateFieldTextToken(
-      Integer recordId, Integer key, DataTextImmutableImpl dataTextImmutableImpl) {
-
-    return new StringBuilder()
-        .append(recordId)
-        .append(NistDecoderHelper.TAG_SEP_DOT[0])
-        .append(format("%03d", key))
-        .append(NistDecoderHelper.TAG_SEP_COLN[0])
-        .append(dataTextImmutableImpl.getData())
-        .toString()
-        .getBytes();
+  /**
+   * @return the number of bytes of the record once written, calculated without encoding it
+   */
+  public long serializedSize(NistRecord nistRecord) {
+    int prefixLength = fieldLENRecordTextCalculator.calculatePrefixLength(nistRecord.getRecordId());
+    long size = 0;
+    for (Map.Entry<Integer, Data> iDataEntry : nistRecord.getFields().entrySet()) {
+      // <GS>X.NNN: before each field but the first one, and <FS> at the end of the record
+      size +=
+          prefixLength + fieldLENRecordTextCalculator.calculateFieldLength(iDataEntry.getValue());
+    }
+    return size;
   }
 
   @Override
@@ -114,50 +112,68 @@ public abstract class AbstractTextRecordSerializer<Z extends NistRecordBuilder>
 
     // Parse field LEN
     tag = getTagInfo(token);
-    log.debug(
-        "Decoding NIST - Record Type {} - position: {}, tag.field: {}",
-        tag.type,
-        token.pos,
-        tag.field);
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Decoding NIST - Record Type {} - position: {}, tag.field: {}",
+          tag.type,
+          token.pos,
+          tag.field);
+    }
     checkTypeInFieldName(nistRecordBuilder.getRecordId(), tag);
-    int length =
-        Integer.parseInt(
-            nextWord(token, NistDecoderHelper.TAG_SEP_GSFS, NistDecoderHelper.FIELD_MAX_LENGTH));
+    int length = nextInt(token);
     Data dataText = new DataTextBuilder().withValue(longToStringConverter.toString(length)).build();
     nistRecordBuilder.withField(tag.field, dataText);
-    log.debug(
-        "Decoding NIST - Record Type {} - position: {}, length: {}", tag.type, token.pos, length);
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Decoding NIST - Record Type {} - position: {}, length: {}", tag.type, token.pos, length);
+    }
 
     // Parse other fields
+    boolean isComplete = true;
     token.pos++;
     do {
       tag = getTagInfo(token);
-      log.debug(
-          "Decoding NIST - Record Type {} - position: {}, tag.field: {}",
-          tag.type,
-          token.pos,
-          tag.field);
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "Decoding NIST - Record Type {} - position: {}, tag.field: {}",
+            tag.type,
+            token.pos,
+            tag.field);
+      }
 
       checkTypeInFieldName(nistRecordBuilder.getRecordId(), tag);
 
-      if (tag.field == 999) {
-        byte[] data = new byte[length - 1 - (token.pos - start)];
-        System.arraycopy(token.buffer, token.pos, data, 0, data.length);
-        token.pos = token.pos + data.length;
-        if (token.buffer[token.pos] == NistDecoderHelper.SEP_FS) {
+      if (tag.field == FIELD_DATA) {
+        int dataLength = length - 1 - (token.pos - start);
+        if (isFieldIncluded(tag.type, tag.field)) {
+          ByteBuffer data = token.slice(token.pos, dataLength);
+          Data dataImage = newDataImage(data);
+          nistRecordBuilder.withField(FIELD_DATA, dataImage);
+        } else {
+          isComplete = false;
+        }
+        // The value of an excluded field 999 may not have been read by the NistStreamReader
+        token.pos = Math.min(token.pos + dataLength, token.buffer.limit());
+        if (token.pos < token.buffer.limit()
+            && token.buffer.get(token.pos) == NistDecoderHelper.SEP_FS) {
           token.pos++;
         }
-        Data dataImage = new DataImageBuilder().withValue(data).build();
-        nistRecordBuilder.withField(999, dataImage);
         break;
+      } else if (!isFieldIncluded(tag.type, tag.field)) {
+        skipWord(token, NistDecoderHelper.TAG_SEP_GSFS);
+        isComplete = false;
       } else {
-        String value =
-            nextWord(token, NistDecoderHelper.TAG_SEP_GSFS, NistDecoderHelper.FIELD_MAX_LENGTH - 1);
-        dataText = new DataTextBuilder().withValue(value).build();
+        dataText =
+            nextLazyWord(
+                token, NistDecoderHelper.TAG_SEP_GSFS, NistDecoderHelper.FIELD_MAX_LENGTH - 1);
         nistRecordBuilder.withField(tag.field, dataText);
       }
 
-    } while (token.buffer[token.pos++] != NistDecoderHelper.SEP_FS);
-    return nistRecordBuilder.build();
+    } while (token.buffer.get(token.pos++) != NistDecoderHelper.SEP_FS);
+
+    if (isComplete) {
+      withRawBytes(nistRecordBuilder, token, start);
+    }
+    return nistRecordBuilder.buildTransferringOwnership();
   }
 }
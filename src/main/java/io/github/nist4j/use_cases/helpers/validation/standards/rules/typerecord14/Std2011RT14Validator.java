@@ -218,7 +218,7 @@ public class Std2011RT14Validator extends AbstractStdRT14Validator {
   }
 
   private static boolean hasImage(NistRecord record14) {
-    return record14.getFieldImage(RT14FieldsEnum.DATA).isPresent();
+    return record14.getFieldImageBuffer(RT14FieldsEnum.DATA).isPresent();
   }
 
   public class Standard2011RT14WithImageValidator extends AbstractNistRecordValidator {
@@ -87,8 +87,8 @@ public class Std2015RT14Validator extends Std2013RT14Validator {
   }
 
   private static boolean hasImage(NistRecord record14) {
-    return record14.getFieldImage(RT14FieldsEnum.DATA).isPresent()
-        || record14.getFieldImage(RT14FieldsEnum.EFR).isPresent();
+    return record14.getFieldImageBuffer(RT14FieldsEnum.DATA).isPresent()
+        || record14.getFieldImageBuffer(RT14FieldsEnum.EFR).isPresent();
   }
 
   public class Standard2015RT14WithImageValidator extends Standard2011RT14WithImageValidator {
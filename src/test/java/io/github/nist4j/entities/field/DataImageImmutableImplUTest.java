@@ -19,7 +19,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 class DataImageImmutableImplUTest {
 
@@ -80,6 +89,26 @@ class DataImageImmutableImplUTest {
     assertThat(field1).isNotEqualTo(new DataTextBuilder().build());
   }
 
+  @Test
+  void equals_should_compare_the_images_in_heap_and_direct_buffers() {
+    // Given
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(fakeImage.length).put(fakeImage);
+    ((Buffer) directBuffer).flip();
+    ByteBuffer otherDirectBuffer = ByteBuffer.allocateDirect(fakeImage.length).put(fakeImage);
+    otherDirectBuffer.put(3, (byte) 9);
+    ((Buffer) otherDirectBuffer).flip();
+    Data heapField = new DataImageBuilder().withValue(fakeImage).build();
+    Data directField = new DataImageBuilder().withBuffer(directBuffer).build();
+    Data otherDirectField = new DataImageBuilder().withBuffer(otherDirectBuffer).build();
+
+    // When
+    // Then
+    assertThat(heapField).isEqualTo(directField).hasSameHashCodeAs(directField);
+    assertThat(directField).isEqualTo(heapField);
+    assertThat(heapField).isNotEqualTo(otherDirectField);
+    assertThat(directField).isNotEqualTo(otherDirectField);
+  }
+
   @Test
   void hashCode_should_be_implemented() {
     byte[] sameFakeImage2 = new byte[] {1, 2, 3, 4};
@@ -95,7 +124,7 @@ class DataImageImmutableImplUTest {
   }
 
   @Test
-  void deepCopy_should_copy_content() {
+  void deepCopy_should_share_the_immutable_image() {
     // Given
     Data field1 = new DataImageBuilder().withValue(fakeImage).build();
 
@@ -105,7 +134,143 @@ class DataImageImmutableImplUTest {
     // Then
     assertThat(field1).isEqualTo(field2);
     assertThat(field1.getData()).isEqualTo(field2.getData());
-    assertThat(field1).isNotSameAs(field2);
-    assertThat(field1).as("image should be copy to").isNotSameAs(field2.getData());
+    assertThat(field1).as("image is read-only so it should not be copied").isSameAs(field2);
+  }
+
+  @Test
+  void build_should_copy_the_array_of_the_builder() {
+    // Given
+    byte[] image = new byte[] {1, 2, 3, 4};
+    Data field = new DataImageBuilder().withValue(image).build();
+
+    // When
+    image[0] = 9;
+
+    // Then
+    assertThat(field.getData()).isEqualTo(fakeImage);
+  }
+
+  @Test
+  void asReadOnlyBuffer_should_share_the_image() {
+    // Given
+    ByteBuffer source = ByteBuffer.wrap(new byte[] {0, 1, 2, 3, 4, 0});
+    ((Buffer) source).position(1).limit(5);
+    DataImage field = (DataImage) new DataImageBuilder().withBuffer(source).build();
+
+    // When
+    ByteBuffer buffer = field.asReadOnlyBuffer();
+    buffer.get();
+
+    // Then
+    assertThat(buffer.isReadOnly()).isTrue();
+    assertThat(field.getLength()).isEqualTo(4);
+    assertThat(field.asReadOnlyBuffer().remaining()).isEqualTo(4);
+    assertThat(field.getData()).isEqualTo(fakeImage);
+  }
+
+  @Test
+  void openStream_should_read_the_image() throws Exception {
+    // Given
+    DataImage field = (DataImage) new DataImageBuilder().withValue(fakeImage).build();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    try (InputStream inputStream = field.openStream()) {
+      assertThat(inputStream.read()).isEqualTo(1);
+      byte[] bytes = new byte[8];
+      int count;
+      while ((count = inputStream.read(bytes)) != -1) {
+        outputStream.write(bytes, 0, count);
+      }
+    }
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(new byte[] {2, 3, 4});
+  }
+
+  @Test
+  void writeTo_should_write_the_whole_image() throws Exception {
+    // Given
+    DataImage field = (DataImage) new DataImageBuilder().withValue(fakeImage).build();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    field.writeTo(Channels.newChannel(outputStream));
+    field.writeTo(Channels.newChannel(outputStream));
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(new byte[] {1, 2, 3, 4, 1, 2, 3, 4});
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "'', ef46db3751d8e999",
+    "a, d24ec4f1a98c6e5b",
+    "abc, 44bc2cf5ad770999",
+    "Nobody inspects the spammish repetition, fbcea83c8a378bf1",
+    "The quick brown fox jumps over the lazy dog, 0b242d361fda71bc"
+  })
+  void getDigest_should_be_the_xxHash64_of_the_image(String image, String expectedDigest) {
+    // Given
+    byte[] bytes = image.getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length + 3);
+    directBuffer.put(new byte[] {9, 9, 9}).put(bytes);
+    ((Buffer) directBuffer).position(3);
+    DataImage heapImage = (DataImage) new DataImageBuilder().withValue(bytes).build();
+    DataImage directImage = new DataImageBuilder().withBuffer(directBuffer).build();
+
+    // When
+    // Then
+    assertThat(Long.toHexString(heapImage.getDigest()))
+        .isEqualTo(expectedDigest.replaceFirst("^0+", ""));
+    assertThat(directImage.getDigest()).isEqualTo(heapImage.getDigest());
+  }
+
+  @Test
+  void getSha256_should_be_the_sha256_of_the_image() throws Exception {
+    // Given
+    DataImage field = (DataImage) new DataImageBuilder().withValue(fakeImage).build();
+
+    // When
+    byte[] sha256 = field.getSha256();
+    sha256[0]++;
+
+    // Then
+    assertThat(field.getSha256())
+        .isEqualTo(MessageDigest.getInstance("SHA-256").digest(fakeImage))
+        .isNotEqualTo(sha256);
+  }
+
+  @Test
+  void default_methods_should_read_a_copy_of_the_image() throws Exception {
+    // Given
+    DataImage dataImage =
+        new DataImage() {
+          @Override
+          public byte[] getData() {
+            return fakeImage.clone();
+          }
+
+          @Override
+          public int getLength() {
+            return fakeImage.length;
+          }
+
+          @Override
+          public Data<byte[]> deepCopy() {
+            return this;
+          }
+        };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    dataImage.writeTo(Channels.newChannel(outputStream));
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(fakeImage);
+    assertThat(dataImage.asReadOnlyBuffer()).isEqualTo(ByteBuffer.wrap(fakeImage));
+    try (InputStream inputStream = dataImage.openStream()) {
+      assertThat(inputStream).hasBinaryContent(fakeImage);
+    }
   }
 }
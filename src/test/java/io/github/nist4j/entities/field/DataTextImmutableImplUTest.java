@@ -17,7 +17,10 @@ package io.github.nist4j.entities.field;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
 import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class DataTextImmutableImplUTest {
@@ -61,6 +64,16 @@ class DataTextImmutableImplUTest {
     assertThat(field1).isEqualTo(field2);
   }
 
+  @Test
+  void equals_should_not_throw_on_a_malformed_lazy_value() {
+    byte[] malformed = {(byte) 0xC3, (byte) 0x28};
+    Data field1 = new DataTextBuilder().withValue("test").build();
+    Data field2 = new DataTextLazyImpl(ByteBuffer.wrap(malformed), StandardCharsets.UTF_8, true);
+
+    assertThat(field1.equals(field2)).isFalse();
+    assertThat(field2.equals(field1)).isFalse();
+  }
+
   @Test
   void hashCode_should_be_implemented() {
     Data field1 = new DataTextBuilder().withValue("test 1").build();
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.field.impl.DataTextLazyImpl;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder;
+import java.io.ByteArrayOutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class DataTextLazyImplUTest {
+
+  @Test
+  void getData_should_decode_ascii_bytes() {
+    DataText field = lazy("test", StandardCharsets.UTF_8);
+    assertThat(field.getData()).isEqualTo("test");
+    assertThat(field.getLength()).isEqualTo(4);
+  }
+
+  @Test
+  void getData_should_decode_non_ascii_bytes_with_the_charset() {
+    DataText field = lazy("été", StandardCharsets.UTF_8);
+    assertThat(field.getLength()).isEqualTo(3);
+    assertThat(field.getData()).isEqualTo("été");
+  }
+
+  @Test
+  void getData_should_decode_a_direct_buffer() {
+    byte[] bytes = "test".getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    ((Buffer) direct.put(bytes)).flip();
+    DataText field = new DataTextLazyImpl(direct, StandardCharsets.US_ASCII, true);
+    assertThat(field.getData()).isEqualTo("test");
+  }
+
+  @Test
+  void getData_should_throw_an_exception_when_bytes_are_malformed() {
+    DataText field =
+        new DataTextLazyImpl(
+            ByteBuffer.wrap(new byte[] {(byte) 0xC3, (byte) 0x28}), StandardCharsets.UTF_8, true);
+    assertThrows(ErrorDecodingNist4jException.class, field::getData);
+  }
+
+  @Test
+  void equals_should_be_implemented_with_any_DataText() {
+    DataText field1 = lazy("test 1", StandardCharsets.UTF_8);
+    Data field2 = new DataTextBuilder().withValue("test 1").build();
+    DataText field3 = lazy("test", StandardCharsets.UTF_8);
+
+    assertThat(field1).isEqualTo(field2);
+    assertThat(field2).isEqualTo(field1);
+    assertThat(field1.hashCode()).isEqualTo(field2.hashCode());
+    assertThat(field1).isNotEqualTo(field3);
+  }
+
+  @Test
+  void equals_should_compare_the_bytes_when_they_are_malformed() {
+    byte[] malformed = {(byte) 0xC3, (byte) 0x28};
+    DataText field1 =
+        new DataTextLazyImpl(ByteBuffer.wrap(malformed), StandardCharsets.UTF_8, true);
+    DataText field2 =
+        new DataTextLazyImpl(ByteBuffer.wrap(malformed.clone()), StandardCharsets.UTF_8, true);
+    DataText field3 = lazy("test", StandardCharsets.UTF_8);
+
+    assertThat(field1).isEqualTo(field2);
+    assertThat(field1.hashCode()).isEqualTo(field2.hashCode());
+    assertThat(field1).isNotEqualTo(field3);
+    assertThat(field3).isNotEqualTo(field1);
+    assertThat(field1).isNotEqualTo(new DataTextBuilder().withValue("test").build());
+    assertThat(new DataTextBuilder().withValue("test").build()).isNotEqualTo(field1);
+    assertThat(field1.toString()).isEqualTo("DataText(malformed UTF-8 value)");
+  }
+
+  @Test
+  void writeTo_should_copy_the_raw_bytes() throws Exception {
+    // Given
+    byte[] bytes = "فيصل".getBytes("windows-1256");
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 2);
+    buffer.put((byte) 'x').put(bytes).put((byte) 'y');
+    ((Buffer) buffer).limit(bytes.length + 1).position(1);
+    DataTextLazyImpl field = new DataTextLazyImpl(buffer, Charset.forName("windows-1256"), true);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    field.writeTo(outputStream);
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(bytes);
+    assertThat(field.getData()).isEqualTo("فيصل");
+  }
+
+  @Test
+  void deepCopy_should_share_content() {
+    // Given
+    DataText field1 = lazy("fake content", StandardCharsets.UTF_8);
+
+    // When
+    Data field2 = field1.deepCopy();
+
+    // Then
+    assertThat(field1).isEqualTo(field2);
+    assertThat(field1).as("bytes are never modified so can be shared").isSameAs(field2);
+  }
+
+  private static DataTextLazyImpl lazy(String value, Charset charset) {
+    return new DataTextLazyImpl(ByteBuffer.wrap(value.getBytes(charset)), charset, true);
+  }
+}
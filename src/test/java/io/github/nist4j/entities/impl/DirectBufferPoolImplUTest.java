@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class DirectBufferPoolImplUTest {
+
+  @Test
+  void acquire_should_return_a_direct_buffer_of_the_size_class() {
+    // Given
+    DirectBufferPoolImpl bufferPool = new DirectBufferPoolImpl(1000, 5000, 2);
+
+    // When
+    ByteBuffer small = bufferPool.acquire(10);
+    ByteBuffer medium = bufferPool.acquire(1500);
+
+    // Then
+    assertThat(bufferPool.getMinBufferSize()).isEqualTo(1024);
+    assertThat(small.isDirect()).isTrue();
+    assertThat(small.capacity()).isEqualTo(1024);
+    assertThat(small.position()).isZero();
+    assertThat(small.limit()).isEqualTo(10);
+    assertThat(medium.capacity()).isEqualTo(2048);
+    assertThat(medium.limit()).isEqualTo(1500);
+  }
+
+  @Test
+  void acquire_should_reuse_the_released_buffers() {
+    // Given
+    DirectBufferPoolImpl bufferPool = new DirectBufferPoolImpl(1024, 8192, 2);
+    ByteBuffer buffer = bufferPool.acquire(3000);
+    buffer.put((byte) 1);
+
+    // When
+    bufferPool.release(buffer);
+    ByteBuffer reused = bufferPool.acquire(4000);
+
+    // Then
+    assertThat(reused).isSameAs(buffer);
+    assertThat(reused.position()).isZero();
+    assertThat(reused.limit()).isEqualTo(4000);
+    assertThat(bufferPool.countFreeBuffers()).isZero();
+  }
+
+  @Test
+  void release_should_keep_a_limited_number_of_buffers() {
+    // Given
+    DirectBufferPoolImpl bufferPool = new DirectBufferPoolImpl(1024, 8192, 2);
+    ByteBuffer buffer1 = bufferPool.acquire(1024);
+    ByteBuffer buffer2 = bufferPool.acquire(1024);
+    ByteBuffer buffer3 = bufferPool.acquire(1024);
+    ByteBuffer tooLarge = bufferPool.acquire(10000);
+
+    // When
+    bufferPool.release(buffer1);
+    bufferPool.release(buffer2);
+    bufferPool.release(buffer3);
+    bufferPool.release(tooLarge);
+    bufferPool.release(ByteBuffer.allocate(1024));
+
+    // Then
+    assertThat(tooLarge.isDirect()).isTrue();
+    assertThat(tooLarge.capacity()).isEqualTo(10000);
+    assertThat(bufferPool.countFreeBuffers()).isEqualTo(2);
+  }
+
+  @Test
+  void constructor_should_throw_an_exception_on_invalid_sizes() {
+    // When
+    // Then
+    assertThrows(IllegalArgumentException.class, () -> new DirectBufferPoolImpl(0, 1024, 1));
+    assertThrows(IllegalArgumentException.class, () -> new DirectBufferPoolImpl(2048, 1024, 1));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static io.github.nist4j.enums.RecordTypeEnum.RT1;
+import static io.github.nist4j.enums.RecordTypeEnum.RT14;
+import static io.github.nist4j.enums.RecordTypeEnum.RT2;
+import static io.github.nist4j.enums.records.RTDefaultFieldsEnum.IDC;
+import static io.github.nist4j.fixtures.RecordFixtures.newRecordBuilderEnableCalculation;
+import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
+import io.github.nist4j.fixtures.Record1Fixtures;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class LazyNistFileImplUTest {
+
+  private final AtomicInteger nbDecodedRecords = new AtomicInteger();
+
+  private Supplier<NistRecord> newCountingSupplier(int recordId, int idc) {
+    return () -> {
+      nbDecodedRecords.incrementAndGet();
+      return newRecordBuilderEnableCalculation(recordId)
+          .withField(IDC, newFieldText(String.valueOf(idc)))
+          .build();
+    };
+  }
+
+  private LazyNistFileImpl newLazyNistFile() {
+    Map<RecordTypeEnum, List<Supplier<NistRecord>>> recordSuppliers = new TreeMap<>();
+    recordSuppliers.put(
+        RT2, new ArrayList<>(Arrays.asList(newCountingSupplier(2, 0), newCountingSupplier(2, 1))));
+    recordSuppliers.put(
+        RT14,
+        new ArrayList<>(
+            Arrays.asList(
+                newCountingSupplier(14, 1),
+                newCountingSupplier(14, 2),
+                newCountingSupplier(14, 3))));
+    return new LazyNistFileImpl(
+        Record1Fixtures.record1Cas1_basic_Record().build(), recordSuppliers);
+  }
+
+  @Test
+  void constructor_should_not_decode_the_records() {
+    // Given
+    // When
+    LazyNistFileImpl nistFile = newLazyNistFile();
+
+    // Then
+    assertThat(nbDecodedRecords).hasValue(0);
+    assertThat(nistFile.countDecodedRecords()).isEqualTo(1);
+    assertThat(nistFile.getRT1TransactionInformationRecord()).isNotNull();
+    assertThat(nistFile.getRecordListByRecordTypeEnum(RT14)).hasSize(3);
+    assertThat(nbDecodedRecords).hasValue(0);
+  }
+
+  @Test
+  void getters_should_decode_only_the_records_accessed() {
+    // Given
+    LazyNistFileImpl nistFile = newLazyNistFile();
+
+    // When
+    List<NistRecord> rt2Records = nistFile.getRT2UserDefinedDescriptionTextRecords();
+    rt2Records.forEach(NistRecord::getRecordId);
+
+    // Then
+    assertThat(rt2Records).hasSize(2);
+    assertThat(nbDecodedRecords).hasValue(2);
+    assertThat(nistFile.countDecodedRecords()).isEqualTo(3);
+  }
+
+  @Test
+  void getRecordByTypeAndIdc_should_decode_the_records_up_to_the_idc() {
+    // Given
+    LazyNistFileImpl nistFile = newLazyNistFile();
+
+    // When
+    NistRecord rt14 = nistFile.getRecordByTypeAndIdc(RT14, 2).orElse(null);
+
+    // Then
+    assertThat(rt14).isNotNull();
+    assertThat(rt14.getFieldText(IDC)).hasValue("2");
+    assertThat(nbDecodedRecords).hasValue(2);
+  }
+
+  @Test
+  void getRecordByTypeAndIdc_with_a_CNT_should_decode_only_the_record_of_the_idc() {
+    // Given
+    NistRecord rt1 =
+        newRecordBuilderEnableCalculation(1)
+            .withField(
+                RT1FieldsEnum.CNT,
+                newFieldText(
+                    "1\u001F5\u001E2\u001F0\u001E2\u001F1"
+                        + "\u001E14\u001F1\u001E14\u001F2\u001E14\u001F3"))
+            .build();
+    Map<RecordTypeEnum, List<Supplier<NistRecord>>> recordSuppliers = new TreeMap<>();
+    recordSuppliers.put(
+        RT2, new ArrayList<>(Arrays.asList(newCountingSupplier(2, 0), newCountingSupplier(2, 1))));
+    recordSuppliers.put(
+        RT14,
+        new ArrayList<>(
+            Arrays.asList(
+                newCountingSupplier(14, 1),
+                newCountingSupplier(14, 2),
+                newCountingSupplier(14, 3))));
+    LazyNistFileImpl nistFile = new LazyNistFileImpl(rt1, recordSuppliers);
+
+    // When
+    NistRecord rt14 = nistFile.getRecordByTypeAndIdc(RT14, 3).orElse(null);
+
+    // Then
+    assertThat(rt14).isNotNull();
+    assertThat(rt14.getFieldText(IDC)).hasValue("3");
+    assertThat(nbDecodedRecords).hasValue(1);
+    assertThat(nistFile.getRecordByTypeAndIdc(RT14, 4)).isEmpty();
+    assertThat(nbDecodedRecords).hasValue(1);
+  }
+
+  @Test
+  void records_should_be_decoded_only_once() {
+    // Given
+    LazyNistFileImpl nistFile = newLazyNistFile();
+
+    // When
+    NistRecord first = nistFile.getRT14VariableResolutionFingerprintRecords().get(0);
+    NistRecord second = nistFile.getRT14VariableResolutionFingerprintRecords().get(0);
+
+    // Then
+    assertThat(first).isSameAs(second);
+    assertThat(nbDecodedRecords).hasValue(1);
+    assertThat(nistFile.getMapOfAllrecords().keySet()).containsExactly(RT1, RT2, RT14);
+  }
+}
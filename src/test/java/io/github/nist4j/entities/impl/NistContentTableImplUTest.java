@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistContentTable;
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.ReadNistFile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NistContentTableImplUTest {
+
+  private static final String US = "\u001F";
+  private static final String RS = "\u001E";
+
+  @Test
+  void parse_should_list_the_records_following_the_RT1() {
+    NistContentTable contentTable =
+        NistContentTableImpl.parse("1" + US + "3" + RS + "2" + US + "00" + RS + "14" + US + "12");
+
+    assertThat(contentTable.size()).isEqualTo(2);
+    assertThat(contentTable.getRecordType(0)).isEqualTo(2);
+    assertThat(contentTable.getIdc(0)).isEqualTo(0);
+    assertThat(contentTable.getRecordType(1)).isEqualTo(14);
+    assertThat(contentTable.getIdc(1)).isEqualTo(12);
+  }
+
+  @Test
+  void parse_should_return_minus_one_when_idc_is_missing() {
+    NistContentTable contentTable = NistContentTableImpl.parse("1" + US + "1" + RS + "2");
+
+    assertThat(contentTable.size()).isEqualTo(1);
+    assertThat(contentTable.getIdc(0)).isEqualTo(-1);
+  }
+
+  @Test
+  void parse_should_return_an_empty_table_when_cnt_is_empty() {
+    assertThat(NistContentTableImpl.parse("").size()).isZero();
+  }
+
+  @Test
+  void parse_should_throw_an_exception_when_cnt_is_not_a_number() {
+    assertThrows(
+        NumberFormatException.class,
+        () -> NistContentTableImpl.parse("1" + US + "1" + RS + "A" + US + "0"));
+  }
+
+  @Test
+  void getContentTable_should_parse_the_CNT_of_the_RT1() {
+    NistFile nistFile =
+        new ReadNistFile()
+            .execute(
+                ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2").toPath());
+
+    NistContentTable contentTable = nistFile.getContentTable().orElse(null);
+
+    assertThat(contentTable).isNotNull();
+    assertThat(contentTable.size())
+        .isEqualTo(nistFile.getMapOfAllrecords().values().stream().mapToInt(List::size).sum() - 1);
+    assertThat(nistFile.getContentTable()).containsSame(contentTable);
+  }
+}
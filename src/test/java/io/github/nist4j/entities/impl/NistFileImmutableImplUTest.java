@@ -34,16 +34,24 @@ import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.github.nist4j.entities.NistContentTable;
 import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.NistFileBuilder;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.NistStandardEnum;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
 import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.exceptions.Nist4jException;
 import io.github.nist4j.fixtures.NistFileFixtures;
 import io.github.nist4j.fixtures.OptionsFixtures;
 import io.github.nist4j.fixtures.Record1Fixtures;
 import io.github.nist4j.use_cases.CreateNistFile;
 import io.github.nist4j.use_cases.helpers.builders.file.NistFileBuilderImpl;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class NistFileImmutableImplUTest {
@@ -182,4 +190,80 @@ class NistFileImmutableImplUTest {
     assertThrows(InvalidFormatNist4jException.class, nistFile::getRT1TransactionInformationRecord);
     assertThat(nistFileWithRT1.getRT1TransactionInformationRecord()).isEqualTo(rt1);
   }
+
+  @Test
+  void getContentTable_by_default_should_parse_the_CNT_of_the_RT1() {
+    // Given
+    NistRecord rt1 =
+        newRecordBuilderEnableCalculation(1)
+            .withField(RT1FieldsEnum.CNT, newFieldText("1\u001F1\u001E14\u001F3"))
+            .build();
+    NistFile nistFile = mock(NistFile.class, CALLS_REAL_METHODS);
+    when(nistFile.getRT1TransactionInformationRecord()).thenReturn(rt1);
+
+    // When
+    NistContentTable contentTable = nistFile.getContentTable().orElse(null);
+
+    // Then
+    assertThat(contentTable).isNotNull();
+    assertThat(contentTable.size()).isEqualTo(1);
+    assertThat(contentTable.getRecordType(0)).isEqualTo(14);
+    assertThat(contentTable.getIdc(0)).isEqualTo(3);
+  }
+
+  @Test
+  void close_without_action_should_keep_the_nistFile_usable() {
+    // Given
+    NistRecord rt1 = Record1Fixtures.record1Cas1_basic_Record().build();
+    NistFile nistFile =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT1, rt1)
+            .build();
+
+    // When
+    nistFile.close();
+
+    // Then
+    assertThat(nistFile.getRT1TransactionInformationRecord()).isEqualTo(rt1);
+    assertThat(nistFile.getRecordByTypeAndIdc(RT1, 0)).hasValue(rt1);
+  }
+
+  @Test
+  void close_with_an_action_should_run_it_once_and_keep_equals_hashCode_and_toString() {
+    // Given
+    NistRecord rt1 = Record1Fixtures.record1Cas1_basic_Record().build();
+    AtomicInteger closeCount = new AtomicInteger();
+    NistFile nistFile =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT1, rt1)
+            .withOnClose(closeCount::incrementAndGet)
+            .build();
+    NistFile sameNistFile =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT1, rt1)
+            .build();
+
+    // When
+    nistFile.close();
+    nistFile.close();
+
+    // Then
+    assertThat(closeCount).hasValue(1);
+    assertThrows(Nist4jException.class, nistFile::getMapOfAllrecords);
+    assertThat(nistFile).isEqualTo(sameNistFile).hasSameHashCodeAs(sameNistFile);
+    assertThat(nistFile.toString()).isEqualTo(sameNistFile.toString());
+  }
+
+  @Test
+  void withOnClose_by_default_should_be_ignored() {
+    // Given
+    NistFileBuilder nistFileBuilder = mock(NistFileBuilder.class, CALLS_REAL_METHODS);
+
+    // When
+    NistFileBuilder result = nistFileBuilder.withOnClose(() -> {});
+
+    // Then
+    assertThat(result).isSameAs(nistFileBuilder);
+    assertThat(nistFileBuilder.getOnClose()).isEmpty();
+  }
 }
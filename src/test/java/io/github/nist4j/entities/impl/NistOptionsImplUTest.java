@@ -17,6 +17,8 @@ package io.github.nist4j.entities.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 import io.github.nist4j.entities.NistOptions;
 import org.junit.jupiter.api.Test;
@@ -43,4 +45,20 @@ class NistOptionsImplUTest {
     assertThat(nistOptions.toString()).doesNotContain("NistOptionsImpl@");
     assertThat(nistOptions.toString()).doesNotContain("NistOptions@");
   }
+
+  @Test
+  void default_methods_should_keep_the_behaviour_of_the_options_without_them() {
+    // Given
+    NistOptions nistOptions = mock(NistOptions.class, CALLS_REAL_METHODS);
+
+    // When
+    // Then
+    assertThat(nistOptions.getReadProjection()).isSameAs(NistReadProjectionImpl.ALL);
+    assertThat(nistOptions.getWriteParallelism()).isEqualTo(1);
+    assertThat(nistOptions.getParallelWriteThreshold()).isEqualTo(8);
+    assertThat(nistOptions.getBufferPool()).isNull();
+    assertThat(nistOptions.getSpillThreshold()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(nistOptions.getSpillDirectory()).isNull();
+    assertThat(nistOptions.getImageStore()).isNull();
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.entities.NistReadProjection;
+import io.github.nist4j.enums.RecordTypeEnum;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+
+class NistReadProjectionImplUTest {
+
+  @Test
+  void all_should_include_every_record_and_field() {
+    NistReadProjection readProjection = NistReadProjectionImpl.ALL;
+
+    assertThat(readProjection.isRecordTypeIncluded(14)).isTrue();
+    assertThat(readProjection.isRecordTypeIncluded(50)).isTrue();
+    assertThat(readProjection.isFieldIncluded(14, 999)).isTrue();
+    assertThat(readProjection.isFieldIncluded(2, 3)).isTrue();
+  }
+
+  @Test
+  void recordTypes_should_restrict_the_records_but_always_include_RT1() {
+    NistReadProjection readProjection =
+        NistReadProjectionImpl.builder().recordTypes(EnumSet.of(RecordTypeEnum.RT2)).build();
+
+    assertThat(readProjection.isRecordTypeIncluded(1)).isTrue();
+    assertThat(readProjection.isRecordTypeIncluded(2)).isTrue();
+    assertThat(readProjection.isRecordTypeIncluded(14)).isFalse();
+    assertThat(readProjection.isRecordTypeIncluded(50)).isFalse();
+  }
+
+  @Test
+  void fieldIds_should_restrict_the_fields_but_always_include_LEN_and_IDC() {
+    NistReadProjection readProjection =
+        NistReadProjectionImpl.builder()
+            .fieldIds(
+                Collections.singletonMap(RecordTypeEnum.RT2, new HashSet<>(Arrays.asList(3, 5))))
+            .build();
+
+    assertThat(readProjection.isFieldIncluded(2, 1)).isTrue();
+    assertThat(readProjection.isFieldIncluded(2, 2)).isTrue();
+    assertThat(readProjection.isFieldIncluded(2, 3)).isTrue();
+    assertThat(readProjection.isFieldIncluded(2, 4)).isFalse();
+    assertThat(readProjection.isFieldIncluded(14, 4)).isTrue();
+  }
+
+  @Test
+  void isSkipImages_should_exclude_the_field_999() {
+    NistReadProjection readProjection = NistReadProjectionImpl.builder().isSkipImages(true).build();
+
+    assertThat(readProjection.isFieldIncluded(14, 999)).isFalse();
+    assertThat(readProjection.isFieldIncluded(14, 3)).isTrue();
+  }
+
+  @Test
+  void equalsHashCode_should_be_implemented() {
+    NistReadProjection readProjection =
+        NistReadProjectionImpl.builder().recordTypes(EnumSet.of(RecordTypeEnum.RT2)).build();
+    NistReadProjection readProjection2 =
+        NistReadProjectionImpl.builder().recordTypes(EnumSet.of(RecordTypeEnum.RT2)).build();
+
+    assertThat(readProjection).isEqualTo(readProjection2);
+    assertThat(readProjection.hashCode()).isEqualTo(readProjection2.hashCode());
+    assertThat(readProjection).isNotEqualTo(NistReadProjectionImpl.ALL);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static io.github.nist4j.enums.RecordTypeEnum.RT14;
+import static io.github.nist4j.enums.RecordTypeEnum.RT2;
+import static io.github.nist4j.enums.records.RTDefaultFieldsEnum.IDC;
+import static io.github.nist4j.fixtures.RecordFixtures.newRecordBuilderEnableCalculation;
+import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RecordIdcIndexUTest {
+
+  @Test
+  void of_should_index_the_first_record_of_each_type_and_idc() {
+    // Given
+    NistRecord rt14idc1 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14idc2 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText("02")).build();
+    NistRecord rt14idc1Again =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14NotNumeric =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText("A")).build();
+    NistRecord rt2WithoutIdc = newRecordBuilderEnableCalculation(2).build();
+    Map<RecordTypeEnum, List<NistRecord>> mapOfAllRecords = new EnumMap<>(RecordTypeEnum.class);
+    mapOfAllRecords.put(RT14, asList(rt14idc1, rt14idc2, rt14idc1Again, rt14NotNumeric));
+    mapOfAllRecords.put(RT2, asList(rt2WithoutIdc));
+
+    // When
+    RecordIdcIndex recordIdcIndex = RecordIdcIndex.of(mapOfAllRecords);
+
+    // Then
+    assertThat(recordIdcIndex.get(RT14, 1)).containsSame(rt14idc1);
+    assertThat(recordIdcIndex.get(RT14, 2)).containsSame(rt14idc2);
+    assertThat(recordIdcIndex.get(RT14, 3)).isEmpty();
+    assertThat(recordIdcIndex.get(RT2, RecordIdcIndex.NO_IDC)).containsSame(rt2WithoutIdc);
+    assertThat(recordIdcIndex.get(RecordTypeEnum.RT4, 1)).isEmpty();
+  }
+
+  @Test
+  void reindex_should_index_the_next_record_with_the_same_idc() {
+    // Given
+    NistRecord rt14idc1 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14idc1Again =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+    recordIdcIndex.add(RT14, rt14idc1);
+    recordIdcIndex.add(RT14, rt14idc1Again);
+
+    // When
+    recordIdcIndex.reindex(RT14, asList(rt14idc1Again));
+
+    // Then
+    assertThat(recordIdcIndex.get(RT14, 1)).containsSame(rt14idc1Again);
+  }
+
+  @Test
+  void remove_should_only_remove_the_record_with_this_idc() {
+    // Given
+    NistRecord rt14idc1 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14idc2 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(2)).build();
+    RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+    recordIdcIndex.add(RT14, rt14idc1);
+    recordIdcIndex.add(RT14, rt14idc2);
+
+    // When
+    recordIdcIndex.remove(RT14, 1, asList(rt14idc2));
+
+    // Then
+    assertThat(recordIdcIndex.get(RT14, 1)).isEmpty();
+    assertThat(recordIdcIndex.get(RT14, 2)).containsSame(rt14idc2);
+  }
+
+  @Test
+  void remove_should_index_the_next_record_with_the_same_idc() {
+    // Given
+    NistRecord rt14idc1 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14idc1Again =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+    recordIdcIndex.add(RT14, rt14idc1);
+    recordIdcIndex.add(RT14, rt14idc1Again);
+
+    // When
+    recordIdcIndex.remove(RT14, 1, asList(rt14idc1Again));
+
+    // Then
+    assertThat(recordIdcIndex.get(RT14, 1)).containsSame(rt14idc1Again);
+  }
+
+  @Test
+  void replace_should_index_the_new_record() {
+    // Given
+    NistRecord rt14idc1 =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText(1)).build();
+    NistRecord rt14idc1Replaced =
+        newRecordBuilderEnableCalculation(14).withField(IDC, newFieldText("01")).build();
+    RecordIdcIndex recordIdcIndex = new RecordIdcIndex();
+    recordIdcIndex.add(RT14, rt14idc1);
+
+    // When
+    recordIdcIndex.replace(RT14, 1, rt14idc1Replaced);
+
+    // Then
+    assertThat(recordIdcIndex.get(RT14, 1)).containsSame(rt14idc1Replaced);
+  }
+}
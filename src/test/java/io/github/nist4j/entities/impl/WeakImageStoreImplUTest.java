@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder;
+import java.lang.ref.WeakReference;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class WeakImageStoreImplUTest {
+
+  @Test
+  void intern_should_return_the_stored_image_with_the_same_content() {
+    // Given
+    WeakImageStoreImpl imageStore = new WeakImageStoreImpl();
+    DataImage image = (DataImage) new DataImageBuilder().withValue(new byte[] {1, 2, 3}).build();
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(3).put(new byte[] {1, 2, 3});
+    ((Buffer) directBuffer).flip();
+    DataImage sameImage = new DataImageBuilder().withBuffer(directBuffer).build();
+    DataImage otherImage =
+        (DataImage) new DataImageBuilder().withValue(new byte[] {3, 2, 1}).build();
+
+    // When
+    DataImage internedImage = imageStore.intern(image);
+    DataImage internedSameImage = imageStore.intern(sameImage);
+    DataImage internedOtherImage = imageStore.intern(otherImage);
+
+    // Then
+    assertThat(internedImage).isNotSameAs(image).isEqualTo(image);
+    assertThat(internedSameImage).isSameAs(internedImage);
+    assertThat(internedOtherImage).isNotSameAs(otherImage).isEqualTo(otherImage);
+    assertThat(imageStore.size()).isEqualTo(2);
+  }
+
+  @Test
+  void intern_should_not_keep_the_buffer_of_the_image() throws Exception {
+    // Given
+    WeakImageStoreImpl imageStore = new WeakImageStoreImpl();
+    byte[] file = new byte[1 << 20];
+    file[10] = 1;
+    WeakReference<byte[]> fileReference = new WeakReference<>(file);
+    ByteBuffer slice = ByteBuffer.wrap(file, 10, 3);
+    DataImage internedImage = imageStore.intern(new DataImageBuilder().withBuffer(slice).build());
+
+    // When
+    file = null;
+    slice = null;
+    for (int i = 0; i < 50 && fileReference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    // Then
+    assertThat(fileReference.get()).isNull();
+    assertThat(internedImage.getData()).isEqualTo(new byte[] {1, 0, 0});
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.entities.record;
+
+import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.record.impl.SortedFieldMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class SortedFieldMapUTest {
+
+  @Test
+  void copyOf_should_sort_the_fields_by_id() {
+    // Given
+    Map<Integer, Data> fields = new LinkedHashMap<>();
+    fields.put(999, newFieldText("c"));
+    fields.put(2, newFieldText("b"));
+    fields.put(1, newFieldText("a"));
+
+    // When
+    SortedFieldMap sortedFieldMap = SortedFieldMap.copyOf(fields, UnaryOperator.identity());
+
+    // Then
+    assertThat(sortedFieldMap.keySet()).containsExactly(1, 2, 999);
+    List<Integer> forEachIds = new ArrayList<>();
+    sortedFieldMap.forEach((id, data) -> forEachIds.add(id));
+    assertThat(forEachIds).containsExactly(1, 2, 999);
+  }
+
+  @Test
+  void get_should_find_the_fields_by_id() {
+    // Given
+    Map<Integer, Data> fields = new TreeMap<>();
+    fields.put(1, newFieldText("a"));
+    fields.put(3, newFieldText("c"));
+
+    // When
+    SortedFieldMap sortedFieldMap = SortedFieldMap.copyOf(fields, UnaryOperator.identity());
+
+    // Then
+    assertThat(sortedFieldMap.getField(3)).isEqualTo(newFieldText("c"));
+    assertThat(sortedFieldMap.get(1)).isEqualTo(newFieldText("a"));
+    assertThat(sortedFieldMap.get(2)).isNull();
+    assertThat(sortedFieldMap.get("1")).isNull();
+    assertThat(sortedFieldMap.containsKey(3)).isTrue();
+    assertThat(sortedFieldMap.containsKey(4)).isFalse();
+  }
+
+  @Test
+  void equals_should_be_true_with_a_map_of_the_same_fields() {
+    // Given
+    Map<Integer, Data> fields = new TreeMap<>();
+    fields.put(1, newFieldText("a"));
+    fields.put(2, newFieldText("b"));
+
+    // When
+    SortedFieldMap sortedFieldMap = SortedFieldMap.copyOf(fields, UnaryOperator.identity());
+
+    // Then
+    assertThat(sortedFieldMap).isEqualTo(fields).hasSameHashCodeAs(fields);
+    assertThat(fields).isEqualTo(sortedFieldMap);
+  }
+
+  @Test
+  void equals_should_compare_two_sorted_field_maps() {
+    // Given
+    Map<Integer, Data> fields = new TreeMap<>();
+    fields.put(1, newFieldText("a"));
+    fields.put(2, newFieldText("b"));
+    Map<Integer, Data> otherFields = new TreeMap<>(fields);
+    otherFields.put(2, newFieldText("c"));
+
+    // When
+    SortedFieldMap sortedFieldMap = SortedFieldMap.copyOf(fields, UnaryOperator.identity());
+    SortedFieldMap sameSortedFieldMap = SortedFieldMap.copyOf(fields, Data::deepCopy);
+    SortedFieldMap otherSortedFieldMap =
+        SortedFieldMap.copyOf(otherFields, UnaryOperator.identity());
+
+    // Then
+    assertThat(sortedFieldMap).isEqualTo(sameSortedFieldMap).hasSameHashCodeAs(sameSortedFieldMap);
+    assertThat(sortedFieldMap).isNotEqualTo(otherSortedFieldMap);
+  }
+
+  @Test
+  void put_should_throw_an_exception() {
+    // Given
+    SortedFieldMap sortedFieldMap =
+        SortedFieldMap.copyOf(new TreeMap<>(), UnaryOperator.identity());
+
+    // When
+    // Then
+    assertThat(sortedFieldMap).isEmpty();
+    assertThrows(
+        UnsupportedOperationException.class, () -> sortedFieldMap.put(1, newFieldText("a")));
+  }
+}
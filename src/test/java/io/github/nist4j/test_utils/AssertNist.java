@@ -20,8 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.github.nist4j.entities.NistFile;
 import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.field.DataText;
 import io.github.nist4j.entities.field.impl.DataImageImmutableImpl;
-import io.github.nist4j.entities.field.impl.DataTextImmutableImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.enums.RecordTypeEnum;
 import java.util.*;
@@ -48,8 +48,8 @@ public class AssertNist {
 
     Set<Map.Entry<Integer, Data>> entrySet = expectedRecord.getFields().entrySet();
     for (Map.Entry<Integer, Data> field : entrySet) {
-      if (field.getValue() instanceof DataTextImmutableImpl) {
-        DataTextImmutableImpl expectedValue = (DataTextImmutableImpl) field.getValue();
+      if (field.getValue() instanceof DataText) {
+        DataText expectedValue = (DataText) field.getValue();
 
         assertThat(resultRecord.getFieldText(field.getKey()))
             .hasValue(expectedValue.getData())
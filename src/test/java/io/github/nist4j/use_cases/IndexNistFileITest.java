@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.impl.NistReadProjectionImpl;
+import io.github.nist4j.entities.index.NistFileIndex;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.enums.CharsetEnum;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class IndexNistFileITest {
+
+  private static final List<String> BATCH_FILES =
+      Arrays.asList(
+          "/references/type-4-14-slaps.an2",
+          "/references/type-14-amp-nqm-utf8.an2",
+          "/references/type-7-latent.an2",
+          "/references/type-9-13-9-14-m1.an2");
+
+  private final ReadNistFile readNistFile = new ReadNistFile();
+  private final IndexNistFile indexNistFile = new IndexNistFile();
+  private final ReadNistFileIndex readNistFileIndex = new ReadNistFileIndex();
+  private final ReadIndexedNistRecord readIndexedNistRecord = new ReadIndexedNistRecord();
+
+  @Test
+  void execute_should_index_each_nist_of_a_batch_file() throws Exception {
+    // Given
+    Path batchPath = createBatchFile();
+    Path indexPath = createTempFile(".idx");
+
+    // When
+    NistFileIndex nistFileIndex = indexNistFile.execute(batchPath, indexPath);
+
+    // Then
+    assertThat(nistFileIndex.getTransactionCount()).isEqualTo(BATCH_FILES.size());
+    long offset = 0;
+    for (int t = 0; t < BATCH_FILES.size(); t++) {
+      File file = ImportFileUtils.getFileFromResource(BATCH_FILES.get(t));
+      NistFile expectedNistFile = readNistFile.execute(file.toPath());
+      assertThat(nistFileIndex.getTransactionOffset(t)).isEqualTo(offset);
+      assertThat(nistFileIndex.getTransactionLength(t)).isEqualTo(file.length());
+      assertThat(nistFileIndex.getRecords(t))
+          .hasSize(
+              expectedNistFile.getMapOfAllrecords().values().stream().mapToInt(List::size).sum()
+                  - 1);
+      offset += file.length();
+    }
+    assertThat(readNistFileIndex.execute(indexPath)).isEqualTo(nistFileIndex);
+  }
+
+  @Test
+  void execute_with_a_read_projection_should_index_each_nist_of_a_batch_file() throws Exception {
+    // Given
+    Path batchPath = createBatchFile();
+    IndexNistFile indexNistFileWithoutRT14 =
+        new IndexNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .readProjection(
+                    NistReadProjectionImpl.builder()
+                        .recordTypes(EnumSet.complementOf(EnumSet.of(RecordTypeEnum.RT14)))
+                        .build())
+                .build());
+
+    // When
+    NistFileIndex nistFileIndex = indexNistFileWithoutRT14.execute(batchPath);
+
+    // Then
+    assertThat(nistFileIndex.getTransactionCount()).isEqualTo(BATCH_FILES.size());
+    long offset = 0;
+    for (int t = 0; t < BATCH_FILES.size(); t++) {
+      File file = ImportFileUtils.getFileFromResource(BATCH_FILES.get(t));
+      assertThat(nistFileIndex.getTransactionOffset(t)).isEqualTo(offset);
+      assertThat(nistFileIndex.getTransactionLength(t)).isEqualTo(file.length());
+      assertThat(nistFileIndex.getRecords(t))
+          .noneMatch(r -> r.getRecordType() == RecordTypeEnum.RT14.getNumber());
+      offset += file.length();
+    }
+  }
+
+  @Test
+  void execute_should_read_a_record_at_its_indexed_position() throws Exception {
+    // Given
+    Path batchPath = createBatchFile();
+    Path indexPath = createTempFile(".idx");
+    indexNistFile.execute(batchPath, indexPath);
+    NistFileIndex nistFileIndex = readNistFileIndex.execute(indexPath);
+
+    try (FileChannel fileChannel = FileChannel.open(batchPath, StandardOpenOption.READ)) {
+      for (int t = 0; t < BATCH_FILES.size(); t++) {
+        NistFile expectedNistFile =
+            readNistFile.execute(ImportFileUtils.getFileFromResource(BATCH_FILES.get(t)).toPath());
+        for (NistRecordSummary nistRecordSummary : nistFileIndex.getRecords(t)) {
+          RecordTypeEnum recordType =
+              RecordTypeEnum.valueOf("RT" + nistRecordSummary.getRecordType());
+          int idc = Integer.parseInt(nistRecordSummary.getIdc());
+
+          // When
+          Optional<NistRecord> nistRecord =
+              readIndexedNistRecord.execute(fileChannel, nistFileIndex, t, recordType, idc);
+
+          // Then
+          assertThat(nistRecord).isPresent();
+          assertThat(nistRecord.get().getFields())
+              .isEqualTo(
+                  expectedNistFile
+                      .getRecordByTypeAndIdc(recordType, idc)
+                      .map(NistRecord::getFields)
+                      .orElse(null));
+        }
+      }
+    }
+  }
+
+  @Test
+  void execute_should_return_empty_when_record_is_not_indexed() throws Exception {
+    // Given
+    Path batchPath = createBatchFile();
+    NistFileIndex nistFileIndex = indexNistFile.execute(batchPath);
+
+    // When
+    Optional<NistRecord> nistRecord =
+        readIndexedNistRecord.execute(batchPath, nistFileIndex, 0, RecordTypeEnum.RT14, 99);
+
+    // Then
+    assertThat(nistRecord).isEmpty();
+  }
+
+  @Test
+  void execute_should_throw_an_exception_when_sidecar_is_not_an_index() {
+    // Given
+    File noIndex = ImportFileUtils.getFileFromResource("/fake/nist4j-logo.png");
+
+    // When
+    // Then
+    assertThrows(
+        ErrorDecodingNist4jException.class, () -> readNistFileIndex.execute(noIndex.toPath()));
+  }
+
+  private static Path createBatchFile() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    for (String batchFile : BATCH_FILES) {
+      outputStream.write(
+          Files.readAllBytes(ImportFileUtils.getFileFromResource(batchFile).toPath()));
+    }
+    Path batchPath = createTempFile(".an2");
+    Files.write(batchPath, outputStream.toByteArray());
+    return batchPath;
+  }
+
+  private static Path createTempFile(String suffix) throws Exception {
+    Path path = Files.createTempFile("batch", suffix);
+    path.toFile().deleteOnExit();
+    return path;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.impl.LazyNistFileImpl;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.test_utils.AssertNist;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ReadLazyNistFileITest {
+
+  private static final String DIRECTORY_FILES = "/references";
+
+  private final ReadNistFile readNistFile =
+      new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  private final ReadLazyNistFile readLazyNistFile =
+      new ReadLazyNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+
+  private static Stream<Arguments> getFiles() {
+    return getFilesFromResources(DIRECTORY_FILES, ".*.an2$").stream()
+        .map(file -> Arguments.of(file.getName(), file));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void execute_should_generate_the_same_nistFile_than_readNistFile(String filename, File file)
+      throws Exception {
+    // Given
+    NistFile expectedNistFile = readNistFile.execute(Files.newInputStream(file.toPath()));
+
+    // When
+    NistFile nistFile = readLazyNistFile.execute(file.toPath());
+
+    // Then
+    AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+    assertThat(nistFile.getMapOfAllrecords().keySet())
+        .isEqualTo(expectedNistFile.getMapOfAllrecords().keySet());
+  }
+
+  @Test
+  void execute_should_only_decode_the_RT1() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-tpcard-nqm.an2");
+
+    // When
+    NistFile nistFile = readLazyNistFile.execute(Files.newInputStream(file.toPath()));
+
+    // Then
+    assertThat(nistFile.getRT1TransactionInformationRecord()).isNotNull();
+    assertThat(((LazyNistFileImpl) nistFile).countDecodedRecords()).isEqualTo(1);
+    assertThat(nistFile.getRT2UserDefinedDescriptionTextRecords().get(0).getRecordId())
+        .isEqualTo(2);
+    assertThat(((LazyNistFileImpl) nistFile).countDecodedRecords()).isEqualTo(2);
+  }
+
+  @Test
+  void execute_should_throw_an_exception_when_file_is_not_a_nist() {
+    // Given
+    File noFile = ImportFileUtils.getFileFromResource("/fake/nist4j-logo.png");
+
+    // When
+    // Then
+    assertThrows(
+        ErrorDecodingNist4jException.class, () -> readLazyNistFile.execute(noFile.toPath()));
+    assertThrows(
+        ErrorDecodingNist4jException.class,
+        () -> readLazyNistFile.execute(Files.newInputStream(noFile.toPath())));
+  }
+}
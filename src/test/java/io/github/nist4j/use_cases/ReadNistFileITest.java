@@ -16,18 +16,40 @@
 package io.github.nist4j.use_cases;
 
 import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import io.github.nist4j.entities.NistBufferPool;
 import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.impl.DirectBufferPoolImpl;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.impl.NistReadProjectionImpl;
+import io.github.nist4j.entities.impl.WeakImageStoreImpl;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.CharsetEnum;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.Nist4jException;
 import io.github.nist4j.test_utils.AssertJnbisNist;
+import io.github.nist4j.test_utils.AssertNist;
 import io.github.nist4j.test_utils.ImportFileUtils;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.jnbis.api.Jnbis;
 import org.jnbis.api.model.Nist;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -50,15 +72,180 @@ class ReadNistFileITest {
     assertThat(nist).isNotNull();
 
     // When
-    NistFile nistFile =
-        new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE)
-            .execute(Files.newInputStream(file.toPath()));
+    NistFile nistFile = read(new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE), file);
 
     // Then
     assertThat(nistFile).isNotNull();
     AssertJnbisNist.assertThatNist(nistFile).isEqualsTo(nist);
   }
 
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void readANistFile_from_a_path_should_generate_the_same_nistFile_than_from_a_stream(
+      String filename, File file) throws Exception {
+    // Given
+    ReadNistFile readNistFile = new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+    NistFile expectedNistFile = read(readNistFile, file);
+
+    // When
+    NistFile nistFile = readNistFile.execute(file.toPath());
+
+    // Then
+    AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void readANistFile_with_a_buffer_pool_should_release_the_buffers_on_close(
+      String filename, File file) throws Exception {
+    // Given
+    NistFile expectedNistFile =
+        read(new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE), file);
+    WriteNistFile writeNistFile = new WriteNistFile();
+    boolean hasLargeRecords =
+        expectedNistFile.getMapOfAllrecords().values().stream()
+            .flatMap(List::stream)
+            .anyMatch(r -> writeNistFile.serializedSize(r) >= 1024);
+    DirectBufferPoolImpl bufferPool = new DirectBufferPoolImpl(1024, 1 << 26, 100);
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .bufferPool(bufferPool)
+                .build());
+
+    // When
+    try (NistFile nistFile = read(readNistFile, file)) {
+
+      // Then
+      AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+      assertThat(bufferPool.countFreeBuffers()).isZero();
+    }
+    assertThat(bufferPool.countFreeBuffers() > 0).isEqualTo(hasLargeRecords);
+  }
+
+  @Test
+  void readANistFile_with_a_buffer_pool_should_be_copied_by_from() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2");
+    NistFile expectedNistFile =
+        new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE).execute(file.toPath());
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .bufferPool(new ErasingBufferPool())
+                .build());
+    NistFile nistFile = read(readNistFile, file);
+
+    // When
+    NistFile copiedNistFile =
+        new CreateNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE)
+            .execute()
+            .from(nistFile)
+            .build();
+    nistFile.close();
+
+    // Then
+    assertThat(copiedNistFile.isReleasedOnClose()).isFalse();
+    AssertNist.assertThatNist(copiedNistFile).isEqualTo(expectedNistFile);
+    assertThrows(Nist4jException.class, nistFile::getMapOfAllrecords);
+    assertThrows(Nist4jException.class, nistFile::getRT14VariableResolutionFingerprintRecords);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void readANistFile_with_a_spill_threshold_should_delete_the_spilled_files_on_close(
+      String filename, File file, @TempDir Path spillDirectory) throws Exception {
+    // Given
+    NistFile expectedNistFile =
+        read(new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE), file);
+    WriteNistFile writeNistFile = new WriteNistFile();
+    boolean hasLargeRecords =
+        expectedNistFile.getMapOfAllrecords().values().stream()
+            .flatMap(List::stream)
+            .anyMatch(r -> writeNistFile.serializedSize(r) > 1024);
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .spillThreshold(1024)
+                .spillDirectory(spillDirectory)
+                .build());
+
+    // When
+    try (NistFile nistFile = read(readNistFile, file)) {
+
+      // Then
+      AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+      assertThat(countFiles(spillDirectory) > 0).isEqualTo(hasLargeRecords);
+    }
+    assertThat(countFiles(spillDirectory)).isZero();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void readANistFile_with_a_read_projection_should_only_decode_the_records_projected(
+      String filename, File file) throws Exception {
+    // Given
+    NistFile expectedNistFile =
+        read(new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE), file);
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .readProjection(
+                    NistReadProjectionImpl.builder()
+                        .recordTypes(EnumSet.of(RecordTypeEnum.RT2))
+                        .build())
+                .build());
+
+    // When
+    NistFile nistFileFromStream = read(readNistFile, file);
+    NistFile nistFileFromPath = readNistFile.execute(file.toPath());
+
+    // Then
+    for (NistFile nistFile : Arrays.asList(nistFileFromStream, nistFileFromPath)) {
+      assertThat(nistFile.getMapOfAllrecords().keySet())
+          .isSubsetOf(RecordTypeEnum.RT1, RecordTypeEnum.RT2);
+      AssertNist.assertThatNist(nistFile)
+          .hasTheSameRecord1(expectedNistFile)
+          .hasTheSameRecord2(expectedNistFile);
+    }
+  }
+
+  @Test
+  void readANistFile_with_a_read_projection_should_skip_the_fields_out_of_the_projection()
+      throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-amp-nqm-utf8.an2");
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .readProjection(
+                    NistReadProjectionImpl.builder()
+                        .fieldIds(Collections.singletonMap(RecordTypeEnum.RT2, singleton(3)))
+                        .isSkipImages(true)
+                        .build())
+                .build());
+
+    // When
+    NistFile nistFile = read(readNistFile, file);
+
+    // Then
+    NistRecord rt2 = nistFile.getRT2UserDefinedDescriptionTextRecords().get(0);
+    assertThat(rt2.getFields().keySet()).containsExactly(1, 2, 3);
+    assertThat(rt2.getFieldText(3)).hasValue("two chinese characters: 華裔");
+    assertThat(nistFile.getRT14VariableResolutionFingerprintRecords())
+        .isNotEmpty()
+        .allSatisfy(
+            rt14 -> {
+              assertThat(rt14.getFieldData(999)).isEmpty();
+              assertThat(rt14.getFieldText(3)).isPresent();
+            });
+  }
+
   @Test
   void readANistFile_with_accent_and_encoding_UTF8_should_read_correctly() throws Exception {
     // Given
@@ -76,4 +263,91 @@ class ReadNistFileITest {
     assertThat(nistFile.getRT2UserDefinedDescriptionTextRecords().get(0).getFieldText(3))
         .hasValue("two chinese characters: 華裔");
   }
+
+  @Test
+  void readANistFile_with_an_image_store_should_share_the_images_of_the_nistFiles()
+      throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-tpcard-nqm.an2");
+    WeakImageStoreImpl imageStore = new WeakImageStoreImpl();
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .imageStore(imageStore)
+                .build());
+
+    // When
+    NistFile nistFile1 = read(readNistFile, file);
+    NistFile nistFile2 = read(readNistFile, file);
+
+    // Then
+    NistRecord record1 = nistFile1.getRecordListByRecordTypeEnum(RecordTypeEnum.RT14).get(0);
+    NistRecord record2 = nistFile2.getRecordListByRecordTypeEnum(RecordTypeEnum.RT14).get(0);
+    assertThat(record2).isNotSameAs(record1);
+    assertThat(record2.getFields().get(999)).isSameAs(record1.getFields().get(999));
+    assertThat(record2.getRawBytes()).isEmpty();
+    assertThat(imageStore.size()).isPositive();
+  }
+
+  @Test
+  void readANistFile_with_an_image_store_and_a_buffer_pool_should_outlive_the_close()
+      throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2");
+    NistFile expectedNistFile =
+        new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE).execute(file.toPath());
+    ReadNistFile readNistFile =
+        new ReadNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .bufferPool(new ErasingBufferPool())
+                .imageStore(new WeakImageStoreImpl())
+                .build());
+
+    // When
+    NistFile nistFile = read(readNistFile, file);
+    Map<RecordTypeEnum, List<NistRecord>> records = nistFile.getMapOfAllrecords();
+    nistFile.close();
+
+    // Then
+    assertThat(records).isEqualTo(expectedNistFile.getMapOfAllrecords());
+  }
+
+  private static NistFile read(ReadNistFile readNistFile, File file) throws IOException {
+    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+      return readNistFile.execute(inputStream);
+    }
+  }
+
+  private static long countFiles(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  /** Pool erasing the buffers released, as their next use would */
+  private static class ErasingBufferPool implements NistBufferPool {
+
+    private final DirectBufferPoolImpl delegate = new DirectBufferPoolImpl(1024, 1 << 26, 100);
+
+    @Override
+    public int getMinBufferSize() {
+      return delegate.getMinBufferSize();
+    }
+
+    @Override
+    public ByteBuffer acquire(int size) {
+      return delegate.acquire(size);
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+      ((Buffer) buffer).clear();
+      for (int i = 0; i < buffer.capacity(); i++) {
+        buffer.put(i, (byte) 0);
+      }
+      delegate.release(buffer);
+    }
+  }
 }
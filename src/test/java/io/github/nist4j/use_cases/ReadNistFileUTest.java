@@ -21,6 +21,7 @@ import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
 import io.github.nist4j.test_utils.ImportFileUtils;
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 class ReadNistFileUTest {
@@ -39,4 +40,17 @@ class ReadNistFileUTest {
         ErrorDecodingNist4jException.class,
         () -> READ_NIST_FILE.execute(Files.newInputStream(noFile.toPath())));
   }
+
+  @Test
+  void readANistFile_from_a_path_should_throw_an_exception() {
+    // Given
+    File noFile = ImportFileUtils.getFileFromResource("/fake/nist4j-logo.png");
+
+    // When
+    // Then
+    assertThrows(ErrorDecodingNist4jException.class, () -> READ_NIST_FILE.execute(noFile.toPath()));
+    assertThrows(
+        ErrorDecodingNist4jException.class,
+        () -> READ_NIST_FILE.execute(Paths.get("unknown-nist-file.an2")));
+  }
 }
@@ -15,19 +15,34 @@
  */
 package io.github.nist4j.use_cases;
 
+import static io.github.nist4j.enums.RecordTypeEnum.RT1;
+import static io.github.nist4j.fixtures.OptionsFixtures.OPTIONS_CALCULATE_ON_BUILD;
 import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
+import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import io.github.nist4j.entities.NistContentTable;
 import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
 import io.github.nist4j.test_utils.AssertJnbisNist;
 import io.github.nist4j.test_utils.AssertNist;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.helpers.builders.records.RT1TransactionInformationNistRecordBuilderImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.jnbis.api.Jnbis;
 import org.jnbis.api.model.Nist;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -75,4 +90,62 @@ class ReadWriteAndReadAgainITest {
 
     FileUtils.deleteQuietly(outputFile);
   }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getPassFiles")
+  void readAndWrite_should_copy_the_records_as_is(String filename, File file) throws Exception {
+    // Given
+    byte[] content = Files.readAllBytes(file.toPath());
+    NistFile nistFile = readNistFile.execute(new ByteArrayInputStream(content));
+    assumeTrue(hasUniqueIdcs(nistFile), "records are written by type and idc");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    writeNistFile.execute(nistFile, outputStream);
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(content);
+  }
+
+  @Test
+  void write_should_copy_the_records_not_modified_as_is() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-tpcard-nqm.an2");
+    byte[] content = Files.readAllBytes(file.toPath());
+    NistFile nistFile = readNistFile.execute(new ByteArrayInputStream(content));
+    NistRecord record1 = nistFile.getRT1TransactionInformationRecord();
+    int originalLengthOfRecord1 = record1.getRawBytes().get().remaining();
+    NistRecord newRecord1 =
+        new RT1TransactionInformationNistRecordBuilderImpl(OPTIONS_CALCULATE_ON_BUILD)
+            .from(record1)
+            .withField(RT1FieldsEnum.ORI, newFieldText("NEW ORI"))
+            .build();
+    NistFile modifiedNistFile =
+        new CreateNistFile().execute().from(nistFile).replaceRecord(RT1, 0, newRecord1).build();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    writeNistFile.execute(modifiedNistFile, outputStream);
+
+    // Then
+    byte[] result = outputStream.toByteArray();
+    int lengthOfRecord1 =
+        modifiedNistFile.getRT1TransactionInformationRecord().getFieldAsInt(1).get();
+    assertThat(Arrays.copyOfRange(result, lengthOfRecord1, result.length))
+        .isEqualTo(Arrays.copyOfRange(content, originalLengthOfRecord1, content.length));
+    NistFile nistFileRead = readNistFile.execute(new ByteArrayInputStream(result));
+    assertThat(nistFileRead.getRT1TransactionInformationRecord().getFieldText(RT1FieldsEnum.ORI))
+        .hasValue("NEW ORI");
+  }
+
+  private static boolean hasUniqueIdcs(NistFile nistFile) {
+    NistContentTable contentTable = nistFile.getContentTable().get();
+    Set<String> idcs = new HashSet<>();
+    for (int i = 0; i < contentTable.size(); i++) {
+      if (!idcs.add(contentTable.getRecordType(i) + "." + contentTable.getIdc(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
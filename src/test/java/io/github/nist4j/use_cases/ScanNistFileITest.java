@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases;
+
+import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.entities.summary.NistFileSummary;
+import io.github.nist4j.entities.summary.NistRecordSummary;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.helpers.serializer.NistStreamReader;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ScanNistFileITest {
+
+  private static final String DIRECTORY_FILES = "/references";
+
+  private final ReadNistFile readNistFile =
+      new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  private final ScanNistFile scanNistFile =
+      new ScanNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+
+  private static Stream<Arguments> getFiles() {
+    return getFilesFromResources(DIRECTORY_FILES, ".*.an2$").stream()
+        .map(file -> Arguments.of(file.getName(), file));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void execute_should_summarize_the_same_fields_than_read(String filename, File file)
+      throws Exception {
+    // Given
+    List<NistRecord> expectedRecords = new ArrayList<>();
+    try (NistStreamReader nistStreamReader =
+        readNistFile.openStream(Files.newInputStream(file.toPath()))) {
+      nistStreamReader.forEachRemaining(expectedRecords::add);
+    }
+    NistRecord expectedRT1 = expectedRecords.remove(0);
+
+    // When
+    NistFileSummary nistFileSummary = scanNistFile.execute(file.toPath());
+
+    // Then
+    assertThat(nistFileSummary.getVer())
+        .isEqualTo(expectedRT1.getFieldText(RT1FieldsEnum.VER).orElse(null));
+    assertThat(nistFileSummary.getTot())
+        .isEqualTo(expectedRT1.getFieldText(RT1FieldsEnum.TOT).orElse(null));
+    assertThat(nistFileSummary.getTcn())
+        .isEqualTo(expectedRT1.getFieldText(RT1FieldsEnum.TCN).orElse(null));
+    assertThat(nistFileSummary.getDcs())
+        .isEqualTo(expectedRT1.getFieldText(RT1FieldsEnum.DCS).orElse(null));
+    assertThat(nistFileSummary.getRecords()).hasSameSizeAs(expectedRecords);
+    for (int i = 0; i < expectedRecords.size(); i++) {
+      NistRecord expected = expectedRecords.get(i);
+      NistRecordSummary summary = nistFileSummary.getRecords().get(i);
+      assertThat(summary.getRecordType()).isEqualTo(expected.getRecordId());
+      assertThat(summary.getIdc()).isEqualTo(expected.getFieldText(2).orElse(null));
+      assertThat(summary.getImp()).isEqualTo(expectedImp(expected).orElse(null));
+      assertThat(summary.getFgp()).isEqualTo(expectedFgp(expected).orElse(null));
+      assertThat(summary.getCga()).isEqualTo(expectedCga(expected).orElse(null));
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void execute_should_locate_the_records_in_the_file(String filename, File file) throws Exception {
+    // Given
+    byte[] bytes = Files.readAllBytes(file.toPath());
+
+    // When
+    NistFileSummary fromPath = scanNistFile.execute(file.toPath());
+    NistFileSummary fromStream = scanNistFile.execute(Files.newInputStream(file.toPath()));
+
+    // Then
+    assertThat(fromStream).isEqualTo(fromPath);
+    long end = 0;
+    for (NistRecordSummary summary : fromPath.getRecords()) {
+      assertThat(summary.getOffset()).isGreaterThanOrEqualTo(end);
+      assertThat(summary.getOffset() + summary.getLength()).isLessThanOrEqualTo(bytes.length);
+      end = summary.getOffset() + summary.getLength();
+    }
+  }
+
+  @Test
+  void execute_should_throw_an_exception_when_file_is_not_a_nist() {
+    // Given
+    File noFile = ImportFileUtils.getFileFromResource("/fake/nist4j-logo.png");
+
+    // When
+    // Then
+    assertThrows(ErrorDecodingNist4jException.class, () -> scanNistFile.execute(noFile.toPath()));
+  }
+
+  private static Optional<String> expectedImp(NistRecord nistRecord) {
+    switch (nistRecord.getRecordId()) {
+      case 3:
+      case 4:
+      case 5:
+      case 6:
+      case 13:
+      case 14:
+      case 15:
+        return nistRecord.getFieldText(3);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  private static Optional<String> expectedFgp(NistRecord nistRecord) {
+    switch (nistRecord.getRecordId()) {
+      case 3:
+      case 4:
+      case 5:
+      case 6:
+        return nistRecord.getFieldText(4);
+      case 13:
+      case 14:
+      case 15:
+        return nistRecord.getFieldText(13);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  private static Optional<String> expectedCga(NistRecord nistRecord) {
+    switch (nistRecord.getRecordId()) {
+      case 3:
+      case 4:
+      case 5:
+      case 6:
+        return nistRecord.getFieldText(8);
+      case 7:
+        return nistRecord.getFieldText(13);
+      case 13:
+      case 14:
+      case 15:
+        return nistRecord.getFieldText(11);
+      default:
+        return Optional.empty();
+    }
+  }
+}
@@ -15,15 +15,30 @@
  */
 package io.github.nist4j.use_cases;
 
+import static io.github.nist4j.fixtures.OptionsFixtures.OPTIONS_DONT_CHANGE_ON_BUILD;
+import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.NistFileBuilder;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.enums.CharsetEnum;
 import io.github.nist4j.fixtures.SampleType5Fixtures;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.helpers.builders.records.DefaultNistTextRecordBuilderImpl;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 @Slf4j
 class WriteNistFileITest {
@@ -61,4 +76,114 @@ class WriteNistFileITest {
           .as("check result field {} of record 1", i);
     }
   }
+
+  @Test
+  void execute_on_a_channel_should_write_the_same_bytes_than_on_a_stream() throws Exception {
+    // Given
+    NistFile createdNistFile = SampleType5Fixtures.createNistFile();
+    NistFile mappedNistFile =
+        rebuildRecords(
+            new ReadNistFile()
+                .execute(
+                    ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2")
+                        .toPath()));
+
+    for (NistFile nistFile : Arrays.asList(createdNistFile, mappedNistFile)) {
+      ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+      writeNistFile.execute(nistFile, expectedOutputStream);
+      File outputFile = File.createTempFile("writeANistFileOnChannel", ".nist");
+
+      // When
+      try (FileChannel channel = FileChannel.open(outputFile.toPath(), StandardOpenOption.WRITE)) {
+        writeNistFile.execute(nistFile, channel);
+      }
+
+      // Then
+      assertThat(Files.readAllBytes(outputFile.toPath()))
+          .isEqualTo(expectedOutputStream.toByteArray());
+      Files.delete(outputFile.toPath());
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void serializedSize_should_be_the_number_of_bytes_written(String filename, File file)
+      throws Exception {
+    // Given
+    NistFile readNistFile = new ReadNistFile().execute(file.toPath());
+    NistFile rebuiltNistFile = rebuildRecords(readNistFile);
+
+    for (NistFile nistFile : Arrays.asList(readNistFile, rebuiltNistFile)) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      writeNistFile.execute(nistFile, outputStream);
+
+      // When
+      long serializedSize = writeNistFile.serializedSize(nistFile);
+
+      // Then
+      assertThat(serializedSize).isEqualTo(outputStream.size());
+    }
+  }
+
+  @Test
+  void serializedSize_should_count_the_bytes_of_a_created_nist_file() throws Exception {
+    // Given
+    NistFile nistFile = SampleType5Fixtures.createNistFile();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writeNistFile.execute(nistFile, outputStream);
+
+    // When
+    long serializedSize = writeNistFile.serializedSize(nistFile);
+
+    // Then
+    assertThat(serializedSize).isEqualTo(outputStream.size());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void execute_with_parallelism_should_write_the_records_in_the_CNT_order(
+      String filename, File file) throws Exception {
+    // Given
+    NistFile nistFile = rebuildRecords(new ReadNistFile().execute(file.toPath()));
+    ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+    writeNistFile.execute(nistFile, expectedOutputStream);
+
+    // When
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (WriteNistFile parallelWriteNistFile =
+        new WriteNistFile(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .writeParallelism(4)
+                .parallelWriteThreshold(1)
+                .build())) {
+      parallelWriteNistFile.execute(nistFile, outputStream);
+    }
+
+    // Then
+    assertThat(outputStream.toByteArray()).isEqualTo(expectedOutputStream.toByteArray());
+  }
+
+  private static Stream<Arguments> getFiles() {
+    return getFilesFromResources("/references", ".*.an2$").stream()
+        .map(file -> Arguments.of(file.getName(), file));
+  }
+
+  /** Rebuild all the records, so that they are encoded again instead of being copied as is */
+  private static NistFile rebuildRecords(NistFile nistFile) {
+    NistFileBuilder nistFileBuilder = new CreateNistFile(OPTIONS_DONT_CHANGE_ON_BUILD).execute();
+    nistFile
+        .getMapOfAllrecords()
+        .forEach(
+            (recordType, records) ->
+                records.forEach(
+                    record ->
+                        nistFileBuilder.withRecord(
+                            recordType,
+                            DefaultNistTextRecordBuilderImpl.newRecordBuilder(
+                                    OPTIONS_DONT_CHANGE_ON_BUILD, record.getRecordId())
+                                .from(record)
+                                .build())));
+    return nistFileBuilder.build();
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.enums.CharsetEnum;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class NistDecoderHelperUTest {
+
+  @Test
+  void decode_should_build_ascii_values_from_the_bytes() throws Exception {
+    // Given
+    NistDecoderHelper.Token token =
+        new NistDecoderHelper.Token("2.003:ascii value".getBytes(StandardCharsets.US_ASCII));
+
+    // When
+    // Then
+    assertThat(token.decode(6, 11)).isEqualTo("ascii value");
+  }
+
+  @Test
+  void decode_should_use_the_decoder_when_bytes_are_not_ascii() throws Exception {
+    // Given
+    String value = "two chinese characters: 華裔";
+    NistDecoderHelper.Token token =
+        new NistDecoderHelper.Token(
+            value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8.newDecoder());
+
+    // When
+    // Then
+    assertThat(token.decode(0, token.buffer.limit())).isEqualTo(value);
+  }
+
+  @Test
+  void decode_should_use_the_decoder_when_charset_is_not_ascii_compatible() throws Exception {
+    // Given
+    NistDecoderHelper.Token token =
+        new NistDecoderHelper.Token(
+            "ab".getBytes(StandardCharsets.UTF_16BE), StandardCharsets.UTF_16.newDecoder());
+
+    // When
+    // Then
+    assertThat(token.decode(0, 4)).isEqualTo("ab");
+  }
+
+  @Test
+  void decode_should_read_ascii_values_from_a_direct_buffer() throws Exception {
+    // Given
+    byte[] bytes = "14.013:1".getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    ((Buffer) direct.put(bytes)).flip();
+    NistDecoderHelper.Token token = new NistDecoderHelper.Token(direct.asReadOnlyBuffer());
+
+    // When
+    // Then
+    assertThat(token.decode(0, 2)).isEqualTo("14");
+  }
+
+  @Test
+  void isAsciiCompatible_should_exclude_utf16() {
+    assertThat(NistDecoderHelper.isAsciiCompatible(CharsetEnum.CP1256.getCharset())).isTrue();
+    assertThat(NistDecoderHelper.isAsciiCompatible(StandardCharsets.UTF_8)).isTrue();
+    assertThat(NistDecoderHelper.isAsciiCompatible(StandardCharsets.UTF_16)).isFalse();
+  }
+}
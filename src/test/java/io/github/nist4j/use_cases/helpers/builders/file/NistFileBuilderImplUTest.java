@@ -440,4 +440,80 @@ class NistFileBuilderImplUTest {
     assertThat(nistFileBuilder.findRecordIndexByIdc(records, 0)).isEmpty();
     assertThat(nistFileBuilder.findRecordIndexByIdc(records, 5)).isEmpty();
   }
+
+  @Test
+  void getRecordByIdc_should_follow_the_changes_of_the_records() {
+    // Given
+    NistRecord nistRecord4idc1 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText(1)).build();
+    NistRecord nistRecord4idc2 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText(2)).build();
+    NistRecord nistRecord4idc1Again =
+        newRecordBuilderEnableCalculation(4)
+            .withField(IDC, newFieldText(1))
+            .withField(RT4FieldsEnum.IMP, newFieldText(1))
+            .build();
+    NistRecord nistRecord4idc2Replaced =
+        newRecordBuilderEnableCalculation(4)
+            .withField(IDC, newFieldText(2))
+            .withField(RT4FieldsEnum.IMP, newFieldText(2))
+            .build();
+    NistFileBuilder nistFileBuilder =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT4, nistRecord4idc1)
+            .withRecord(RT4, nistRecord4idc2)
+            .withRecord(RT4, nistRecord4idc1Again);
+
+    // When
+    // Then
+    assertThat(nistFileBuilder.getRecordByIdc(RT4, 1)).hasValue(nistRecord4idc1);
+    nistFileBuilder.removeRecord(RT4, 1);
+    assertThat(nistFileBuilder.getRecordByIdc(RT4, 1)).hasValue(nistRecord4idc1Again);
+    nistFileBuilder.replaceRecord(RT4, 2, nistRecord4idc2Replaced);
+    assertThat(nistFileBuilder.getRecordByIdc(RT4, 2)).hasValue(nistRecord4idc2Replaced);
+    nistFileBuilder.removeRecord(RT4);
+    assertThat(nistFileBuilder.getRecordByIdc(RT4, 1)).isEmpty();
+  }
+
+  @Test
+  void replaceRecord_should_compare_the_idc_as_a_number() {
+    // Given
+    NistRecord nistRecord4idc7 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText(7)).build();
+    NistRecord newNistRecord4idc07 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText("07")).build();
+    NistFileBuilder nistFileBuilder =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT4, nistRecord4idc7);
+
+    // When
+    nistFileBuilder.replaceRecord(RT4, 7, newNistRecord4idc07);
+
+    // Then
+    assertThat(nistFileBuilder.getRecordByIdc(RT4, 7)).hasValue(newNistRecord4idc07);
+    assertThat(nistFileBuilder.getMapOfAllRecords().get(RT4))
+        .isEqualTo(asList(newNistRecord4idc07));
+  }
+
+  @Test
+  void build_should_not_follow_the_changes_of_the_builder() {
+    // Given
+    NistRecord nistRecord4idc1 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText(1)).build();
+    NistRecord nistRecord4idc2 =
+        newRecordBuilderEnableCalculation(4).withField(IDC, newFieldText(2)).build();
+    NistFileBuilder nistFileBuilder =
+        new NistFileBuilderImpl(OPTIONS_CALCULATE_ON_BUILD, emptyList(), emptyList())
+            .withRecord(RT1, nistRecord1)
+            .withRecord(RT4, nistRecord4idc1);
+    NistFile nistFile = nistFileBuilder.build();
+
+    // When
+    nistFileBuilder.withRecord(RT4, nistRecord4idc2).removeRecord(RT4, 1);
+
+    // Then
+    assertThat(nistFile.getMapOfAllrecords().get(RT4)).isEqualTo(asList(nistRecord4idc1));
+    assertThat(nistFile.getRecordByTypeAndIdc(RT4, 1)).hasValue(nistRecord4idc1);
+    assertThat(nistFile.getRecordByTypeAndIdc(RT4, 2)).isEmpty();
+  }
 }
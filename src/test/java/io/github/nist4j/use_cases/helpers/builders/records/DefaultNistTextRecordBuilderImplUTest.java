@@ -24,13 +24,20 @@ import static io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder
 import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.field.Data;
 import io.github.nist4j.entities.impl.NistOptionsImpl;
 import io.github.nist4j.entities.record.NistRecord;
 import io.github.nist4j.entities.record.NistRecordBuilder;
 import io.github.nist4j.enums.RecordTypeEnum;
 import io.github.nist4j.enums.records.RTDefaultFieldsEnum;
+import io.github.nist4j.exceptions.Nist4jException;
+import java.nio.ByteBuffer;
 import org.junit.jupiter.api.Test;
 
 class DefaultNistTextRecordBuilderImplUTest {
@@ -204,4 +211,88 @@ class DefaultNistTextRecordBuilderImplUTest {
           .isEqualTo(recordType.getNumber());
     }
   }
+
+  @Test
+  void build_should_keep_the_raw_bytes_until_a_field_is_modified() {
+    // Given
+    ByteBuffer rawBytes = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    NistRecordBuilder builder =
+        new DefaultNistTextRecordBuilderImpl(OPTIONS_DONT_CHANGE_ON_BUILD, 2)
+            .withField(IDC, newFieldText("1"))
+            .withRawBytes(rawBytes);
+
+    // When
+    NistRecord record = builder.build();
+    NistRecord modifiedRecord = builder.withField(IDC, newFieldText("2")).build();
+    NistRecord copiedRecord = builder.newBuilder().withRawBytes(rawBytes).from(record).build();
+
+    // Then
+    assertThat(record.getRawBytes()).hasValue(rawBytes);
+    assertThat(record.getRawBytes().get().isReadOnly()).isTrue();
+    assertThat(modifiedRecord.getRawBytes()).isEmpty();
+    assertThat(copiedRecord.getRawBytes()).isEmpty();
+    assertThat(copiedRecord).isEqualTo(record);
+  }
+
+  @Test
+  void default_raw_bytes_methods_should_keep_no_bytes() {
+    // Given
+    NistRecord record = mock(NistRecord.class, CALLS_REAL_METHODS);
+    NistRecordBuilder builder = mock(NistRecordBuilder.class, CALLS_REAL_METHODS);
+
+    // When
+    NistRecordBuilder result = builder.withRawBytes(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    // Then
+    assertThat(result).isSameAs(builder);
+    assertThat(builder.getRawBytes()).isEmpty();
+    assertThat(record.getRawBytes()).isEmpty();
+  }
+
+  @Test
+  void buildTransferringOwnership_should_not_copy_the_fields() {
+    // Given
+    Data idc = newFieldText("1");
+    NistRecordBuilder builder =
+        new DefaultNistTextRecordBuilderImpl(OPTIONS_DONT_CHANGE_ON_BUILD, 10).withField(IDC, idc);
+
+    // When
+    NistRecord copiedRecord = builder.build();
+    NistRecord record = builder.buildTransferringOwnership();
+
+    // Then
+    assertThat(copiedRecord.getFieldData(IDC)).get().isNotSameAs(idc);
+    assertThat(record.getFieldData(IDC)).get().isSameAs(idc);
+    assertThat(record).isEqualTo(copiedRecord);
+  }
+
+  @Test
+  void default_buildTransferringOwnership_should_build_the_record() {
+    // Given
+    NistRecord record = mock(NistRecord.class);
+    NistRecordBuilder builder = mock(NistRecordBuilder.class, CALLS_REAL_METHODS);
+    doReturn(record).when(builder).build();
+
+    // When
+    NistRecord result = builder.buildTransferringOwnership();
+
+    // Then
+    assertThat(result).isSameAs(record);
+  }
+
+  @Test
+  void buildTransferringOwnership_should_make_the_builder_unusable() {
+    // Given
+    NistRecordBuilder builder =
+        new DefaultNistTextRecordBuilderImpl(OPTIONS_DONT_CHANGE_ON_BUILD, 10)
+            .withField(IDC, newFieldText("1"));
+
+    // When
+    builder.buildTransferringOwnership();
+
+    // Then
+    assertThrows(Nist4jException.class, () -> builder.withField(IDC, newFieldText("2")));
+    assertThrows(Nist4jException.class, () -> builder.removeField(IDC));
+    assertThrows(Nist4jException.class, builder::build);
+  }
 }
@@ -21,7 +21,9 @@ import static io.github.nist4j.use_cases.helpers.builders.field.DataImageBuilder
 import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.nist4j.entities.impl.NistOptionsImpl;
 import io.github.nist4j.entities.record.NistRecordBuilder;
+import io.github.nist4j.enums.CharsetEnum;
 import io.github.nist4j.enums.records.GenericImageTypeEnum;
 import org.junit.jupiter.api.Test;
 
@@ -74,4 +76,25 @@ class FieldLENRecordTextCalculatorUTest {
     assertThat(length1).isEqualTo(34);
     assertThat(length1).isEqualTo(length2);
   }
+
+  @Test
+  void calculateLength_should_count_the_bytes_of_the_text_in_the_charset() {
+    // Given
+    FieldLENRecordTextCalculator utf8Calculator =
+        new FieldLENRecordTextCalculator(
+            NistOptionsImpl.builder()
+                .isCalculateLENOnBuild(true)
+                .charset(CharsetEnum.UTF_8.getCharset())
+                .build());
+    NistRecordBuilder nistRecordBuilder =
+        newRecordBuilderEnableCalculation(1).withField(2, newFieldText("12\u00e9"));
+
+    // When
+    int cp1256Length = fieldLENRecordTextCalculator.calculateLength(nistRecordBuilder);
+    int utf8Length = utf8Calculator.calculateLength(nistRecordBuilder);
+
+    // Then
+    assertThat(cp1256Length).isEqualTo(19);
+    assertThat(utf8Length).isEqualTo(20);
+  }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ChannelOutputStreamUTest {
+
+  @Test
+  void write_should_gather_the_header_and_the_buffer() throws Exception {
+    // Given
+    RecordingGatheringChannel channel = new RecordingGatheringChannel();
+    ChannelOutputStream outputStream = new ChannelOutputStream(channel);
+    ByteBuffer image = ByteBuffer.allocateDirect(3);
+    ((Buffer) image.put(new byte[] {7, 8, 9})).flip();
+
+    // When
+    outputStream.write(new byte[] {1, 2});
+    outputStream.write(3);
+    int count = outputStream.write(image.asReadOnlyBuffer());
+    outputStream.write(4);
+    outputStream.flush();
+
+    // Then
+    assertThat(count).isEqualTo(3);
+    assertThat(channel.gatheringWrites).isEqualTo(1);
+    assertThat(channel.bytes.toByteArray()).isEqualTo(new byte[] {1, 2, 3, 7, 8, 9, 4});
+  }
+
+  @Test
+  void write_should_keep_the_header_when_the_buffer_is_empty() throws Exception {
+    // Given
+    RecordingGatheringChannel channel = new RecordingGatheringChannel();
+    ChannelOutputStream outputStream = new ChannelOutputStream(channel);
+
+    // When
+    outputStream.write(new byte[] {1, 2});
+    int count = outputStream.write(ByteBuffer.allocate(0));
+    outputStream.write(3);
+    outputStream.flush();
+
+    // Then
+    assertThat(count).isZero();
+    assertThat(channel.bytes.toByteArray()).isEqualTo(new byte[] {1, 2, 3});
+  }
+
+  @Test
+  void write_should_write_arrays_larger_than_the_header_buffer() throws Exception {
+    // Given
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ChannelOutputStream outputStream = new ChannelOutputStream(Channels.newChannel(bytes));
+    byte[] large = new byte[20000];
+    Arrays.fill(large, (byte) 5);
+
+    // When
+    outputStream.write(1);
+    outputStream.write(large);
+    outputStream.write(ByteBuffer.wrap(new byte[] {6}));
+    outputStream.flush();
+
+    // Then
+    byte[] result = bytes.toByteArray();
+    assertThat(result).hasSize(20002);
+    assertThat(result[0]).isEqualTo((byte) 1);
+    assertThat(result[20000]).isEqualTo((byte) 5);
+    assertThat(result[20001]).isEqualTo((byte) 6);
+  }
+
+  @Test
+  void asChannel_should_return_the_stream_when_it_is_a_channel() {
+    // Given
+    ChannelOutputStream outputStream = new ChannelOutputStream(new RecordingGatheringChannel());
+
+    // When
+    // Then
+    assertThat(ChannelOutputStream.asChannel(outputStream)).isSameAs(outputStream);
+    assertThat(ChannelOutputStream.asChannel(new ByteArrayOutputStream()))
+        .isNotNull()
+        .isNotSameAs(outputStream);
+  }
+
+  @Test
+  void close_should_flush_and_close_the_channel() throws Exception {
+    // Given
+    RecordingGatheringChannel channel = new RecordingGatheringChannel();
+    ChannelOutputStream outputStream = new ChannelOutputStream(channel);
+    outputStream.write(1);
+
+    // When
+    outputStream.close();
+
+    // Then
+    assertThat(channel.bytes.toByteArray()).isEqualTo(new byte[] {1});
+    assertThat(channel.isOpen()).isFalse();
+    assertThrows(ClosedChannelException.class, () -> outputStream.write(2));
+  }
+
+  private static class RecordingGatheringChannel implements GatheringByteChannel {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int gatheringWrites = 0;
+    private boolean isOpen = true;
+
+    @Override
+    public long write(ByteBuffer[] sources, int offset, int length) {
+      gatheringWrites++;
+      long count = 0;
+      for (int i = offset; i < offset + length; i++) {
+        count += write(sources[i]);
+      }
+      return count;
+    }
+
+    @Override
+    public long write(ByteBuffer[] sources) {
+      return write(sources, 0, sources.length);
+    }
+
+    @Override
+    public int write(ByteBuffer source) {
+      int count = source.remaining();
+      while (source.hasRemaining()) {
+        bytes.write(source.get());
+      }
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return isOpen;
+    }
+
+    @Override
+    public void close() throws IOException {
+      isOpen = false;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class EncodedRecordUTest {
+
+  @Test
+  void writeTo_should_write_the_text_and_the_images_in_order() throws Exception {
+    // Given
+    EncodedRecord encodedRecord = new EncodedRecord();
+    ByteBuffer image = ByteBuffer.allocateDirect(3);
+    ((Buffer) image.put(new byte[] {7, 8, 9})).flip();
+
+    // When
+    encodedRecord.write(new byte[] {1, 2});
+    int count = encodedRecord.write(image.asReadOnlyBuffer());
+    encodedRecord.write(3);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    encodedRecord.writeTo(outputStream);
+
+    // Then
+    assertThat(count).isEqualTo(3);
+    assertThat(outputStream.toByteArray()).isEqualTo(new byte[] {1, 2, 7, 8, 9, 3});
+  }
+
+  @Test
+  void write_should_keep_the_read_only_buffers_and_copy_the_others() throws Exception {
+    // Given
+    EncodedRecord encodedRecord = new EncodedRecord();
+    ByteBuffer image = ByteBuffer.wrap(new byte[] {7, 8, 9});
+    ByteBuffer reused = ByteBuffer.wrap(new byte[] {4, 5});
+
+    // When
+    ByteBuffer readOnlyImage = image.asReadOnlyBuffer();
+    encodedRecord.write(readOnlyImage);
+    encodedRecord.write(reused);
+    // The buffer of a streamed image is overwritten by its next chunk
+    ((Buffer) reused).clear();
+    reused.put(new byte[] {0, 0});
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    encodedRecord.writeTo(outputStream);
+
+    // Then
+    assertThat(readOnlyImage.hasRemaining()).isFalse();
+    assertThat(outputStream.toByteArray()).isEqualTo(new byte[] {7, 8, 9, 4, 5});
+  }
+}
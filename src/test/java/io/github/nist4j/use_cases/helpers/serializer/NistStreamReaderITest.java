@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static io.github.nist4j.test_utils.ImportFileUtils.getFilesFromResources;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.impl.NistOptionsImpl;
+import io.github.nist4j.entities.impl.NistReadProjectionImpl;
+import io.github.nist4j.entities.impl.WeakImageStoreImpl;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.CharsetEnum;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.exceptions.ErrorDecodingNist4jException;
+import io.github.nist4j.test_utils.AssertNist;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.ReadNistFile;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class NistStreamReaderITest {
+
+  private static final String DIRECTORY_FILES = "/references";
+
+  private final ReadNistFile readNistFile =
+      new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+
+  private static Stream<Arguments> getFiles() {
+    return getFilesFromResources(DIRECTORY_FILES, ".*.an2$").stream()
+        .map(file -> Arguments.of(file.getName(), file));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getFiles")
+  void openStream_should_read_the_same_records_than_execute(String filename, File file)
+      throws Exception {
+    // Given
+    NistFile expectedNistFile = readNistFile.execute(Files.newInputStream(file.toPath()));
+
+    // When
+    List<NistRecord> records = new ArrayList<>();
+    try (NistStreamReader nistStreamReader =
+        readNistFile.openStream(Files.newInputStream(file.toPath()))) {
+      nistStreamReader.forEachRemaining(records::add);
+    }
+
+    // Then
+    assertThat(records.get(0).getRecordId()).isEqualTo(RecordTypeEnum.RT1.getNumber());
+    assertThat(records.get(0).getFields())
+        .isEqualTo(expectedNistFile.getRT1TransactionInformationRecord().getFields());
+    assertThat(records.size())
+        .isEqualTo(
+            expectedNistFile.getMapOfAllrecords().values().stream().mapToInt(List::size).sum());
+  }
+
+  @Test
+  void execute_should_not_rely_on_available() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-tpcard-nqm.an2");
+    NistFile expectedNistFile = readNistFile.execute(Files.newInputStream(file.toPath()));
+    InputStream networkLikeStream =
+        new FilterInputStream(Files.newInputStream(file.toPath())) {
+          @Override
+          public int available() {
+            return 0;
+          }
+        };
+
+    // When
+    NistFile nistFile = readNistFile.execute(networkLikeStream);
+
+    // Then
+    AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+  }
+
+  @Test
+  void next_with_an_image_store_should_not_keep_the_buffer_of_the_file() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2");
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    WeakReference<byte[]> bytesReference = new WeakReference<>(bytes);
+    RecordCodecRegistry recordCodecRegistry =
+        new RecordCodecRegistry(
+            NistOptionsImpl.builder()
+                .charset(CharsetEnum.DEFAULT.getCharset())
+                .imageStore(new WeakImageStoreImpl())
+                .build());
+    List<NistRecord> records = new ArrayList<>();
+    try (NistStreamReader nistStreamReader =
+        new NistStreamReader(
+            ByteBuffer.wrap(bytes), token -> recordCodecRegistry.get(token.crt).read(token))) {
+      nistStreamReader.forEachRemaining(records::add);
+    }
+
+    // When
+    bytes = null;
+    for (int i = 0; i < 50 && bytesReference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    // Then
+    assertThat(bytesReference.get()).isNull();
+    assertThat(records).allMatch(r -> !r.getRawBytes().isPresent());
+    NistFile expectedNistFile = readNistFile.execute(file.toPath());
+    assertThat(records)
+        .containsExactlyInAnyOrderElementsOf(
+            expectedNistFile.getMapOfAllrecords().values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  void next_without_the_images_should_not_keep_the_buffer_of_the_file() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-14-tip-eji-wsq.an2");
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    WeakReference<byte[]> bytesReference = new WeakReference<>(bytes);
+    NistOptionsImpl nistOptions =
+        NistOptionsImpl.builder()
+            .charset(CharsetEnum.DEFAULT.getCharset())
+            .readProjection(NistReadProjectionImpl.builder().isSkipImages(true).build())
+            .build();
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+    List<NistRecord> records = new ArrayList<>();
+    try (NistStreamReader nistStreamReader =
+        new NistStreamReader(
+            ByteBuffer.wrap(bytes),
+            token -> recordCodecRegistry.get(token.crt).read(token),
+            nistOptions.getReadProjection())) {
+      nistStreamReader.forEachRemaining(records::add);
+    }
+
+    // When
+    bytes = null;
+    for (int i = 0; i < 50 && bytesReference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    // Then
+    assertThat(bytesReference.get()).isNull();
+    List<NistRecord> expectedRecords =
+        readNistFile.execute(file.toPath()).getMapOfAllrecords().values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    assertThat(records).hasSameSizeAs(expectedRecords);
+    for (int i = 0; i < records.size(); i++) {
+      Map<Integer, Data> expectedFields = new HashMap<>(expectedRecords.get(i).getFields());
+      expectedFields.remove(999);
+      assertThat(records.get(i).getFields()).isEqualTo(expectedFields);
+    }
+  }
+
+  @Test
+  void next_should_throw_an_exception_when_no_more_record() throws Exception {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-8-sig-fax.an2");
+    NistStreamReader nistStreamReader =
+        readNistFile.openStream(Files.newInputStream(file.toPath()));
+    nistStreamReader.forEachRemaining(r -> {});
+
+    // When
+    // Then
+    assertThat(nistStreamReader.hasNext()).isFalse();
+    assertThrows(NoSuchElementException.class, nistStreamReader::next);
+  }
+
+  @Test
+  void next_should_throw_an_exception_when_stream_is_not_a_nist() throws Exception {
+    // Given
+    File noFile = ImportFileUtils.getFileFromResource("/fake/nist4j-logo.png");
+    NistStreamReader nistStreamReader =
+        readNistFile.openStream(Files.newInputStream(noFile.toPath()));
+
+    // When
+    // Then
+    assertThrows(ErrorDecodingNist4jException.class, nistStreamReader::next);
+  }
+}
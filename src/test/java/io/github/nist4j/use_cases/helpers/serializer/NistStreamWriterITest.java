@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static io.github.nist4j.fixtures.OptionsFixtures.OPTIONS_DONT_CHANGE_ON_BUILD;
+import static io.github.nist4j.use_cases.helpers.builders.field.DataTextBuilder.newFieldText;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistContentTable;
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.field.Data;
+import io.github.nist4j.entities.field.DataImage;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.enums.RecordTypeEnum;
+import io.github.nist4j.enums.records.RT1FieldsEnum;
+import io.github.nist4j.enums.records.RTDefaultFieldsEnum;
+import io.github.nist4j.exceptions.ErrorEncodingNist4jException;
+import io.github.nist4j.exceptions.InvalidFormatNist4jException;
+import io.github.nist4j.test_utils.AssertNist;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.ReadNistFile;
+import io.github.nist4j.use_cases.WriteNistFile;
+import io.github.nist4j.use_cases.helpers.builders.records.DefaultNistTextRecordBuilderImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NistStreamWriterITest {
+
+  private final ReadNistFile readNistFile =
+      new ReadNistFile(ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE);
+  private final WriteNistFile writeNistFile =
+      new WriteNistFile(WriteNistFile.DEFAULT_OPTIONS_FOR_WRITE);
+
+  @TempDir Path tempDir;
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(
+      strings = {
+        "type-4-14-slaps.an2",
+        "type-7-latent.an2",
+        "type-8-sig.an2",
+        "type-10-sap10.an2",
+        "type-14-tpcard-nqm.an2",
+        "type-15-palms.an2"
+      })
+  void openStream_should_write_the_records_declared_in_the_CNT(String filename) throws Exception {
+    // Given
+    NistFile expectedNistFile = read(filename);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    try (NistStreamWriter writer =
+        writeNistFile.openStream(
+            outputStream, expectedNistFile.getRT1TransactionInformationRecord())) {
+      writeRecords(writer, expectedNistFile, expectedNistFile.getContentTable().get().size());
+    }
+
+    // Then
+    NistFile nistFile = readNistFile.execute(new ByteArrayInputStream(outputStream.toByteArray()));
+    AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ValueSource(
+      strings = {
+        "type-4-14-slaps.an2",
+        "type-7-latent.an2",
+        "type-8-sig.an2",
+        "type-10-sap10.an2",
+        "type-14-tpcard-nqm.an2",
+        "type-15-palms.an2"
+      })
+  void openStream_on_a_channel_should_patch_the_CNT_at_close(String filename) throws Exception {
+    // Given
+    NistFile expectedNistFile = read(filename);
+    NistRecord record1WithoutCNT =
+        DefaultNistTextRecordBuilderImpl.newRecordBuilder(OPTIONS_DONT_CHANGE_ON_BUILD, 1)
+            .from(expectedNistFile.getRT1TransactionInformationRecord())
+            .removeField(RT1FieldsEnum.CNT)
+            .build();
+    Path output = tempDir.resolve(filename);
+
+    // When
+    try (FileChannel channel =
+            FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.READ);
+        NistStreamWriter writer = writeNistFile.openStream(channel, record1WithoutCNT)) {
+      writeRecords(writer, expectedNistFile, expectedNistFile.getContentTable().get().size());
+    }
+
+    // Then
+    NistFile nistFile = readNistFile.execute(output);
+    assertThat(nistFile.getContentTable()).isEqualTo(expectedNistFile.getContentTable());
+    AssertNist.assertThatNist(nistFile)
+        .hasTheSameRecord2(expectedNistFile)
+        .hasTheSameRecord4(expectedNistFile)
+        .hasTheSameRecord14(expectedNistFile);
+    assertThat(nistFile.getMapOfAllrecords()).hasSameSizeAs(expectedNistFile.getMapOfAllrecords());
+  }
+
+  @Test
+  void openStream_on_a_channel_should_remove_the_records_declared_but_not_written()
+      throws Exception {
+    // Given
+    NistFile expectedNistFile = read("type-4-14-slaps.an2");
+    Path output = tempDir.resolve("output.an2");
+
+    // When
+    try (FileChannel channel =
+            FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.READ);
+        NistStreamWriter writer =
+            writeNistFile.openStream(
+                channel, expectedNistFile.getRT1TransactionInformationRecord())) {
+      writeRecords(writer, expectedNistFile, 1);
+    }
+
+    // Then
+    NistFile nistFile = readNistFile.execute(output);
+    assertThat(nistFile.getContentTable().get().size()).isEqualTo(1);
+    assertThat(nistFile.getContentTable().get().getRecordType(0))
+        .isEqualTo(expectedNistFile.getContentTable().get().getRecordType(0));
+  }
+
+  @Test
+  void write_should_throw_an_exception_when_the_record_is_not_the_next_declared() throws Exception {
+    // Given
+    NistFile nistFile = read("type-4-14-slaps.an2");
+    NistContentTable contentTable = nistFile.getContentTable().get();
+    NistRecord secondRecord = getRecord(nistFile, contentTable, 1);
+    NistStreamWriter writer =
+        writeNistFile.openStream(
+            new ByteArrayOutputStream(), nistFile.getRT1TransactionInformationRecord());
+
+    // When
+    // Then
+    assertThrows(InvalidFormatNist4jException.class, () -> writer.write(secondRecord));
+  }
+
+  @Test
+  void write_should_throw_an_exception_when_the_idc_is_not_numeric() throws Exception {
+    // Given
+    NistFile nistFile = read("type-4-14-slaps.an2");
+    NistContentTable contentTable = nistFile.getContentTable().get();
+    NistRecord firstRecord = getRecord(nistFile, contentTable, 0);
+    NistRecord record =
+        DefaultNistTextRecordBuilderImpl.newRecordBuilder(
+                OPTIONS_DONT_CHANGE_ON_BUILD, firstRecord.getRecordId())
+            .from(firstRecord)
+            .withField(RTDefaultFieldsEnum.IDC, newFieldText("A"))
+            .build();
+    NistStreamWriter writer =
+        writeNistFile.openStream(
+            new ByteArrayOutputStream(), nistFile.getRT1TransactionInformationRecord());
+
+    // When
+    ErrorEncodingNist4jException exception =
+        assertThrows(ErrorEncodingNist4jException.class, () -> writer.write(record));
+
+    // Then
+    assertThat(exception.getMessage()).contains("index 0");
+  }
+
+  @Test
+  void close_should_throw_an_exception_when_records_declared_are_missing() throws Exception {
+    // Given
+    NistFile nistFile = read("type-4-14-slaps.an2");
+    NistStreamWriter writer =
+        writeNistFile.openStream(
+            new ByteArrayOutputStream(), nistFile.getRT1TransactionInformationRecord());
+    writeRecords(writer, nistFile, 1);
+
+    // When
+    // Then
+    assertThrows(ErrorEncodingNist4jException.class, writer::close);
+  }
+
+  private NistFile read(String filename) throws Exception {
+    File file = ImportFileUtils.getFileFromResource("/references/" + filename);
+    return readNistFile.execute(Files.newInputStream(file.toPath()));
+  }
+
+  /** Write the first records of the NistFile, giving the images as streams */
+  private static void writeRecords(NistStreamWriter writer, NistFile nistFile, int count) {
+    NistContentTable contentTable = nistFile.getContentTable().get();
+    for (int i = 0; i < count; i++) {
+      NistRecord record = getRecord(nistFile, contentTable, i);
+      Optional<Data> image = record.getFieldData(999);
+      if (image.isPresent() && image.get() instanceof DataImage) {
+        NistRecord recordWithoutImage =
+            DefaultNistTextRecordBuilderImpl.newRecordBuilder(
+                    OPTIONS_DONT_CHANGE_ON_BUILD, record.getRecordId())
+                .from(record)
+                .removeField(999)
+                .build();
+        DataImage dataImage = (DataImage) image.get();
+        writer.write(recordWithoutImage, dataImage.openStream(), dataImage.getLength());
+      } else {
+        writer.write(record);
+      }
+    }
+  }
+
+  private static NistRecord getRecord(NistFile nistFile, NistContentTable contentTable, int i) {
+    return nistFile
+        .getRecordByTypeAndIdc(
+            RecordTypeEnum.findByRecordId(contentTable.getRecordType(i)), contentTable.getIdc(i))
+        .get();
+  }
+}
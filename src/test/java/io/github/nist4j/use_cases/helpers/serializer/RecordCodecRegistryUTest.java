@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static io.github.nist4j.fixtures.OptionsFixtures.OPTIONS_CALCULATE_ON_BUILD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.nist4j.entities.NistFile;
+import io.github.nist4j.entities.NistOptions;
+import io.github.nist4j.entities.record.NistRecord;
+import io.github.nist4j.exceptions.Nist4jException;
+import io.github.nist4j.test_utils.AssertNist;
+import io.github.nist4j.test_utils.ImportFileUtils;
+import io.github.nist4j.use_cases.ReadNistFile;
+import io.github.nist4j.use_cases.WriteNistFile;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import io.github.nist4j.use_cases.helpers.serializer.binary.DefaultTextRecordSerializer;
+import io.github.nist4j.use_cases.helpers.serializer.binary.RT14VariableResolutionFingerprintRecordSerializerImpl;
+import java.io.File;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RecordCodecRegistryUTest {
+
+  private final NistOptions nistOptions = ReadNistFile.DEFAULT_OPTIONS_FOR_READ_FILE;
+
+  @Test
+  void get_should_create_the_default_codec_once() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    RecordCodec codec = recordCodecRegistry.get(14);
+
+    assertThat(codec).isInstanceOf(RT14VariableResolutionFingerprintRecordSerializerImpl.class);
+    assertThat(recordCodecRegistry.get(14)).isSameAs(codec);
+  }
+
+  @Test
+  void get_should_return_a_text_codec_when_record_type_has_no_codec() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    RecordCodec codec = recordCodecRegistry.get(50);
+
+    assertThat(codec).isInstanceOf(DefaultTextRecordSerializer.class);
+    assertThat(recordCodecRegistry.get(50)).isSameAs(codec);
+  }
+
+  @Test
+  void get_should_return_a_text_codec_when_record_type_is_out_of_range() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    assertThat(recordCodecRegistry.get(0)).isInstanceOf(DefaultTextRecordSerializer.class);
+    assertThat(recordCodecRegistry.get(100)).isInstanceOf(DefaultTextRecordSerializer.class);
+  }
+
+  @Test
+  void register_should_throw_an_exception_when_record_type_is_out_of_range() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            recordCodecRegistry.register(
+                100, options -> new DefaultTextRecordSerializer(options, 100)));
+  }
+
+  @Test
+  void read_and_write_should_use_the_options_of_the_registry() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    assertThrows(
+        Nist4jException.class,
+        () -> new ReadNistFile(OPTIONS_CALCULATE_ON_BUILD, recordCodecRegistry));
+    assertThrows(
+        Nist4jException.class,
+        () -> new WriteNistFile(OPTIONS_CALCULATE_ON_BUILD, recordCodecRegistry));
+    assertThat(recordCodecRegistry.getNistOptions()).isSameAs(nistOptions);
+  }
+
+  @Test
+  void get_should_return_the_codec_of_a_provider() {
+    RecordCodecRegistry recordCodecRegistry = new RecordCodecRegistry(nistOptions);
+
+    assertThat(recordCodecRegistry.get(99)).isInstanceOf(Type99Codec.class);
+  }
+
+  @Test
+  void register_should_replace_the_codec_used_by_read() {
+    // Given
+    File file = ImportFileUtils.getFileFromResource("/references/type-4-14-slaps.an2");
+    NistFile expectedNistFile = new ReadNistFile(nistOptions).execute(file.toPath());
+    AtomicInteger readCount = new AtomicInteger();
+    RecordCodecRegistry recordCodecRegistry =
+        new RecordCodecRegistry(nistOptions)
+            .register(
+                14,
+                options ->
+                    new CountingCodec(
+                        new RT14VariableResolutionFingerprintRecordSerializerImpl(options),
+                        readCount));
+
+    // When
+    NistFile nistFile = new ReadNistFile(recordCodecRegistry).execute(file.toPath());
+
+    // Then
+    AssertNist.assertThatNist(nistFile).isEqualTo(expectedNistFile);
+    assertThat(readCount.get())
+        .isEqualTo(nistFile.getRT14VariableResolutionFingerprintRecords().size());
+  }
+
+  private static class CountingCodec implements RecordCodec {
+
+    private final RecordCodec delegate;
+    private final AtomicInteger readCount;
+
+    CountingCodec(RecordCodec delegate, AtomicInteger readCount) {
+      this.delegate = delegate;
+      this.readCount = readCount;
+    }
+
+    @Override
+    public NistRecord read(NistDecoderHelper.Token token) {
+      readCount.incrementAndGet();
+      return delegate.read(token);
+    }
+
+    @Override
+    public void write(OutputStream outputStream, NistRecord record) {
+      delegate.write(outputStream, record);
+    }
+  }
+
+  public static class Type99Codec extends DefaultTextRecordSerializer {
+
+    Type99Codec(NistOptions nistOptions) {
+      super(nistOptions, 99);
+    }
+  }
+
+  public static class Type99CodecProvider implements RecordCodecProvider {
+
+    @Override
+    public int getRecordType() {
+      return 99;
+    }
+
+    @Override
+    public RecordCodec create(NistOptions nistOptions) {
+      return new Type99Codec(nistOptions);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 Sopra Steria.
+ *
+ * Licenced under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nist4j.use_cases.helpers.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nist4j.enums.CharsetEnum;
+import io.github.nist4j.use_cases.helpers.NistDecoderHelper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class TaggedFieldEncoderUTest {
+
+  @Test
+  void writeTag_should_write_the_type_and_the_field_on_3_digits() throws Exception {
+    // Given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TaggedFieldEncoder encoder =
+        new TaggedFieldEncoder(outputStream, CharsetEnum.CP1256.getCharset());
+
+    // When
+    encoder.writeTag(9, 1);
+    encoder.writeText("123");
+    encoder.writeSeparator(NistDecoderHelper.SEP_GS);
+    encoder.writeTag(14, 999);
+    encoder.writeText("");
+    encoder.writeSeparator(NistDecoderHelper.SEP_FS);
+    encoder.flush();
+
+    // Then
+    assertThat(new String(outputStream.toByteArray(), StandardCharsets.US_ASCII))
+        .isEqualTo("9.001:123\u001D14.999:\u001C");
+  }
+
+  @Test
+  void writeText_should_encode_the_text_with_the_charset() throws Exception {
+    // Given
+    String text = "abcéمd";
+    ByteArrayOutputStream utf8OutputStream = new ByteArrayOutputStream();
+    ByteArrayOutputStream cp1256OutputStream = new ByteArrayOutputStream();
+    TaggedFieldEncoder utf8Encoder =
+        new TaggedFieldEncoder(utf8OutputStream, StandardCharsets.UTF_8);
+    TaggedFieldEncoder cp1256Encoder =
+        new TaggedFieldEncoder(cp1256OutputStream, CharsetEnum.CP1256.getCharset());
+
+    // When
+    utf8Encoder.writeText(text);
+    utf8Encoder.flush();
+    cp1256Encoder.writeText(text);
+    cp1256Encoder.flush();
+
+    // Then
+    assertThat(utf8OutputStream.toByteArray()).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+    assertThat(cp1256OutputStream.toByteArray())
+        .isEqualTo(text.getBytes(CharsetEnum.CP1256.getCharset()));
+  }
+
+  @Test
+  void writeText_should_write_texts_larger_than_the_buffer() throws Exception {
+    // Given
+    char[] chars = new char[20000];
+    Arrays.fill(chars, 'a');
+    chars[15000] = 'é';
+    String text = new String(chars);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TaggedFieldEncoder encoder = new TaggedFieldEncoder(outputStream, StandardCharsets.UTF_8);
+
+    // When
+    encoder.writeSeparator(NistDecoderHelper.SEP_GS);
+    encoder.writeText(text);
+    encoder.writeText(text);
+    encoder.flush();
+
+    // Then
+    byte[] expected = ("\u001D" + text + text).getBytes(StandardCharsets.UTF_8);
+    assertThat(outputStream.toByteArray()).isEqualTo(expected);
+  }
+
+  @Test
+  void flush_should_write_the_pending_bytes_before_a_direct_write() throws Exception {
+    // Given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    TaggedFieldEncoder encoder = new TaggedFieldEncoder(outputStream, StandardCharsets.UTF_8);
+    encoder.writeTag(2, 3);
+
+    // When
+    encoder.flush().write(new byte[] {1, 2});
+
+    // Then
+    assertThat(outputStream.toByteArray())
+        .isEqualTo(new byte[] {'2', '.', '0', '0', '3', ':', 1, 2});
+  }
+}
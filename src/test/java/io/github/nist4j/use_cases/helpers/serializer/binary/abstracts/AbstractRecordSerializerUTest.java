@@ -15,6 +15,7 @@
  */
 package io.github.nist4j.use_cases.helpers.serializer.binary.abstracts;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.github.nist4j.entities.NistOptions;
@@ -67,4 +68,64 @@ class AbstractRecordSerializerUTest {
     // Then
     assertThrows(ErrorDecodingNist4jException.class, () -> serializer.checkIfPosOutOfIndex(token));
   }
+
+  @Test
+  void getTagInfo_should_read_type_and_field_from_the_bytes() {
+    // Given
+    Token token = new NistDecoderHelper.Token("14.013:7\u001D".getBytes());
+
+    // When
+    Tag tag = serializer.getTagInfo(token);
+
+    // Then
+    assertThat(tag.type).isEqualTo(14);
+    assertThat(tag.field).isEqualTo(13);
+    assertThat(token.pos).isEqualTo(7);
+  }
+
+  @Test
+  void getTagInfo_should_ignore_a_comma_in_the_type() {
+    // Given
+    Token token = new NistDecoderHelper.Token("1,4.001:12".getBytes());
+
+    // When
+    Tag tag = serializer.getTagInfo(token);
+
+    // Then
+    assertThat(tag.type).isEqualTo(14);
+    assertThat(tag.field).isEqualTo(1);
+  }
+
+  @Test
+  void getTagInfo_should_return_exception_when_tag_is_invalid() {
+    // Given
+    Token token = new NistDecoderHelper.Token("\u0089PNG\r\n".getBytes());
+
+    // When
+    // Then
+    assertThrows(ErrorDecodingNist4jException.class, () -> serializer.getTagInfo(token));
+  }
+
+  @Test
+  void nextInt_should_read_the_number_up_to_the_separator() {
+    // Given
+    Token token = new NistDecoderHelper.Token("0123\u001C".getBytes());
+
+    // When
+    int value = serializer.nextInt(token);
+
+    // Then
+    assertThat(value).isEqualTo(123);
+    assertThat(token.pos).isEqualTo(4);
+  }
+
+  @Test
+  void nextInt_should_return_exception_when_number_is_invalid() {
+    // Given
+    Token token = new NistDecoderHelper.Token("12a\u001C".getBytes());
+
+    // When
+    // Then
+    assertThrows(ErrorDecodingNist4jException.class, () -> serializer.nextInt(token));
+  }
 }